@@ -0,0 +1,89 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.accessor.ValueWriter;
+import org.objectmapper.benchmark.model.SmallDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link Accessors} based readers and writers with the reflective {@link Field#get(Object)} and
+ * {@link Method#invoke(Object, Object...)} calls they replace.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AccessorBenchmark {
+    private SmallDto dto;
+    private String value;
+
+    private Field reflectiveField;
+    private Method reflectiveSetter;
+    private ValueReader fieldReader;
+    private ValueReader getterReader;
+    private ValueWriter setterWriter;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        dto = new SmallDto(1L, "name", "name@example.com", 42);
+        value = "other";
+
+        reflectiveField = SmallDto.class.getDeclaredField("name");
+        reflectiveField.setAccessible(true);
+        reflectiveSetter = SmallDto.class.getMethod("setName", String.class);
+        reflectiveSetter.setAccessible(true);
+
+        fieldReader = Accessors.reader(SmallDto.class.getDeclaredField("name"));
+        getterReader = Accessors.reader(SmallDto.class.getMethod("getName"));
+        setterWriter = Accessors.writer(SmallDto.class.getMethod("setName", String.class));
+    }
+
+    @Benchmark
+    public Object readFieldReflective() throws IllegalAccessException {
+        return reflectiveField.get(dto);
+    }
+
+    @Benchmark
+    public Object readFieldAccessor() {
+        return fieldReader.read(dto);
+    }
+
+    @Benchmark
+    public Object readGetterAccessor() {
+        return getterReader.read(dto);
+    }
+
+    @Benchmark
+    public SmallDto writeSetterReflective() throws ReflectiveOperationException {
+        reflectiveSetter.invoke(dto, value);
+        return dto;
+    }
+
+    @Benchmark
+    public SmallDto writeSetterAccessor() {
+        setterWriter.write(dto, value);
+        return dto;
+    }
+
+    @Benchmark
+    public SmallDto writeSetterDirect() {
+        dto.setName(value);
+        return dto;
+    }
+}
@@ -0,0 +1,173 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.AddressDto;
+import org.objectmapper.benchmark.model.CustomerDto;
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.benchmark.model.WideDto;
+
+/**
+ * The benchmark DTOs and their hand-written copies, which are the baseline of the mapper benchmarks.
+ */
+final class BenchmarkModels {
+    private BenchmarkModels() {
+    }
+
+    static SmallDto createSmall() {
+        return new SmallDto(1L, "John", "john@example.com", 42);
+    }
+
+    static WideDto createWide() {
+        WideDto dto = new WideDto();
+        dto.setField01("value1");
+        dto.setField02(2);
+        dto.setField03(3L);
+        dto.setField04(4.5d);
+        dto.setField05(false);
+        dto.setField06("value6");
+        dto.setField07(7);
+        dto.setField08(8L);
+        dto.setField09(9.5d);
+        dto.setField10(true);
+        dto.setField11("value11");
+        dto.setField12(12);
+        dto.setField13(13L);
+        dto.setField14(14.5d);
+        dto.setField15(false);
+        dto.setField16("value16");
+        dto.setField17(17);
+        dto.setField18(18L);
+        dto.setField19(19.5d);
+        dto.setField20(true);
+        dto.setField21("value21");
+        dto.setField22(22);
+        dto.setField23(23L);
+        dto.setField24(24.5d);
+        dto.setField25(false);
+        dto.setField26("value26");
+        dto.setField27(27);
+        dto.setField28(28L);
+        dto.setField29(29.5d);
+        dto.setField30(true);
+        dto.setField31("value31");
+        dto.setField32(32);
+        dto.setField33(33L);
+        dto.setField34(34.5d);
+        dto.setField35(false);
+        dto.setField36("value36");
+        dto.setField37(37);
+        dto.setField38(38L);
+        dto.setField39(39.5d);
+        dto.setField40(true);
+        dto.setField41("value41");
+        dto.setField42(42);
+        dto.setField43(43L);
+        dto.setField44(44.5d);
+        dto.setField45(false);
+        dto.setField46("value46");
+        dto.setField47(47);
+        dto.setField48(48L);
+        dto.setField49(49.5d);
+        dto.setField50(true);
+        dto.setField51("value51");
+        dto.setField52(52);
+        return dto;
+    }
+
+    static CustomerDto createNested() {
+        CustomerDto customer = new CustomerDto();
+        customer.setId(1L);
+        customer.setName("John");
+        customer.setEmail("john@example.com");
+        customer.setBillingAddress(new AddressDto("Main Street 1", "Springfield", "12345", "US"));
+        customer.setShippingAddress(new AddressDto("Harbour Road 7", "Shelbyville", "54321", "US"));
+        return customer;
+    }
+
+    static SmallDto copy(SmallDto source) {
+        SmallDto target = new SmallDto();
+        target.setId(source.getId());
+        target.setName(source.getName());
+        target.setEmail(source.getEmail());
+        target.setAge(source.getAge());
+        return target;
+    }
+
+    static WideDto copy(WideDto source) {
+        WideDto target = new WideDto();
+        target.setField01(source.getField01());
+        target.setField02(source.getField02());
+        target.setField03(source.getField03());
+        target.setField04(source.getField04());
+        target.setField05(source.getField05());
+        target.setField06(source.getField06());
+        target.setField07(source.getField07());
+        target.setField08(source.getField08());
+        target.setField09(source.getField09());
+        target.setField10(source.getField10());
+        target.setField11(source.getField11());
+        target.setField12(source.getField12());
+        target.setField13(source.getField13());
+        target.setField14(source.getField14());
+        target.setField15(source.getField15());
+        target.setField16(source.getField16());
+        target.setField17(source.getField17());
+        target.setField18(source.getField18());
+        target.setField19(source.getField19());
+        target.setField20(source.getField20());
+        target.setField21(source.getField21());
+        target.setField22(source.getField22());
+        target.setField23(source.getField23());
+        target.setField24(source.getField24());
+        target.setField25(source.getField25());
+        target.setField26(source.getField26());
+        target.setField27(source.getField27());
+        target.setField28(source.getField28());
+        target.setField29(source.getField29());
+        target.setField30(source.getField30());
+        target.setField31(source.getField31());
+        target.setField32(source.getField32());
+        target.setField33(source.getField33());
+        target.setField34(source.getField34());
+        target.setField35(source.getField35());
+        target.setField36(source.getField36());
+        target.setField37(source.getField37());
+        target.setField38(source.getField38());
+        target.setField39(source.getField39());
+        target.setField40(source.getField40());
+        target.setField41(source.getField41());
+        target.setField42(source.getField42());
+        target.setField43(source.getField43());
+        target.setField44(source.getField44());
+        target.setField45(source.getField45());
+        target.setField46(source.getField46());
+        target.setField47(source.getField47());
+        target.setField48(source.getField48());
+        target.setField49(source.getField49());
+        target.setField50(source.getField50());
+        target.setField51(source.getField51());
+        target.setField52(source.getField52());
+        return target;
+    }
+
+    static CustomerDto copy(CustomerDto source) {
+        CustomerDto target = new CustomerDto();
+        target.setId(source.getId());
+        target.setName(source.getName());
+        target.setEmail(source.getEmail());
+        target.setBillingAddress(copy(source.getBillingAddress()));
+        target.setShippingAddress(copy(source.getShippingAddress()));
+        return target;
+    }
+
+    private static AddressDto copy(AddressDto source) {
+        if (source == null) {
+            return null;
+        }
+        AddressDto target = new AddressDto();
+        target.setStreet(source.getStreet());
+        target.setCity(source.getCity());
+        target.setZipCode(source.getZipCode());
+        target.setCountry(source.getCountry());
+        return target;
+    }
+}
@@ -0,0 +1,66 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the bulk mapping methods with mapping a list by calling {@code mapObject} in a loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BulkMappingBenchmark {
+    @Param({"10", "1000"})
+    private int size;
+
+    private List<SmallDto> sources;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        sources = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sources.add(new SmallDto((long) i, "name" + i, "name" + i + "@example.com", i));
+        }
+        mapper = new ObjectMapperImpl.Builder().build();
+    }
+
+    @Benchmark
+    public List<SmallDto> loopedMapObject() {
+        List<SmallDto> targets = new ArrayList<>();
+        for (SmallDto source : sources) {
+            targets.add(mapper.mapObject(source, SmallDto.class));
+        }
+        return targets;
+    }
+
+    @Benchmark
+    public List<SmallDto> mapAll() {
+        return mapper.mapAll(sources, SmallDto.class);
+    }
+
+    @Benchmark
+    public List<SmallDto> mapStream() {
+        return mapper.mapStream(sources.stream(), SmallDto.class).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,62 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.OrderDto;
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping of an order with a list of line items, copying the list in bulk or mapping every item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ContainerMappingBenchmark {
+    @Param({"10", "500"})
+    private int items;
+
+    private OrderDto source;
+    private ObjectMapper listCopyingMapper;
+    private ObjectMapper itemMappingMapper;
+
+    @Setup
+    public void setUp() {
+        List<SmallDto> lineItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            lineItems.add(new SmallDto((long) i, "item" + i, "item" + i + "@example.com", i));
+        }
+        source = new OrderDto(1L, lineItems);
+        listCopyingMapper = new ObjectMapperImpl.Builder().build();
+        itemMappingMapper = new ObjectMapperImpl.Builder()
+                .withNestedMapping(SmallDto.class, SmallDto.class)
+                .build();
+    }
+
+    @Benchmark
+    public OrderDto listCopy() {
+        return listCopyingMapper.mapObject(source, OrderDto.class);
+    }
+
+    @Benchmark
+    public OrderDto itemMapping() {
+        return itemMappingMapper.mapObject(source, OrderDto.class);
+    }
+}
@@ -0,0 +1,136 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.flow.MappingProcessor;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput, in mapped objects per second, of a {@link MappingProcessor} fed by a
+ * {@link SubmissionPublisher}: {@code callerThread} maps the objects on the publisher thread delivering them, and
+ * {@code executor} on a thread of its own. {@code mapAll} maps the same objects without any publisher, as a baseline
+ * of the cost of the stage.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FlowMappingBenchmark {
+    private static final int SIZE = 10_000;
+
+    @Param({"32", "256"})
+    private int batchSize;
+
+    private List<SmallDto> sources;
+    private ObjectMapper mapper;
+    private ExecutorService publisherExecutor;
+    private ExecutorService mappingExecutor;
+
+    @Setup
+    public void setUp() {
+        sources = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            sources.add(new SmallDto((long) i, "name" + i, "name" + i + "@example.com", i));
+        }
+        mapper = new ObjectMapperImpl.Builder().build();
+        publisherExecutor = Executors.newSingleThreadExecutor();
+        mappingExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisherExecutor.shutdown();
+        mappingExecutor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long callerThread() throws InterruptedException {
+        return publish(Runnable::run);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long executor() throws InterruptedException {
+        return publish(mappingExecutor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<SmallDto> mapAll() {
+        return mapper.mapAll(sources, SmallDto.class);
+    }
+
+    private long publish(Executor executor) throws InterruptedException {
+        SubmissionPublisher<SmallDto> publisher = new SubmissionPublisher<>(publisherExecutor, batchSize * 2);
+        MappingProcessor<SmallDto, SmallDto> processor = new MappingProcessor<>(mapper, SmallDto.class, batchSize,
+                executor);
+        CountingSubscriber subscriber = new CountingSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        for (SmallDto source : sources) {
+            publisher.submit(source);
+        }
+        publisher.close();
+        subscriber.completed.await();
+        if (subscriber.error != null) {
+            throw new IllegalStateException("The mapping stage failed", subscriber.error);
+        }
+        return subscriber.count;
+    }
+
+    /**
+     * Counts the mapped objects, requesting all of them up front.
+     */
+    private static final class CountingSubscriber implements Flow.Subscriber<SmallDto> {
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private long count;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(SmallDto item) {
+            count++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective mapping plans with the generated hidden class copiers and a hand-written copy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GeneratedMapperBenchmark {
+    private SmallDto source;
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper generatedMapper;
+
+    @Setup
+    public void setUp() {
+        source = new SmallDto(1L, "name", "name@example.com", 42);
+        reflectiveMapper = new ObjectMapperImpl.Builder().build();
+        generatedMapper = new ObjectMapperImpl.Builder()
+                .withBytecodeGeneration(true)
+                .build();
+    }
+
+    @Benchmark
+    public SmallDto reflective() {
+        return reflectiveMapper.mapObject(source, SmallDto.class);
+    }
+
+    @Benchmark
+    public SmallDto generated() {
+        return generatedMapper.mapObject(source, SmallDto.class);
+    }
+
+    @Benchmark
+    public SmallDto handWritten() {
+        SmallDto target = new SmallDto();
+        target.setId(source.getId());
+        target.setName(source.getName());
+        target.setEmail(source.getEmail());
+        target.setAge(source.getAge());
+        return target;
+    }
+}
@@ -0,0 +1,84 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.NumericDto;
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.strategy.FieldAccessMode;
+import org.objectmapper.strategy.FieldWriteInsertionStrategy;
+import org.objectmapper.strategy.SetterInsertionStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link SetterInsertionStrategy} with the {@link FieldWriteInsertionStrategy} in its plain and volatile
+ * access modes, mapping a DTO with boxed fields and a DTO with primitive fields into reused targets. Run it with
+ * {@code -prof gc} to check that neither path allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InsertionStrategyBenchmark {
+    @Param({"setter", "fieldPlain", "fieldVolatile"})
+    private String strategy;
+
+    private SmallDto smallSource;
+    private SmallDto smallTarget;
+    private NumericDto numericSource;
+    private NumericDto numericTarget;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        ObjectMapperImpl.Builder builder = new ObjectMapperImpl.Builder()
+                .register(SmallDto.class, SmallDto.class)
+                .register(NumericDto.class, NumericDto.class);
+        switch (strategy) {
+            case "setter":
+                break;
+            case "fieldPlain":
+                builder.withFieldWriteInsertion(FieldAccessMode.PLAIN);
+                break;
+            case "fieldVolatile":
+                builder.withFieldWriteInsertion(FieldAccessMode.VOLATILE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+        mapper = builder.build();
+        smallSource = BenchmarkModels.createSmall();
+        smallTarget = new SmallDto();
+        numericSource = new NumericDto();
+        numericSource.setQuantity(1_000);
+        numericSource.setId(5_000_000_000L);
+        numericSource.setTimestamp(System.currentTimeMillis());
+        numericSource.setPrice(19.99d);
+        numericSource.setDiscount(0.15d);
+        numericSource.setActive(true);
+        numericTarget = new NumericDto();
+    }
+
+    @Benchmark
+    public SmallDto mapIntoSmall() {
+        return mapper.mapInto(smallSource, smallTarget);
+    }
+
+    @Benchmark
+    public NumericDto mapIntoNumeric() {
+        return mapper.mapInto(numericSource, numericTarget);
+    }
+}
@@ -0,0 +1,70 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping of beans to and from maps: {@code toMap} reads a bean into a map sharing the key table of its
+ * class, {@code fromBeanMap} maps such a map back, and {@code fromHashMap} maps a {@link HashMap} of the same entries,
+ * e.g. one parsed from JSON, whose values are looked up by key. {@code toHashMap} fills a {@link HashMap} from the
+ * getters by hand, as a baseline of the size and cost of a map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MapConversionBenchmark {
+    private SmallDto source;
+    private Map<String, Object> beanMap;
+    private Map<String, Object> hashMap;
+    private ObjectMapperImpl mapper;
+
+    @Setup
+    public void setUp() {
+        mapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder().build();
+        source = BenchmarkModels.createSmall();
+        beanMap = mapper.toMap(source);
+        hashMap = new HashMap<>(beanMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return mapper.toMap(source);
+    }
+
+    @Benchmark
+    public Map<String, Object> toHashMap() {
+        Map<String, Object> map = new HashMap<>(8);
+        map.put("id", source.getId());
+        map.put("name", source.getName());
+        map.put("email", source.getEmail());
+        map.put("age", source.getAge());
+        return map;
+    }
+
+    @Benchmark
+    public SmallDto fromBeanMap() {
+        return mapper.fromMap(beanMap, SmallDto.class);
+    }
+
+    @Benchmark
+    public SmallDto fromHashMap() {
+        return mapper.fromMap(hashMap, SmallDto.class);
+    }
+}
@@ -0,0 +1,63 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating a new target per mapping with mapping into reused targets. Run it with {@code -prof gc} to see
+ * the allocation rate of both.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MapIntoBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    private SmallDto[] sources;
+    private SmallDto[] targets;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        sources = new SmallDto[BATCH_SIZE];
+        targets = new SmallDto[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sources[i] = new SmallDto((long) i, "name" + i, "name" + i + "@example.com", i);
+            targets[i] = new SmallDto();
+        }
+        mapper = new ObjectMapperImpl.Builder().build();
+    }
+
+    @Benchmark
+    public SmallDto mapObject() {
+        return mapper.mapObject(sources[0], SmallDto.class);
+    }
+
+    @Benchmark
+    public SmallDto mapInto() {
+        return mapper.mapInto(sources[0], targets[0]);
+    }
+
+    @Benchmark
+    public void mapAllInto(Blackhole blackhole) {
+        mapper.mapAllInto(sources, targets);
+        blackhole.consume(targets);
+    }
+}
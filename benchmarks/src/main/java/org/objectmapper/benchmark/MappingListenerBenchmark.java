@@ -0,0 +1,65 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.metrics.InMemoryMappingMetrics;
+import org.objectmapper.metrics.MappingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of observing the mappings: {@code none} maps without a listener, {@code noop} with a listener that
+ * ignores every event, which isolates the cost of the time measurement, and {@code inMemory} records the metrics of
+ * every mapping in an {@link InMemoryMappingMetrics}. Run it with {@code -prof gc} to check that recording the metrics
+ * does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MappingListenerBenchmark {
+    @Param({"none", "noop", "inMemory"})
+    private String listener;
+
+    private SmallDto source;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        ObjectMapperImpl.Builder builder = new ObjectMapperImpl.Builder().register(SmallDto.class, SmallDto.class);
+        switch (listener) {
+            case "none":
+                break;
+            case "noop":
+                builder.withMappingListener(new MappingListener() {
+                });
+                break;
+            case "inMemory":
+                builder.withMappingListener(new InMemoryMappingMetrics());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown listener: " + listener);
+        }
+        source = BenchmarkModels.createSmall();
+        mapper = builder.build();
+    }
+
+    @Benchmark
+    public SmallDto mapObject() {
+        return mapper.mapObject(source, SmallDto.class);
+    }
+}
@@ -0,0 +1,54 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.strategy.ObjectFactory;
+import org.objectmapper.strategy.TargetObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached constructor handles of {@link TargetObjectFactory} with a per-call reflective lookup and a plain
+ * {@code new}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ObjectFactoryBenchmark {
+    private ObjectFactory objectFactory;
+
+    @Setup
+    public void setUp() {
+        objectFactory = new TargetObjectFactory();
+    }
+
+    @Benchmark
+    public SmallDto reflectiveLookupPerCall() throws ReflectiveOperationException {
+        Constructor<SmallDto> constructor = SmallDto.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    @Benchmark
+    public SmallDto targetObjectFactory() {
+        return objectFactory.create(SmallDto.class);
+    }
+
+    @Benchmark
+    public SmallDto plainNew() {
+        return new SmallDto();
+    }
+}
@@ -0,0 +1,68 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@code mapAllParallel} scales with the number of pool threads, compared with the sequential
+ * {@code mapAll}. Run it with {@code -p threads=1,2,4,...,N} to cover all cores of the machine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParallelMappingBenchmark {
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"100000"})
+    private int size;
+
+    private List<SmallDto> sources;
+    private ObjectMapperImpl mapper;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        sources = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sources.add(new SmallDto((long) i, "name" + i, "name" + i + "@example.com", i));
+        }
+        mapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder().build();
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<SmallDto> sequential() {
+        return mapper.mapAll(sources, SmallDto.class);
+    }
+
+    @Benchmark
+    public List<SmallDto> parallel() {
+        return mapper.mapAllParallel(sources, SmallDto.class, pool);
+    }
+}
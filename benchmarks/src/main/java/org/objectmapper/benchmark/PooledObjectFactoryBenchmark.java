@@ -0,0 +1,58 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.SmallDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.strategy.PooledObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares mapping into new targets with mapping into targets taken from a {@link PooledObjectFactory} and released
+ * after use. Run it with {@code -prof gc} to compare the allocation rate and the number of young collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PooledObjectFactoryBenchmark {
+    private SmallDto source;
+    private ObjectMapper allocatingMapper;
+    private ObjectMapper pooledMapper;
+    private PooledObjectFactory pooledObjectFactory;
+
+    @Setup
+    public void setUp() {
+        source = new SmallDto(1L, "name", "name@example.com", 42);
+        allocatingMapper = new ObjectMapperImpl.Builder().build();
+        pooledObjectFactory = new PooledObjectFactory();
+        pooledMapper = new ObjectMapperImpl.Builder()
+                .withObjectFactory(pooledObjectFactory)
+                .build();
+    }
+
+    @Benchmark
+    public Long allocating() {
+        return allocatingMapper.mapObject(source, SmallDto.class).getId();
+    }
+
+    @Benchmark
+    public Long pooled() {
+        SmallDto target = pooledMapper.mapObject(source, SmallDto.class);
+        Long id = target.getId();
+        pooledObjectFactory.release(target);
+        return id;
+    }
+}
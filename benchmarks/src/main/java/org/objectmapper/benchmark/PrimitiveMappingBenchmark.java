@@ -0,0 +1,62 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.benchmark.model.NumericDto;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the copying of a DTO with primitive fields into a reused target, which should not allocate. Run it with
+ * {@code -prof gc} to check the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PrimitiveMappingBenchmark {
+    private NumericDto source;
+    private NumericDto target;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        source = new NumericDto();
+        source.setQuantity(1_000);
+        source.setId(5_000_000_000L);
+        source.setTimestamp(System.currentTimeMillis());
+        source.setPrice(19.99d);
+        source.setDiscount(0.15d);
+        source.setActive(true);
+        target = new NumericDto();
+        mapper = new ObjectMapperImpl.Builder().build();
+    }
+
+    @Benchmark
+    public NumericDto mapInto() {
+        return mapper.mapInto(source, target);
+    }
+
+    @Benchmark
+    public NumericDto handWritten() {
+        target.setQuantity(source.getQuantity());
+        target.setId(source.getId());
+        target.setTimestamp(source.getTimestamp());
+        target.setPrice(source.getPrice());
+        target.setDiscount(source.getDiscount());
+        target.setActive(source.isActive());
+        return target;
+    }
+}
@@ -0,0 +1,104 @@
+package org.objectmapper.benchmark;
+
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.PropertyMethods;
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.strategy.AnnotationExclusionStrategy;
+import org.objectmapper.strategy.FieldExclusionStrategy;
+import org.objectmapper.strategy.FieldValueInsertionStrategy;
+import org.objectmapper.strategy.ObjectFactory;
+import org.objectmapper.strategy.SetterInsertionStrategy;
+import org.objectmapper.strategy.TargetObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures each default strategy on its own, on the DTOs of {@link MapObjectBenchmark}, which measures them together:
+ * <ul>
+ *     <li>{@link SetterInsertionStrategy} inserting every field value of a DTO into a reused target object,</li>
+ *     <li>{@link TargetObjectFactory} creating a DTO,</li>
+ *     <li>{@link AnnotationExclusionStrategy} filtering the fields of a DTO, which the mapper only does when it builds
+ *     the mapping plan of a type pair.</li>
+ * </ul>
+ * Run it with {@code -prof gc} to report the allocation per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class StrategyBenchmark {
+    @Param({"small", "wide", "nested"})
+    private String dto;
+
+    private Class<?> type;
+    private Field[] fields;
+    private Object[] values;
+    private Object target;
+    private FieldValueInsertionStrategy insertionStrategy;
+    private ObjectFactory objectFactory;
+    private FieldExclusionStrategy exclusionStrategy;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Object source;
+        switch (dto) {
+            case "small":
+                source = BenchmarkModels.createSmall();
+                break;
+            case "wide":
+                source = BenchmarkModels.createWide();
+                break;
+            case "nested":
+                source = BenchmarkModels.createNested();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown DTO: " + dto);
+        }
+        type = source.getClass();
+        fields = type.getDeclaredFields();
+        values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            Method getter = PropertyMethods.findGetter(fields[i]);
+            ValueReader reader = Accessors.reader(getter);
+            values[i] = reader.read(source);
+        }
+        target = type.getDeclaredConstructor().newInstance();
+        insertionStrategy = new SetterInsertionStrategy();
+        objectFactory = new TargetObjectFactory();
+        exclusionStrategy = new AnnotationExclusionStrategy();
+    }
+
+    @Benchmark
+    public Object setterInsertionStrategy() {
+        for (int i = 0; i < fields.length; i++) {
+            insertionStrategy.insertValue(values[i], target, fields[i]);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public Object targetObjectFactory() {
+        return objectFactory.create(type);
+    }
+
+    @Benchmark
+    public Field[] annotationExclusionStrategy() {
+        return exclusionStrategy.filter(Stream.of(fields)).toArray(Field[]::new);
+    }
+}
@@ -0,0 +1,53 @@
+package org.objectmapper.benchmark.model;
+
+/**
+ * The nested address of a {@link CustomerDto}.
+ */
+public class AddressDto {
+    private String street;
+    private String city;
+    private String zipCode;
+    private String country;
+
+    public AddressDto() {
+    }
+
+    public AddressDto(String street, String city, String zipCode, String country) {
+        this.street = street;
+        this.city = city;
+        this.zipCode = zipCode;
+        this.country = country;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getZipCode() {
+        return zipCode;
+    }
+
+    public void setZipCode(String zipCode) {
+        this.zipCode = zipCode;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+}
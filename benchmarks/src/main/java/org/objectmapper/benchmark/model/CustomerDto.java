@@ -0,0 +1,55 @@
+package org.objectmapper.benchmark.model;
+
+/**
+ * A DTO with two nested {@link AddressDto} objects.
+ */
+public class CustomerDto {
+    private Long id;
+    private String name;
+    private String email;
+    private AddressDto billingAddress;
+    private AddressDto shippingAddress;
+
+    public CustomerDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public AddressDto getBillingAddress() {
+        return billingAddress;
+    }
+
+    public void setBillingAddress(AddressDto billingAddress) {
+        this.billingAddress = billingAddress;
+    }
+
+    public AddressDto getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public void setShippingAddress(AddressDto shippingAddress) {
+        this.shippingAddress = shippingAddress;
+    }
+}
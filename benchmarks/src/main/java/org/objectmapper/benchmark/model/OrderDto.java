@@ -0,0 +1,32 @@
+package org.objectmapper.benchmark.model;
+
+import java.util.List;
+
+public class OrderDto {
+    private Long id;
+    private List<SmallDto> items;
+
+    public OrderDto() {
+    }
+
+    public OrderDto(Long id, List<SmallDto> items) {
+        this.id = id;
+        this.items = items;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<SmallDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<SmallDto> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,475 @@
+package org.objectmapper.benchmark.model;
+
+/**
+ * A DTO with 52 fields of the common boxed types and strings.
+ */
+public class WideDto {
+    private String field01;
+    private Integer field02;
+    private Long field03;
+    private Double field04;
+    private Boolean field05;
+    private String field06;
+    private Integer field07;
+    private Long field08;
+    private Double field09;
+    private Boolean field10;
+    private String field11;
+    private Integer field12;
+    private Long field13;
+    private Double field14;
+    private Boolean field15;
+    private String field16;
+    private Integer field17;
+    private Long field18;
+    private Double field19;
+    private Boolean field20;
+    private String field21;
+    private Integer field22;
+    private Long field23;
+    private Double field24;
+    private Boolean field25;
+    private String field26;
+    private Integer field27;
+    private Long field28;
+    private Double field29;
+    private Boolean field30;
+    private String field31;
+    private Integer field32;
+    private Long field33;
+    private Double field34;
+    private Boolean field35;
+    private String field36;
+    private Integer field37;
+    private Long field38;
+    private Double field39;
+    private Boolean field40;
+    private String field41;
+    private Integer field42;
+    private Long field43;
+    private Double field44;
+    private Boolean field45;
+    private String field46;
+    private Integer field47;
+    private Long field48;
+    private Double field49;
+    private Boolean field50;
+    private String field51;
+    private Integer field52;
+
+    public String getField01() {
+        return field01;
+    }
+
+    public void setField01(String field01) {
+        this.field01 = field01;
+    }
+
+    public Integer getField02() {
+        return field02;
+    }
+
+    public void setField02(Integer field02) {
+        this.field02 = field02;
+    }
+
+    public Long getField03() {
+        return field03;
+    }
+
+    public void setField03(Long field03) {
+        this.field03 = field03;
+    }
+
+    public Double getField04() {
+        return field04;
+    }
+
+    public void setField04(Double field04) {
+        this.field04 = field04;
+    }
+
+    public Boolean getField05() {
+        return field05;
+    }
+
+    public void setField05(Boolean field05) {
+        this.field05 = field05;
+    }
+
+    public String getField06() {
+        return field06;
+    }
+
+    public void setField06(String field06) {
+        this.field06 = field06;
+    }
+
+    public Integer getField07() {
+        return field07;
+    }
+
+    public void setField07(Integer field07) {
+        this.field07 = field07;
+    }
+
+    public Long getField08() {
+        return field08;
+    }
+
+    public void setField08(Long field08) {
+        this.field08 = field08;
+    }
+
+    public Double getField09() {
+        return field09;
+    }
+
+    public void setField09(Double field09) {
+        this.field09 = field09;
+    }
+
+    public Boolean getField10() {
+        return field10;
+    }
+
+    public void setField10(Boolean field10) {
+        this.field10 = field10;
+    }
+
+    public String getField11() {
+        return field11;
+    }
+
+    public void setField11(String field11) {
+        this.field11 = field11;
+    }
+
+    public Integer getField12() {
+        return field12;
+    }
+
+    public void setField12(Integer field12) {
+        this.field12 = field12;
+    }
+
+    public Long getField13() {
+        return field13;
+    }
+
+    public void setField13(Long field13) {
+        this.field13 = field13;
+    }
+
+    public Double getField14() {
+        return field14;
+    }
+
+    public void setField14(Double field14) {
+        this.field14 = field14;
+    }
+
+    public Boolean getField15() {
+        return field15;
+    }
+
+    public void setField15(Boolean field15) {
+        this.field15 = field15;
+    }
+
+    public String getField16() {
+        return field16;
+    }
+
+    public void setField16(String field16) {
+        this.field16 = field16;
+    }
+
+    public Integer getField17() {
+        return field17;
+    }
+
+    public void setField17(Integer field17) {
+        this.field17 = field17;
+    }
+
+    public Long getField18() {
+        return field18;
+    }
+
+    public void setField18(Long field18) {
+        this.field18 = field18;
+    }
+
+    public Double getField19() {
+        return field19;
+    }
+
+    public void setField19(Double field19) {
+        this.field19 = field19;
+    }
+
+    public Boolean getField20() {
+        return field20;
+    }
+
+    public void setField20(Boolean field20) {
+        this.field20 = field20;
+    }
+
+    public String getField21() {
+        return field21;
+    }
+
+    public void setField21(String field21) {
+        this.field21 = field21;
+    }
+
+    public Integer getField22() {
+        return field22;
+    }
+
+    public void setField22(Integer field22) {
+        this.field22 = field22;
+    }
+
+    public Long getField23() {
+        return field23;
+    }
+
+    public void setField23(Long field23) {
+        this.field23 = field23;
+    }
+
+    public Double getField24() {
+        return field24;
+    }
+
+    public void setField24(Double field24) {
+        this.field24 = field24;
+    }
+
+    public Boolean getField25() {
+        return field25;
+    }
+
+    public void setField25(Boolean field25) {
+        this.field25 = field25;
+    }
+
+    public String getField26() {
+        return field26;
+    }
+
+    public void setField26(String field26) {
+        this.field26 = field26;
+    }
+
+    public Integer getField27() {
+        return field27;
+    }
+
+    public void setField27(Integer field27) {
+        this.field27 = field27;
+    }
+
+    public Long getField28() {
+        return field28;
+    }
+
+    public void setField28(Long field28) {
+        this.field28 = field28;
+    }
+
+    public Double getField29() {
+        return field29;
+    }
+
+    public void setField29(Double field29) {
+        this.field29 = field29;
+    }
+
+    public Boolean getField30() {
+        return field30;
+    }
+
+    public void setField30(Boolean field30) {
+        this.field30 = field30;
+    }
+
+    public String getField31() {
+        return field31;
+    }
+
+    public void setField31(String field31) {
+        this.field31 = field31;
+    }
+
+    public Integer getField32() {
+        return field32;
+    }
+
+    public void setField32(Integer field32) {
+        this.field32 = field32;
+    }
+
+    public Long getField33() {
+        return field33;
+    }
+
+    public void setField33(Long field33) {
+        this.field33 = field33;
+    }
+
+    public Double getField34() {
+        return field34;
+    }
+
+    public void setField34(Double field34) {
+        this.field34 = field34;
+    }
+
+    public Boolean getField35() {
+        return field35;
+    }
+
+    public void setField35(Boolean field35) {
+        this.field35 = field35;
+    }
+
+    public String getField36() {
+        return field36;
+    }
+
+    public void setField36(String field36) {
+        this.field36 = field36;
+    }
+
+    public Integer getField37() {
+        return field37;
+    }
+
+    public void setField37(Integer field37) {
+        this.field37 = field37;
+    }
+
+    public Long getField38() {
+        return field38;
+    }
+
+    public void setField38(Long field38) {
+        this.field38 = field38;
+    }
+
+    public Double getField39() {
+        return field39;
+    }
+
+    public void setField39(Double field39) {
+        this.field39 = field39;
+    }
+
+    public Boolean getField40() {
+        return field40;
+    }
+
+    public void setField40(Boolean field40) {
+        this.field40 = field40;
+    }
+
+    public String getField41() {
+        return field41;
+    }
+
+    public void setField41(String field41) {
+        this.field41 = field41;
+    }
+
+    public Integer getField42() {
+        return field42;
+    }
+
+    public void setField42(Integer field42) {
+        this.field42 = field42;
+    }
+
+    public Long getField43() {
+        return field43;
+    }
+
+    public void setField43(Long field43) {
+        this.field43 = field43;
+    }
+
+    public Double getField44() {
+        return field44;
+    }
+
+    public void setField44(Double field44) {
+        this.field44 = field44;
+    }
+
+    public Boolean getField45() {
+        return field45;
+    }
+
+    public void setField45(Boolean field45) {
+        this.field45 = field45;
+    }
+
+    public String getField46() {
+        return field46;
+    }
+
+    public void setField46(String field46) {
+        this.field46 = field46;
+    }
+
+    public Integer getField47() {
+        return field47;
+    }
+
+    public void setField47(Integer field47) {
+        this.field47 = field47;
+    }
+
+    public Long getField48() {
+        return field48;
+    }
+
+    public void setField48(Long field48) {
+        this.field48 = field48;
+    }
+
+    public Double getField49() {
+        return field49;
+    }
+
+    public void setField49(Double field49) {
+        this.field49 = field49;
+    }
+
+    public Boolean getField50() {
+        return field50;
+    }
+
+    public void setField50(Boolean field50) {
+        this.field50 = field50;
+    }
+
+    public String getField51() {
+        return field51;
+    }
+
+    public void setField51(String field51) {
+        this.field51 = field51;
+    }
+
+    public Integer getField52() {
+        return field52;
+    }
+
+    public void setField52(Integer field52) {
+        this.field52 = field52;
+    }
+}
@@ -0,0 +1,310 @@
+package org.objectmapper.processor;
+
+import org.objectmapper.annotation.ExcludeFromMapping;
+import org.objectmapper.annotation.GenerateMapper;
+import org.objectmapper.annotation.MapFrom;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a reflection-free {@link org.objectmapper.mapper.ObjectMapper} implementation for every type annotated
+ * with {@link GenerateMapper}.
+ * <p>
+ * Every non-static source field, declared or inherited, that is not annotated with {@link ExcludeFromMapping} is copied
+ * through its setter into the target field of the same name, declared or inherited, or into the target field whose
+ * {@link MapFrom} annotation names it. Problems that the reflective {@code ObjectMapperImpl} reports at runtime, such
+ * as a missing target field or setter, are reported as compile errors instead. As the generated code cannot read
+ * private fields, every mapped source field needs a public getter, which is the accessor method of a record component.
+ * <p>
+ * The generated mappers only cover the default configuration of {@code ObjectMapperImpl}, and differ from it in that:
+ * <ul>
+ *     <li>fields are matched by their exact names, as there is no {@code FieldNamingPolicy};</li>
+ *     <li>the values are passed to the setters as they are: arrays, collections and maps are not copied into new
+ *     containers, nested objects are not mapped, and values are not converted, so the setter must accept the type of
+ *     the getter;</li>
+ *     <li>targets are always created through their no-arg constructor, never through a mapping constructor.</li>
+ * </ul>
+ */
+@SupportedAnnotationTypes("org.objectmapper.annotation.GenerateMapper")
+public class MapperProcessor extends AbstractProcessor {
+    private static final String[] GETTER_PREFIXES = {"get", "is"};
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateMapper.class)) {
+            if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                error(element, "@GenerateMapper can only be applied to classes.");
+                continue;
+            }
+            TypeElement sourceType = (TypeElement) element;
+            TypeElement targetType = getTargetType(sourceType);
+            List<PropertyCopy> copies = resolveCopies(sourceType, targetType);
+            if (copies != null) {
+                writeMapper(sourceType, targetType, copies);
+            }
+        }
+        return true;
+    }
+
+    private TypeElement getTargetType(TypeElement sourceType) {
+        try {
+            sourceType.getAnnotation(GenerateMapper.class).target();
+            throw new IllegalStateException("The target of @GenerateMapper must be read as a type mirror.");
+        } catch (MirroredTypeException e) {
+            return (TypeElement) processingEnv.getTypeUtils().asElement(e.getTypeMirror());
+        }
+    }
+
+    /**
+     * Resolves the getter and setter of every mapped field pair.
+     *
+     * @return the property copies, or {@code null} if the pair cannot be mapped and errors were reported
+     */
+    private List<PropertyCopy> resolveCopies(TypeElement sourceType, TypeElement targetType) {
+        boolean valid = checkTargetType(sourceType, targetType);
+        Map<String, VariableElement> targetFields = indexTargetFields(targetType);
+        if (targetFields == null) {
+            return null;
+        }
+        List<PropertyCopy> copies = new ArrayList<>();
+        for (VariableElement sourceField : getFields(sourceType)) {
+            if (sourceField.getAnnotation(ExcludeFromMapping.class) != null) {
+                continue;
+            }
+            String fieldName = sourceField.getSimpleName().toString();
+            VariableElement targetField = targetFields.get(fieldName);
+            if (targetField == null) {
+                error(sourceField, String.format("Unable to find %s field in %s class",
+                        fieldName, targetType.getQualifiedName()));
+                valid = false;
+                continue;
+            }
+            String targetName = targetField.getSimpleName().toString();
+            if (targetField.getAnnotation(ExcludeFromMapping.class) != null) {
+                error(sourceField, String.format(
+                        "%s field is not accessible in %s class, because annotated with @ExcludeFromMapping annotation",
+                        targetName, targetType.getQualifiedName()));
+                valid = false;
+                continue;
+            }
+            ExecutableElement getter = findGetter(sourceType, sourceField);
+            if (getter == null) {
+                error(sourceField, String.format("%s field's public getter method not found in %s",
+                        fieldName, sourceType.getQualifiedName()));
+                valid = false;
+                continue;
+            }
+            TypeMirror valueType = memberType(sourceType, getter).getReturnType();
+            ExecutableElement setter = findSetter(targetType, targetName, valueType);
+            if (setter == null) {
+                error(sourceField, String.format("%s field's setter method not found in %s",
+                        targetName, targetType.getQualifiedName()));
+                valid = false;
+                continue;
+            }
+            copies.add(new PropertyCopy(getter.getSimpleName().toString(), setter.getSimpleName().toString()));
+        }
+        return valid ? copies : null;
+    }
+
+    private boolean checkTargetType(TypeElement sourceType, TypeElement targetType) {
+        if (targetType.getKind() != ElementKind.CLASS || targetType.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(sourceType, String.format("Unable to instantiate target class: %s", targetType.getQualifiedName()));
+            return false;
+        }
+        boolean hasConstructor = ElementFilter.constructorsIn(targetType.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && isAccessible(constructor, sourceType));
+        if (!hasConstructor) {
+            error(sourceType, String.format("Unable to find %s class constructor. No-arg constructor is needed",
+                    targetType.getQualifiedName()));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the non-static fields declared by the type and its superclasses, except the fields hidden by a field of
+     * the same name in a subclass, like {@code ClassMetadata.getFields} at runtime.
+     */
+    private List<VariableElement> getFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (TypeElement current = type; current != null && !isObject(current); current = getSuperclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && names.add(field.getSimpleName().toString())) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Indexes the fields of the target type by the name of their source field: their own name, or the name given by
+     * their {@link MapFrom} annotation. A field hides the fields of its superclasses with the same source field.
+     *
+     * @return the target fields by source field name, or {@code null} if two fields declared by the same class have
+     * the same source field and an error was reported
+     */
+    private Map<String, VariableElement> indexTargetFields(TypeElement targetType) {
+        Map<String, VariableElement> index = new HashMap<>();
+        boolean valid = true;
+        for (VariableElement field : getFields(targetType)) {
+            MapFrom mapFrom = field.getAnnotation(MapFrom.class);
+            String key = mapFrom == null ? field.getSimpleName().toString() : mapFrom.value();
+            VariableElement indexed = index.putIfAbsent(key, field);
+            if (indexed != null && indexed.getEnclosingElement().equals(field.getEnclosingElement())) {
+                error(field, String.format("Fields %s and %s of %s class match the same source field",
+                        indexed.getSimpleName(), field.getSimpleName(), targetType.getQualifiedName()));
+                valid = false;
+            }
+        }
+        return valid ? index : null;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+    }
+
+    private boolean isObject(TypeElement type) {
+        return type.getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    /**
+     * Returns the public no-arg getter of the given field, which returns exactly the type of the field, like
+     * {@code PropertyMethods.findGetter} at runtime. The getter of a record component field is its accessor method.
+     */
+    private ExecutableElement findGetter(TypeElement type, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        if (field.getEnclosingElement().getKind() == ElementKind.RECORD) {
+            return findGetter(type, field, fieldName);
+        }
+        String suffix = capitalize(fieldName);
+        for (String prefix : GETTER_PREFIXES) {
+            ExecutableElement getter = findGetter(type, field, prefix + suffix);
+            if (getter != null) {
+                return getter;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findGetter(TypeElement type, VariableElement field, String getterName) {
+        TypeMirror fieldType = processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), field);
+        for (ExecutableElement method : publicMethods(type, getterName)) {
+            ExecutableType methodType = memberType(type, method);
+            if (method.getParameters().isEmpty()
+                    && processingEnv.getTypeUtils().isSameType(methodType.getReturnType(), fieldType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findSetter(TypeElement type, String fieldName, TypeMirror valueType) {
+        ExecutableElement assignable = null;
+        for (ExecutableElement method : publicMethods(type, "set" + capitalize(fieldName))) {
+            if (method.getParameters().size() != 1) {
+                continue;
+            }
+            TypeMirror parameterType = memberType(type, method).getParameterTypes().get(0);
+            if (processingEnv.getTypeUtils().isSameType(parameterType, valueType)) {
+                return method;
+            }
+            if (assignable == null && processingEnv.getTypeUtils().isAssignable(valueType, parameterType)) {
+                assignable = method;
+            }
+        }
+        return assignable;
+    }
+
+    private List<ExecutableElement> publicMethods(TypeElement type, String name) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private ExecutableType memberType(TypeElement type, ExecutableElement method) {
+        return (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), method);
+    }
+
+    private boolean isAccessible(ExecutableElement constructor, TypeElement from) {
+        Set<Modifier> modifiers = constructor.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && getPackage(constructor).equals(getPackage(from));
+    }
+
+    private void writeMapper(TypeElement sourceType, TypeElement targetType, List<PropertyCopy> copies) {
+        String packageName = getPackage(sourceType).getQualifiedName().toString();
+        String mapperName = sourceType.getSimpleName() + "To" + targetType.getSimpleName() + "Mapper";
+        String qualifiedName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+        MapperSourceWriter sourceWriter = new MapperSourceWriter(packageName, mapperName,
+                erasure(sourceType), erasure(targetType), copies);
+        try {
+            sourceWriter.write(processingEnv.getFiler().createSourceFile(qualifiedName, sourceType));
+        } catch (IOException e) {
+            error(sourceType, String.format("Unable to write %s mapper: %s", qualifiedName, e.getMessage()));
+        }
+    }
+
+    private String erasure(TypeElement type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type.asType());
+        return erasure.getKind() == TypeKind.DECLARED
+                ? ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString()
+                : erasure.toString();
+    }
+
+    private PackageElement getPackage(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+}
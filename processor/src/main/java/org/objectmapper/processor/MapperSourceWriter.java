@@ -0,0 +1,94 @@
+package org.objectmapper.processor;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * Writes the source code of a generated mapper class.
+ */
+final class MapperSourceWriter {
+    private final String packageName;
+    private final String mapperName;
+    private final String sourceType;
+    private final String targetType;
+    private final List<PropertyCopy> copies;
+
+    MapperSourceWriter(String packageName,
+                       String mapperName,
+                       String sourceType,
+                       String targetType,
+                       List<PropertyCopy> copies) {
+        this.packageName = packageName;
+        this.mapperName = mapperName;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.copies = List.copyOf(copies);
+    }
+
+    void write(JavaFileObject file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("/**%n");
+            out.printf(" * Maps {@link %s} objects to {@link %s} objects without reflection.%n",
+                    sourceType, targetType);
+            out.printf(" */%n");
+            out.printf("@javax.annotation.processing.Generated(\"%s\")%n", MapperProcessor.class.getName());
+            out.printf("public final class %s implements org.objectmapper.mapper.ObjectMapper {%n%n", mapperName);
+            writeMapObject(out);
+            writeMapInto(out);
+            writeMap(out);
+            writeMapIntoTarget(out);
+            out.printf("}%n");
+        }
+    }
+
+    private void writeMapObject(PrintWriter out) {
+        out.printf("    @Override%n");
+        out.printf("    public <S, T> T mapObject(S source, Class<T> targetType) {%n");
+        out.printf("        if (source == null || targetType == null) {%n");
+        out.printf("            throw new IllegalArgumentException(%n");
+        out.printf("                    \"Invalid parameters! Source object and target type cannot be null.\");%n");
+        out.printf("        }%n");
+        out.printf("        if (!(source instanceof %s) || targetType != %s.class) {%n", sourceType, targetType);
+        out.printf("            throw new IllegalArgumentException(%n");
+        out.printf("                    \"%s only maps %s to %s.\");%n", mapperName, sourceType, targetType);
+        out.printf("        }%n");
+        out.printf("        return targetType.cast(map((%s) source));%n", sourceType);
+        out.printf("    }%n%n");
+    }
+
+    private void writeMapInto(PrintWriter out) {
+        out.printf("    @Override%n");
+        out.printf("    public <S, T> T mapInto(S source, T target) {%n");
+        out.printf("        if (source == null || target == null) {%n");
+        out.printf("            throw new IllegalArgumentException(%n");
+        out.printf("                    \"Invalid parameters! Source and target objects cannot be null.\");%n");
+        out.printf("        }%n");
+        out.printf("        if (!(source instanceof %s) || !(target instanceof %s)) {%n", sourceType, targetType);
+        out.printf("            throw new IllegalArgumentException(%n");
+        out.printf("                    \"%s only maps %s to %s.\");%n", mapperName, sourceType, targetType);
+        out.printf("        }%n");
+        out.printf("        map((%s) source, (%s) target);%n", sourceType, targetType);
+        out.printf("        return target;%n");
+        out.printf("    }%n%n");
+    }
+
+    private void writeMap(PrintWriter out) {
+        out.printf("    public %s map(%s source) {%n", targetType, sourceType);
+        out.printf("        return map(source, new %s());%n", targetType);
+        out.printf("    }%n%n");
+    }
+
+    private void writeMapIntoTarget(PrintWriter out) {
+        out.printf("    public %s map(%s source, %s target) {%n", targetType, sourceType, targetType);
+        for (PropertyCopy copy : copies) {
+            out.printf("        target.%s(source.%s());%n", copy.setterName(), copy.getterName());
+        }
+        out.printf("        return target;%n");
+        out.printf("    }%n");
+    }
+}
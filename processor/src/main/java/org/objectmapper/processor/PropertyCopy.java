@@ -0,0 +1,10 @@
+package org.objectmapper.processor;
+
+/**
+ * A single {@code target.setter(source.getter())} statement of a generated mapper.
+ *
+ * @param getterName the name of the source getter method
+ * @param setterName the name of the target setter method
+ */
+record PropertyCopy(String getterName, String setterName) {
+}
@@ -0,0 +1,305 @@
+package org.objectmapper.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectmapper.annotation.GenerateMapper;
+import org.objectmapper.mapper.ObjectMapper;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MapperProcessorTest {
+    private static final String TARGET = """
+            package model;
+
+            public class PersonDto {
+                private String name;
+                private int age;
+                private String fieldWithoutSetter;
+
+                public String getName() {
+                    return name;
+                }
+
+                public void setName(String name) {
+                    this.name = name;
+                }
+
+                public int getAge() {
+                    return age;
+                }
+
+                public void setAge(int age) {
+                    this.age = age;
+                }
+            }
+            """;
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void testGeneratedMapperCopiesFields() throws Exception {
+        String source = """
+                package model;
+
+                import org.objectmapper.annotation.ExcludeFromMapping;
+                import org.objectmapper.annotation.GenerateMapper;
+
+                @GenerateMapper(target = PersonDto.class)
+                public class Person {
+                    private String name;
+                    private int age;
+                    @ExcludeFromMapping
+                    private String password;
+
+                    public Person(String name, int age) {
+                        this.name = name;
+                        this.age = age;
+                    }
+
+                    public String getName() {
+                        return name;
+                    }
+
+                    public int getAge() {
+                        return age;
+                    }
+                }
+                """;
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source);
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{workDir.resolve("classes").toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> personType = classLoader.loadClass("model.Person");
+            Class<?> dtoType = classLoader.loadClass("model.PersonDto");
+            ObjectMapper mapper = (ObjectMapper) classLoader.loadClass("model.PersonToPersonDtoMapper")
+                    .getConstructor().newInstance();
+            Object person = personType.getConstructor(String.class, int.class).newInstance("John", 42);
+
+            Object dto = mapper.mapObject(person, dtoType);
+
+            assertEquals("John", dtoType.getMethod("getName").invoke(dto));
+            assertEquals(42, dtoType.getMethod("getAge").invoke(dto));
+
+            Object existing = dtoType.getConstructor().newInstance();
+            assertSame(existing, mapper.mapInto(person, existing));
+            assertEquals("John", dtoType.getMethod("getName").invoke(existing));
+        }
+    }
+
+    @Test
+    public void testGeneratedMapperReadsRecordComponents() throws Exception {
+        String source = """
+                package model;
+
+                import org.objectmapper.annotation.GenerateMapper;
+
+                @GenerateMapper(target = PersonDto.class)
+                public record Person(String name, int age) {
+                }
+                """;
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source);
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{workDir.resolve("classes").toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> personType = classLoader.loadClass("model.Person");
+            Class<?> dtoType = classLoader.loadClass("model.PersonDto");
+            ObjectMapper mapper = (ObjectMapper) classLoader.loadClass("model.PersonToPersonDtoMapper")
+                    .getConstructor().newInstance();
+            Object person = personType.getConstructor(String.class, int.class).newInstance("John", 42);
+
+            Object dto = mapper.mapObject(person, dtoType);
+
+            assertEquals("John", dtoType.getMethod("getName").invoke(dto));
+            assertEquals(42, dtoType.getMethod("getAge").invoke(dto));
+        }
+    }
+
+    @Test
+    public void testGeneratedMapperCopiesInheritedAndRenamedFields() throws Exception {
+        String source = """
+                package model;
+
+                import org.objectmapper.annotation.GenerateMapper;
+
+                @GenerateMapper(target = PersonDto.class)
+                public class Person extends Entity<Long> {
+                    private String last_name;
+
+                    public String getLast_name() {
+                        return last_name;
+                    }
+
+                    public void setLast_name(String last_name) {
+                        this.last_name = last_name;
+                    }
+                }
+
+                class Entity<I> {
+                    private I id;
+
+                    public I getId() {
+                        return id;
+                    }
+
+                    public void setId(I id) {
+                        this.id = id;
+                    }
+                }
+                """;
+        String target = """
+                package model;
+
+                import org.objectmapper.annotation.MapFrom;
+
+                public class PersonDto extends BaseDto {
+                    @MapFrom("last_name")
+                    private String surname;
+
+                    public String getSurname() {
+                        return surname;
+                    }
+
+                    public void setSurname(String surname) {
+                        this.surname = surname;
+                    }
+                }
+
+                class BaseDto {
+                    private Long id;
+
+                    public Long getId() {
+                        return id;
+                    }
+
+                    public void setId(Long id) {
+                        this.id = id;
+                    }
+                }
+                """;
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source, target);
+
+        assertTrue(errors.isEmpty(), errors.toString());
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{workDir.resolve("classes").toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> personType = classLoader.loadClass("model.Person");
+            Class<?> dtoType = classLoader.loadClass("model.PersonDto");
+            ObjectMapper mapper = (ObjectMapper) classLoader.loadClass("model.PersonToPersonDtoMapper")
+                    .getConstructor().newInstance();
+            Object person = personType.getConstructor().newInstance();
+            personType.getMethod("setId", Object.class).invoke(person, 7L);
+            personType.getMethod("setLast_name", String.class).invoke(person, "Doe");
+
+            Object dto = mapper.mapObject(person, dtoType);
+
+            assertEquals(7L, dtoType.getMethod("getId").invoke(dto));
+            assertEquals("Doe", dtoType.getMethod("getSurname").invoke(dto));
+        }
+    }
+
+    @Test
+    public void testMissingTargetFieldIsCompileError() throws Exception {
+        String source = """
+                package model;
+
+                import org.objectmapper.annotation.GenerateMapper;
+
+                @GenerateMapper(target = PersonDto.class)
+                public class Person {
+                    private String nickname;
+
+                    public String getNickname() {
+                        return nickname;
+                    }
+                }
+                """;
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source);
+
+        assertFalse(errors.isEmpty());
+        assertTrue(messages(errors).contains("Unable to find nickname field in model.PersonDto class"));
+    }
+
+    @Test
+    public void testMissingTargetSetterIsCompileError() throws Exception {
+        String source = """
+                package model;
+
+                import org.objectmapper.annotation.GenerateMapper;
+
+                @GenerateMapper(target = PersonDto.class)
+                public class Person {
+                    private String fieldWithoutSetter;
+
+                    public String getFieldWithoutSetter() {
+                        return fieldWithoutSetter;
+                    }
+                }
+                """;
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source);
+
+        assertFalse(errors.isEmpty());
+        assertTrue(messages(errors).contains("fieldWithoutSetter field's setter method not found in model.PersonDto"));
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(String source) throws Exception {
+        return compile(source, TARGET);
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(String source, String target) throws Exception {
+        Path sourceDir = Files.createDirectories(workDir.resolve("src/model"));
+        Path classesDir = Files.createDirectories(workDir.resolve("classes"));
+        Files.writeString(sourceDir.resolve("Person.java"), source);
+        Files.writeString(sourceDir.resolve("PersonDto.java"), target);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            Path coreClasses = Path.of(
+                    GenerateMapper.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            List<String> options = List.of("-classpath", coreClasses.toString(),
+                    "-d", classesDir.toString());
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(
+                    sourceDir.resolve("Person.java"), sourceDir.resolve("PersonDto.java"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(List.of(new MapperProcessor()));
+            task.call();
+        }
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private String messages(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return diagnostics.stream()
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
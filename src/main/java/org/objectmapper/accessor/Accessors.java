@@ -0,0 +1,456 @@
+package org.objectmapper.accessor;
+
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A factory of {@link ValueReader}, {@link ValueWriter}, {@link PropertyCopier}, {@link ConstructorInvoker} and
+ * instantiator accessors backed by {@link MethodHandle}s.
+ * <p>
+ * The member is resolved and access checked only once, when the accessor is created. Getter and setter methods and
+ * constructors are turned into a dedicated implementation class with {@link LambdaMetafactory}, which calls the member
+ * directly and can be inlined by the JIT. When such a class cannot be defined, for example because the declaring class
+ * cannot see this library, the accessor falls back to invoking the method handle. Fields are written either through
+ * their setter method handle or, with an explicit access mode, through their {@link VarHandle}.
+ */
+public final class Accessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CREATE_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final Set<VarHandle.AccessMode> WRITE_ACCESS_MODES = Set.of(VarHandle.AccessMode.SET,
+            VarHandle.AccessMode.SET_OPAQUE, VarHandle.AccessMode.SET_RELEASE, VarHandle.AccessMode.SET_VOLATILE);
+
+    private Accessors() {
+    }
+
+    /**
+     * Creates a reader that returns the value of the given field.
+     *
+     * @param field the field to read
+     * @return a reader of the field
+     * @throws TargetFieldNotAccessibleException if the field cannot be accessed
+     */
+    public static ValueReader reader(Field field) {
+        MethodHandles.Lookup lookup = lookupIn(field.getDeclaringClass(), field.getName());
+        try {
+            MethodHandle getter = lookup.unreflectGetter(field);
+            return new MethodHandleReader(getter.asType(READ_TYPE), field.getName());
+        } catch (IllegalAccessException e) {
+            throw notAccessible(field.getDeclaringClass(), field.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a writer that assigns the value of the given field.
+     *
+     * @param field the field to write
+     * @return a writer of the field
+     * @throws TargetFieldNotAccessibleException if the field cannot be accessed, e.g. it is final
+     */
+    public static ValueWriter writer(Field field) {
+        MethodHandles.Lookup lookup = lookupIn(field.getDeclaringClass(), field.getName());
+        try {
+            MethodHandle setter = lookup.unreflectSetter(field);
+            return new MethodHandleWriter(setter.asType(WRITE_TYPE), field.getName());
+        } catch (IllegalAccessException e) {
+            throw notAccessible(field.getDeclaringClass(), field.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a writer that assigns the value of the given field through its {@link VarHandle}, with the memory
+     * ordering effects of the given access mode. A final instance field is written through its setter method handle
+     * instead, with plain access, which is only allowed if the field can be made accessible and is not declared by a
+     * record or a hidden class.
+     *
+     * @param field      the field to write
+     * @param accessMode the access mode of the write, one of {@code SET}, {@code SET_OPAQUE}, {@code SET_RELEASE} and
+     *                   {@code SET_VOLATILE}
+     * @return a writer of the field
+     * @throws TargetFieldNotAccessibleException if the field cannot be accessed or written
+     * @throws IllegalArgumentException          if the access mode is not a write access mode
+     */
+    public static ValueWriter writer(Field field, VarHandle.AccessMode accessMode) {
+        return new MethodHandleWriter(fieldWriteHandle(field, accessMode).asType(WRITE_TYPE), field.getName());
+    }
+
+    /**
+     * Creates a reader that invokes the given no-arg getter method.
+     *
+     * @param getter the getter method to invoke
+     * @return a reader invoking the getter
+     * @throws TargetFieldNotAccessibleException if the method cannot be accessed
+     */
+    public static ValueReader reader(Method getter) {
+        Class<?> declaringClass = getter.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookupIn(declaringClass, getter.getName());
+        MethodHandle handle = unreflect(lookup, getter);
+        MethodType instantiatedType = MethodType.methodType(box(getter.getReturnType()), declaringClass);
+        ValueReader reader = spinLambda(lookup, handle, ValueReader.class, "read", READ_TYPE, instantiatedType);
+        if (reader != null) {
+            return reader;
+        }
+        return new MethodHandleReader(handle.asType(READ_TYPE), getter.getName());
+    }
+
+    /**
+     * Creates a writer that invokes the given single argument setter method.
+     *
+     * @param setter the setter method to invoke
+     * @return a writer invoking the setter
+     * @throws TargetFieldNotAccessibleException if the method cannot be accessed
+     */
+    public static ValueWriter writer(Method setter) {
+        Class<?> declaringClass = setter.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookupIn(declaringClass, setter.getName());
+        MethodHandle handle = unreflect(lookup, setter);
+        MethodType instantiatedType = MethodType.methodType(void.class, declaringClass,
+                box(setter.getParameterTypes()[0]));
+        ValueWriter writer = spinLambda(lookup, handle, ValueWriter.class, "write", WRITE_TYPE, instantiatedType);
+        if (writer != null) {
+            return writer;
+        }
+        return new MethodHandleWriter(handle.asType(WRITE_TYPE), setter.getName());
+    }
+
+    /**
+     * Creates a copier that passes the value returned by the getter straight to the setter. The two method handles are
+     * combined into one, so the value never leaves its own type and primitive values are not boxed.
+     *
+     * @param getter the no-arg getter method of the source class
+     * @param setter the single argument setter method of the target class, accepting the getter return type
+     * @return a copier of the property
+     * @throws TargetFieldNotAccessibleException if one of the methods cannot be accessed
+     */
+    public static PropertyCopier copier(Method getter, Method setter) {
+        MethodHandle getterHandle = unreflect(lookupIn(getter.getDeclaringClass(), getter.getName()), getter);
+        return copier(getterHandle, setter);
+    }
+
+    /**
+     * Creates a copier that passes the value of the source field straight to the setter, without boxing primitive
+     * values.
+     *
+     * @param sourceField the field of the source class
+     * @param setter      the single argument setter method of the target class, accepting the field type
+     * @return a copier of the property
+     * @throws TargetFieldNotAccessibleException if the field or the method cannot be accessed
+     */
+    public static PropertyCopier copier(Field sourceField, Method setter) {
+        MethodHandles.Lookup lookup = lookupIn(sourceField.getDeclaringClass(), sourceField.getName());
+        try {
+            return copier(lookup.unreflectGetter(sourceField), setter);
+        } catch (IllegalAccessException e) {
+            throw notAccessible(sourceField.getDeclaringClass(), sourceField.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a copier that passes the value returned by the getter straight to the target field, written through
+     * {@link #writer(Field, VarHandle.AccessMode)}, without boxing primitive values.
+     *
+     * @param getter      the no-arg getter method of the source class
+     * @param targetField the field of the target class, of the getter return type
+     * @param accessMode  the access mode of the write
+     * @return a copier of the property
+     * @throws TargetFieldNotAccessibleException if the method or the field cannot be accessed
+     */
+    public static PropertyCopier copier(Method getter, Field targetField, VarHandle.AccessMode accessMode) {
+        MethodHandle getterHandle = unreflect(lookupIn(getter.getDeclaringClass(), getter.getName()), getter);
+        return copier(getterHandle, fieldWriteHandle(targetField, accessMode), targetField.getName());
+    }
+
+    /**
+     * Creates a copier that passes the value of the source field straight to the target field, written through
+     * {@link #writer(Field, VarHandle.AccessMode)}, without boxing primitive values.
+     *
+     * @param sourceField the field of the source class
+     * @param targetField the field of the target class, of the source field type
+     * @param accessMode  the access mode of the write
+     * @return a copier of the property
+     * @throws TargetFieldNotAccessibleException if one of the fields cannot be accessed
+     */
+    public static PropertyCopier copier(Field sourceField, Field targetField, VarHandle.AccessMode accessMode) {
+        MethodHandles.Lookup lookup = lookupIn(sourceField.getDeclaringClass(), sourceField.getName());
+        try {
+            return copier(lookup.unreflectGetter(sourceField), fieldWriteHandle(targetField, accessMode),
+                    targetField.getName());
+        } catch (IllegalAccessException e) {
+            throw notAccessible(sourceField.getDeclaringClass(), sourceField.getName(), e);
+        }
+    }
+
+    private static PropertyCopier copier(MethodHandle sourceHandle, Method setter) {
+        MethodHandle setterHandle = unreflect(lookupIn(setter.getDeclaringClass(), setter.getName()), setter);
+        return copier(sourceHandle, setterHandle, setter.getName());
+    }
+
+    private static PropertyCopier copier(MethodHandle sourceHandle, MethodHandle targetHandle, String memberName) {
+        MethodHandle targetFirst = MethodHandles.filterArguments(targetHandle, 1, sourceHandle);
+        MethodHandle copy = MethodHandles.permuteArguments(targetFirst,
+                MethodType.methodType(void.class, sourceHandle.type().parameterType(0),
+                        targetHandle.type().parameterType(0)),
+                1, 0);
+        return new MethodHandleCopier(copy.asType(COPY_TYPE), memberName);
+    }
+
+    /**
+     * Returns the handle writing the given field with the given access mode, of type {@code (declaring class, field
+     * type) void}.
+     */
+    private static MethodHandle fieldWriteHandle(Field field, VarHandle.AccessMode accessMode) {
+        if (!WRITE_ACCESS_MODES.contains(accessMode)) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid parameters! %s is not a write access mode.", accessMode));
+        }
+        Class<?> declaringClass = field.getDeclaringClass();
+        boolean isFinal = Modifier.isFinal(field.getModifiers());
+        if (isFinal && (Modifier.isStatic(field.getModifiers()) || declaringClass.isRecord()
+                || declaringClass.isHidden())) {
+            String msg = String.format("Final %s field of %s class cannot be written",
+                    field.getName(), declaringClass.getName());
+            throw new TargetFieldNotAccessibleException(msg);
+        }
+        MethodHandles.Lookup lookup = lookupIn(declaringClass, field.getName());
+        try {
+            if (!isFinal) {
+                return lookup.unreflectVarHandle(field).toMethodHandle(accessMode);
+            }
+            field.setAccessible(true);
+            return lookup.unreflectSetter(field);
+        } catch (IllegalAccessException | InaccessibleObjectException | SecurityException e) {
+            throw notAccessible(declaringClass, field.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a supplier that invokes the given no-arg constructor.
+     *
+     * @param constructor the no-arg constructor to invoke
+     * @param <T>         the type of the created objects
+     * @return a supplier of new instances
+     * @throws TargetFieldNotAccessibleException if the constructor cannot be accessed
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> instantiator(Constructor<T> constructor) {
+        Class<T> type = constructor.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookupIn(type, CONSTRUCTOR_NAME);
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw notAccessible(type, CONSTRUCTOR_NAME, e);
+        }
+        Supplier<T> instantiator = spinLambda(lookup, handle, Supplier.class, "get", CREATE_TYPE,
+                MethodType.methodType(type));
+        if (instantiator != null) {
+            return instantiator;
+        }
+        return new MethodHandleInstantiator<>(handle.asType(CREATE_TYPE), type.getName());
+    }
+
+    /**
+     * Creates an invoker of the given constructor, which receives its arguments as an array.
+     *
+     * @param constructor the constructor to invoke
+     * @return an invoker of the constructor
+     * @throws TargetFieldNotAccessibleException if the constructor cannot be accessed
+     */
+    public static ConstructorInvoker constructorInvoker(Constructor<?> constructor) {
+        Class<?> type = constructor.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookupIn(type, CONSTRUCTOR_NAME);
+        try {
+            MethodHandle handle = lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(INVOKE_TYPE);
+            return new MethodHandleConstructorInvoker(handle, type.getName());
+        } catch (IllegalAccessException e) {
+            throw notAccessible(type, CONSTRUCTOR_NAME, e);
+        }
+    }
+
+    private static MethodHandles.Lookup lookupIn(Class<?> type, String memberName) {
+        try {
+            return MethodHandles.privateLookupIn(type, LOOKUP);
+        } catch (IllegalAccessException e) {
+            throw notAccessible(type, memberName, e);
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw notAccessible(method.getDeclaringClass(), method.getName(), e);
+        }
+    }
+
+    /**
+     * Defines an implementation of the functional interface that directly calls the given method handle.
+     *
+     * @return the implementation, or {@code null} if it cannot be defined for the declaring class
+     */
+    private static <F> F spinLambda(MethodHandles.Lookup lookup,
+                                    MethodHandle implementation,
+                                    Class<F> functionalType,
+                                    String methodName,
+                                    MethodType erasedType,
+                                    MethodType instantiatedType) {
+        if (!lookup.hasFullPrivilegeAccess() || !isVisible(functionalType, lookup.lookupClass())) {
+            return null;
+        }
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, methodName,
+                    MethodType.methodType(functionalType), erasedType, implementation, instantiatedType);
+            return functionalType.cast(callSite.getTarget().invoke());
+        } catch (Throwable e) {
+            // The method handle based accessor is always usable, so any failure falls back to it.
+            return null;
+        }
+    }
+
+    private static boolean isVisible(Class<?> type, Class<?> from) {
+        try {
+            return Class.forName(type.getName(), false, from.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static TargetFieldNotAccessibleException notAccessible(Class<?> type, String memberName, Throwable cause) {
+        String msg = String.format("Unable to access %s member in %s class", memberName, type.getName());
+        return new TargetFieldNotAccessibleException(msg, cause);
+    }
+
+    private static MappingException invocationFailed(String memberName, Throwable cause) {
+        return new MappingException(String.format("Failed to invoke %s accessor", memberName), cause);
+    }
+
+    private static final class MethodHandleReader implements ValueReader {
+        private final MethodHandle handle;
+        private final String memberName;
+
+        private MethodHandleReader(MethodHandle handle, String memberName) {
+            this.handle = handle;
+            this.memberName = memberName;
+        }
+
+        @Override
+        public Object read(Object instance) {
+            try {
+                return (Object) handle.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw invocationFailed(memberName, e);
+            }
+        }
+    }
+
+    private static final class MethodHandleWriter implements ValueWriter {
+        private final MethodHandle handle;
+        private final String memberName;
+
+        private MethodHandleWriter(MethodHandle handle, String memberName) {
+            this.handle = handle;
+            this.memberName = memberName;
+        }
+
+        @Override
+        public void write(Object instance, Object value) {
+            try {
+                handle.invokeExact(instance, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw invocationFailed(memberName, e);
+            }
+        }
+    }
+
+    private static final class MethodHandleCopier implements PropertyCopier {
+        private final MethodHandle handle;
+        private final String memberName;
+
+        private MethodHandleCopier(MethodHandle handle, String memberName) {
+            this.handle = handle;
+            this.memberName = memberName;
+        }
+
+        @Override
+        public void copy(Object source, Object target) {
+            try {
+                handle.invokeExact(source, target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw invocationFailed(memberName, e);
+            }
+        }
+    }
+
+    private static final class MethodHandleInstantiator<T> implements Supplier<T> {
+        private final MethodHandle handle;
+        private final String typeName;
+
+        private MethodHandleInstantiator(MethodHandle handle, String typeName) {
+            this.handle = handle;
+            this.typeName = typeName;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get() {
+            try {
+                return (T) (Object) handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw invocationFailed(typeName + " constructor", e);
+            }
+        }
+    }
+
+    private static final class MethodHandleConstructorInvoker implements ConstructorInvoker {
+        private final MethodHandle handle;
+        private final String typeName;
+
+        private MethodHandleConstructorInvoker(MethodHandle handle, String typeName) {
+            this.handle = handle;
+            this.typeName = typeName;
+        }
+
+        @Override
+        public Object invoke(Object[] arguments) {
+            try {
+                return (Object) handle.invokeExact(arguments);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw invocationFailed(typeName + " constructor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.objectmapper.accessor;
+
+/**
+ * A pre-resolved accessor that invokes a constructor with the given arguments.
+ * Instances are created once by {@link Accessors} and can be invoked without any further lookup or access check.
+ */
+@FunctionalInterface
+public interface ConstructorInvoker {
+    /**
+     * Creates a new object by invoking the constructor.
+     *
+     * @param arguments the constructor arguments, primitive values are unboxed
+     * @return the created object
+     */
+    Object invoke(Object[] arguments);
+}
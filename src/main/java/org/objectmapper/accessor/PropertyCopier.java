@@ -0,0 +1,16 @@
+package org.objectmapper.accessor;
+
+/**
+ * Copies the value of a property from a source object to a target object, without passing the value through an
+ * {@link Object}. Primitive values are therefore copied without boxing.
+ */
+@FunctionalInterface
+public interface PropertyCopier {
+    /**
+     * Copies the value of the property.
+     *
+     * @param source the object to read the value from
+     * @param target the object to write the value to
+     */
+    void copy(Object source, Object target);
+}
@@ -0,0 +1,74 @@
+package org.objectmapper.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Resolves the bean style getter and setter methods belonging to a field.
+ */
+public final class PropertyMethods {
+    private static final String[] GETTER_PREFIXES = {"get", "is"};
+
+    private PropertyMethods() {
+    }
+
+    /**
+     * Returns the public no-arg getter of the given field, which returns exactly the type of the field. The getter of a
+     * record component field is its accessor method, e.g. {@code name()}.
+     *
+     * @param field the field whose getter is looked up
+     * @return the getter of the field, or {@code null} if the field has no such getter
+     */
+    public static Method findGetter(Field field) {
+        if (field.getDeclaringClass().isRecord()) {
+            return findGetter(field, field.getName());
+        }
+        String suffix = capitalize(field.getName());
+        for (String prefix : GETTER_PREFIXES) {
+            Method getter = findGetter(field, prefix + suffix);
+            if (getter != null) {
+                return getter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the public setter of the given field in the given type, which accepts the given parameter type.
+     *
+     * @param type          the class to look up the setter in
+     * @param field         the field whose setter is looked up
+     * @param parameterType the type of the setter parameter
+     * @return the setter of the field, or {@code null} if the type has no such setter
+     */
+    public static Method findSetter(Class<?> type, Field field, Class<?> parameterType) {
+        try {
+            return type.getMethod(getSetterName(field), parameterType);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the name of the setter method of the given field, e.g. {@code setName} for the {@code name} field.
+     *
+     * @param field the field
+     * @return the setter method name
+     */
+    public static String getSetterName(Field field) {
+        return "set" + capitalize(field.getName());
+    }
+
+    private static Method findGetter(Field field, String getterName) {
+        try {
+            Method getter = field.getDeclaringClass().getMethod(getterName);
+            return getter.getReturnType() == field.getType() ? getter : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+}
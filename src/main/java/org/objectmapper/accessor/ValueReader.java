@@ -0,0 +1,16 @@
+package org.objectmapper.accessor;
+
+/**
+ * A pre-resolved accessor that reads a single property of an object.
+ * Instances are created once by {@link Accessors} and can be invoked without any further lookup or access check.
+ */
+@FunctionalInterface
+public interface ValueReader {
+    /**
+     * Reads the property value of the given object.
+     *
+     * @param instance the object to read the value from
+     * @return the value of the property, primitive values are boxed
+     */
+    Object read(Object instance);
+}
@@ -0,0 +1,16 @@
+package org.objectmapper.accessor;
+
+/**
+ * A pre-resolved accessor that writes a single property of an object.
+ * Instances are created once by {@link Accessors} and can be invoked without any further lookup or access check.
+ */
+@FunctionalInterface
+public interface ValueWriter {
+    /**
+     * Writes the given value into the property of the given object.
+     *
+     * @param instance the object to write the value into
+     * @param value    the value to write, primitive values are unboxed
+     */
+    void write(Object instance, Object value);
+}
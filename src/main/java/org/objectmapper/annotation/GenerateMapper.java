@@ -0,0 +1,20 @@
+package org.objectmapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a reflection-free {@link org.objectmapper.mapper.ObjectMapper} implementation mapping the annotated source
+ * type to the given target type. The implementation is generated at compile time by the processor of the
+ * {@code processor} module, and it is named after the two types, e.g. {@code OrderToOrderDtoMapper}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateMapper {
+    /**
+     * The type the annotated source type is mapped to.
+     */
+    Class<?> target();
+}
@@ -0,0 +1,22 @@
+package org.objectmapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the source field that the annotated target field is mapped from, when their names differ. The name is matched
+ * with the naming policy of the mapper, and the target field is no longer matched by its own name. On a record
+ * component, it also renames the matching parameter of the canonical constructor.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface MapFrom {
+    /**
+     * Returns the name of the source field.
+     *
+     * @return the name of the source field
+     */
+    String value();
+}
@@ -0,0 +1,16 @@
+package org.objectmapper.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor that creates target objects directly from the mapped source values. Its parameters are matched
+ * to the source fields by name, so the class must be compiled with the {@code -parameters} option.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface MappingConstructor {
+
+}
@@ -0,0 +1,170 @@
+package org.objectmapper.bytecode;
+
+import org.objectmapper.accessor.PropertyMethods;
+import org.objectmapper.annotation.ExcludeFromMapping;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Generates a {@link FieldCopier} class dedicated to a single (source class, target class) pair and defines it as a
+ * hidden class next to the target class with {@link MethodHandles.Lookup#defineHiddenClass}.
+ * <p>
+ * The generated {@code copy} method is straight-line code that calls {@code target.setX(source.getX())} for every
+ * mapped field pair, so the JIT can inline the getters and setters like in a hand-written mapper. A copier can only be
+ * generated when every source field has a public getter, every target field has a public setter accepting the getter
+ * type, no target field is annotated with {@link ExcludeFromMapping}, and all these members are accessible from the
+ * package and class loader of the target class.
+ */
+public final class CopierGenerator {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final String COPIER_NAME_SUFFIX = "$$FieldCopier";
+    private static final String OBJECT_INTERNAL_NAME = "java/lang/Object";
+    private static final String COPY_DESCRIPTOR = MethodType.methodType(void.class, Object.class, Object.class)
+            .toMethodDescriptorString();
+    private static final String CONSTRUCTOR_DESCRIPTOR = MethodType.methodType(void.class).toMethodDescriptorString();
+    private static final int COPY_MAX_STACK = 3;
+    private static final int COPY_MAX_LOCALS = 5;
+    private static final int TARGET_LOCAL = 4;
+
+    private CopierGenerator() {
+    }
+
+    /**
+     * Generates a copier that copies {@code sourceFields[i]} into {@code targetFields[i]} through their getter and
+     * setter methods.
+     *
+     * @param sourceType   the class of the source objects
+     * @param targetType   the class of the target objects
+     * @param sourceFields the mapped fields of the source class
+     * @param targetFields the target fields, {@code targetFields[i]} receives the value of {@code sourceFields[i]}
+     * @return the generated copier, or {@code null} if no copier can be generated for the given pair
+     */
+    public static FieldCopier generate(Class<?> sourceType,
+                                       Class<?> targetType,
+                                       Field[] sourceFields,
+                                       Field[] targetFields) {
+        if (targetType.isInterface() || targetType.isArray() || targetType.isPrimitive() || targetType.isHidden()) {
+            return null;
+        }
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(targetType, LOOKUP);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+        if (!lookup.hasFullPrivilegeAccess()
+                || !isVisible(FieldCopier.class, targetType)
+                || !isVisible(sourceType, targetType)
+                || !isAccessible(lookup, sourceType)) {
+            return null;
+        }
+        Method[] getters = new Method[sourceFields.length];
+        Method[] setters = new Method[sourceFields.length];
+        for (int i = 0; i < sourceFields.length; i++) {
+            if (targetFields[i].isAnnotationPresent(ExcludeFromMapping.class)) {
+                return null;
+            }
+            getters[i] = PropertyMethods.findGetter(sourceFields[i]);
+            if (getters[i] == null) {
+                return null;
+            }
+            setters[i] = PropertyMethods.findSetter(targetType, targetFields[i], getters[i].getReturnType());
+            if (setters[i] == null
+                    || setters[i].getReturnType() != void.class
+                    || !isVisible(getters[i].getReturnType(), targetType)
+                    || !isAccessible(lookup, sourceType, getters[i])
+                    || !isAccessible(lookup, targetType, setters[i])) {
+                return null;
+            }
+        }
+        byte[] classFile = writeClass(sourceType, targetType, getters, setters);
+        try {
+            MethodHandles.Lookup copierLookup = lookup.defineHiddenClass(classFile, true);
+            Class<?> copierClass = copierLookup.lookupClass();
+            return (FieldCopier) copierLookup.findConstructor(copierClass, MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            // The reflective mapping is always usable, so any failure to define the copier falls back to it.
+            return null;
+        }
+    }
+
+    private static byte[] writeClass(Class<?> sourceType, Class<?> targetType, Method[] getters, Method[] setters) {
+        ClassFileWriter writer = new ClassFileWriter();
+        String sourceName = internalName(sourceType);
+        String targetName = internalName(targetType);
+
+        byte[] constructorCode = new ClassFileWriter.Code()
+                .op(ClassFileWriter.ALOAD_0)
+                .op(ClassFileWriter.INVOKESPECIAL,
+                        writer.methodConstant(OBJECT_INTERNAL_NAME, "<init>", CONSTRUCTOR_DESCRIPTOR))
+                .op(ClassFileWriter.RETURN)
+                .toByteArray();
+        writer.addMethod("<init>", CONSTRUCTOR_DESCRIPTOR, 1, 1, constructorCode);
+
+        ClassFileWriter.Code copyCode = new ClassFileWriter.Code()
+                .op(ClassFileWriter.ALOAD_1)
+                .op(ClassFileWriter.CHECKCAST, writer.classConstant(sourceName))
+                .op(ClassFileWriter.ASTORE_3)
+                .op(ClassFileWriter.ALOAD_2)
+                .op(ClassFileWriter.CHECKCAST, writer.classConstant(targetName))
+                .localOp(ClassFileWriter.ASTORE, TARGET_LOCAL);
+        for (int i = 0; i < getters.length; i++) {
+            copyCode.localOp(ClassFileWriter.ALOAD, TARGET_LOCAL)
+                    .op(ClassFileWriter.ALOAD_3)
+                    .op(ClassFileWriter.INVOKEVIRTUAL, writer.methodConstant(sourceName, getters[i].getName(),
+                            descriptor(getters[i])))
+                    .op(ClassFileWriter.INVOKEVIRTUAL, writer.methodConstant(targetName, setters[i].getName(),
+                            descriptor(setters[i])));
+        }
+        copyCode.op(ClassFileWriter.RETURN);
+        writer.addMethod("copy", COPY_DESCRIPTOR, COPY_MAX_STACK, COPY_MAX_LOCALS, copyCode.toByteArray());
+
+        return writer.toByteArray(ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_FINAL | ClassFileWriter.ACC_SUPER,
+                targetName + COPIER_NAME_SUFFIX, OBJECT_INTERNAL_NAME, internalName(FieldCopier.class));
+    }
+
+    /**
+     * Returns whether the copier can access the source class, which it casts the source objects to even when the pair
+     * has no fields to copy.
+     */
+    private static boolean isAccessible(MethodHandles.Lookup lookup, Class<?> type) {
+        try {
+            lookup.accessClass(type);
+            return true;
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    private static boolean isAccessible(MethodHandles.Lookup lookup, Class<?> owner, Method method) {
+        try {
+            lookup.findVirtual(owner, method.getName(),
+                    MethodType.methodType(method.getReturnType(), method.getParameterTypes()));
+            return true;
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    private static boolean isVisible(Class<?> type, Class<?> from) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, from.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Method method) {
+        return MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+}
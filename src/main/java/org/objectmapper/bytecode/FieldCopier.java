@@ -0,0 +1,16 @@
+package org.objectmapper.bytecode;
+
+/**
+ * Copies the mapped field values of a source object into a target object.
+ * Implementations are generated at runtime by {@link CopierGenerator} for a single (source class, target class) pair.
+ */
+@FunctionalInterface
+public interface FieldCopier {
+    /**
+     * Copies the mapped field values of the source object into the target object.
+     *
+     * @param source the object to read the values from
+     * @param target the object to write the values into
+     */
+    void copy(Object source, Object target);
+}
@@ -0,0 +1,165 @@
+package org.objectmapper.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Registers the converters every {@link TypeConverterRegistry} provides:
+ * <ul>
+ *     <li>between every pair of the boxed numeric types, {@link BigInteger} and {@link BigDecimal}. Integral targets
+ *     only accept values they can hold exactly, so a fraction or an overflow fails the conversion instead of
+ *     truncating the value. Floating point targets accept the nearest value.</li>
+ *     <li>between {@link String} and the numeric types, {@link Boolean}, {@link Character}, {@link UUID},
+ *     {@link Instant}, {@link LocalDate} and {@link LocalDateTime}, in their {@code toString} format.</li>
+ *     <li>between {@link Instant} and {@link Long} epoch milliseconds, and between {@link Date} and both of them.</li>
+ * </ul>
+ */
+final class BuiltInConverters {
+    private static final List<Class<? extends Number>> NUMBER_TYPES = List.of(Byte.class, Short.class, Integer.class,
+            Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class);
+    /**
+     * The smallest power of two beyond the range of long values, {@code Long.MAX_VALUE + 1}.
+     */
+    private static final double LONG_OVERFLOW = 0x1p63;
+
+    private BuiltInConverters() {
+    }
+
+    static void register(TypeConverterRegistry.Builder builder) {
+        Map<Class<? extends Number>, Function<Number, Number>> numberConversions = Map.of(
+                Byte.class, BuiltInConverters::toByte,
+                Short.class, BuiltInConverters::toShort,
+                Integer.class, number -> Math.toIntExact(toLong(number)),
+                Long.class, BuiltInConverters::toLong,
+                Float.class, Number::floatValue,
+                Double.class, Number::doubleValue,
+                BigInteger.class, BuiltInConverters::toBigInteger,
+                BigDecimal.class, BuiltInConverters::toBigDecimal);
+        for (Class<? extends Number> sourceType : NUMBER_TYPES) {
+            for (Class<? extends Number> targetType : NUMBER_TYPES) {
+                if (sourceType != targetType) {
+                    registerNumber(builder, sourceType, targetType, numberConversions.get(targetType));
+                }
+            }
+        }
+
+        registerString(builder, Byte.class, Byte::valueOf);
+        registerString(builder, Short.class, Short::valueOf);
+        registerString(builder, Integer.class, Integer::valueOf);
+        registerString(builder, Long.class, Long::valueOf);
+        registerString(builder, Float.class, Float::valueOf);
+        registerString(builder, Double.class, Double::valueOf);
+        registerString(builder, BigInteger.class, BigInteger::new);
+        builder.withConverter(String.class, BigDecimal.class, BigDecimal::new);
+        builder.withConverter(BigDecimal.class, String.class, BigDecimal::toPlainString);
+        registerString(builder, Boolean.class, BuiltInConverters::parseBoolean);
+        registerString(builder, Character.class, BuiltInConverters::parseCharacter);
+        registerString(builder, UUID.class, UUID::fromString);
+        registerString(builder, Instant.class, Instant::parse);
+        registerString(builder, LocalDate.class, LocalDate::parse);
+        registerString(builder, LocalDateTime.class, LocalDateTime::parse);
+
+        builder.withConverter(Instant.class, Long.class, Instant::toEpochMilli);
+        builder.withConverter(Long.class, Instant.class, Instant::ofEpochMilli);
+        builder.withConverter(Date.class, Instant.class, Date::toInstant);
+        builder.withConverter(Instant.class, Date.class, Date::from);
+        builder.withConverter(Date.class, Long.class, Date::getTime);
+        builder.withConverter(Long.class, Date.class, Date::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Number, T extends Number> void registerNumber(TypeConverterRegistry.Builder builder,
+                                                                         Class<S> sourceType,
+                                                                         Class<T> targetType,
+                                                                         Function<Number, Number> conversion) {
+        builder.withConverter(sourceType, targetType, source -> (T) conversion.apply(source));
+    }
+
+    /**
+     * Registers the conversion of the given type from its string format, and the conversion back by {@code toString}.
+     */
+    private static <T> void registerString(TypeConverterRegistry.Builder builder,
+                                           Class<T> type,
+                                           TypeConverter<String, T> parser) {
+        builder.withConverter(String.class, type, parser);
+        builder.withConverter(type, String.class, Object::toString);
+    }
+
+    private static long toLong(Number number) {
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).longValueExact();
+        }
+        if (number instanceof BigInteger) {
+            return ((BigInteger) number).longValueExact();
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (value != Math.rint(value) || value >= LONG_OVERFLOW || value < -LONG_OVERFLOW) {
+                throw new ArithmeticException(String.format("%s has no exact integral value", number));
+            }
+            return (long) value;
+        }
+        return number.longValue();
+    }
+
+    private static Short toShort(Number number) {
+        long value = toLong(number);
+        if (value != (short) value) {
+            throw new ArithmeticException(String.format("%s is out of the short range", number));
+        }
+        return (short) value;
+    }
+
+    private static Byte toByte(Number number) {
+        long value = toLong(number);
+        if (value != (byte) value) {
+            throw new ArithmeticException(String.format("%s is out of the byte range", number));
+        }
+        return (byte) value;
+    }
+
+    private static BigInteger toBigInteger(Number number) {
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).toBigIntegerExact();
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return toBigDecimal(number).toBigIntegerExact();
+        }
+        return BigInteger.valueOf(number.longValue());
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException(String.format("%s is not a boolean value", value));
+    }
+
+    private static Character parseCharacter(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException(String.format("%s is not a single character", value));
+        }
+        return value.charAt(0);
+    }
+}
@@ -0,0 +1,22 @@
+package org.objectmapper.converter;
+
+/**
+ * Converts a source field value into a value of a different type, which the target field can hold. Converters are
+ * registered for a (source type, target type) pair in a {@link TypeConverterRegistry}, and resolved once per field pair
+ * when the mapping plan is built.
+ * <p>
+ * Implementations must be thread-safe, as a converter is shared by every mapping of its field pairs.
+ *
+ * @param <S> the type of the source values
+ * @param <T> the type of the converted values
+ */
+@FunctionalInterface
+public interface TypeConverter<S, T> {
+    /**
+     * Converts the given source value.
+     *
+     * @param source the source value, never {@code null}
+     * @return the converted value
+     */
+    T convert(S source);
+}
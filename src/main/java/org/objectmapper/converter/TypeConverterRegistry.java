@@ -0,0 +1,152 @@
+package org.objectmapper.converter;
+
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the {@link TypeConverter}s of (source type, target type) pairs. Besides the registered converters, every
+ * registry provides built-in conversions between the numeric types, between strings and numbers, booleans, characters,
+ * UUIDs, dates and enums, and between instants, dates and epoch milliseconds.
+ * <p>
+ * A converter is looked up in the following order:
+ * <ol>
+ *     <li>the registered converter of the exact type pair,</li>
+ *     <li>the first registered converter whose source type is a supertype of the given source type, and whose target
+ *     type is a subtype of the given target type,</li>
+ *     <li>the built-in converter of the exact type pair.</li>
+ * </ol>
+ * Primitive types are looked up as their wrapper types, so a converter registered for {@code Integer} and {@code Long}
+ * also converts an {@code int} field to a {@code long} field.
+ * <p>
+ * Registries are immutable and thread-safe. The lookup is meant to run once per field pair, when a mapping plan is
+ * built, and not per mapped value.
+ */
+public final class TypeConverterRegistry {
+    /**
+     * The built-in converters, keyed by their type pair.
+     */
+    private static final Map<ConversionKey, TypeConverter<?, ?>> BUILT_IN_CONVERTERS = createBuiltInConverters();
+    /**
+     * The registry without registered converters.
+     */
+    private static final TypeConverterRegistry DEFAULT = new Builder().build();
+
+    /**
+     * The registered converters, keyed by their type pair in the order of their registration.
+     */
+    private final Map<ConversionKey, TypeConverter<?, ?>> converters;
+
+    private TypeConverterRegistry(Map<ConversionKey, TypeConverter<?, ?>> converters) {
+        this.converters = Collections.unmodifiableMap(new LinkedHashMap<>(converters));
+    }
+
+    /**
+     * Returns the registry that provides the built-in converters only.
+     *
+     * @return the default registry
+     */
+    public static TypeConverterRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the converter of the values of the source type into values of the target type.
+     *
+     * @param sourceType the type of the source values
+     * @param targetType the type the values are converted to
+     * @return the converter, or {@code null} if the registry has no converter for the pair
+     * @throws IllegalArgumentException if either {@code sourceType} or {@code targetType} is null
+     */
+    @SuppressWarnings("unchecked")
+    public TypeConverter<Object, Object> find(Class<?> sourceType, Class<?> targetType) {
+        if (Objects.isNull(sourceType) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source and target types cannot be null.");
+        }
+        Class<?> source = wrap(sourceType);
+        Class<?> target = wrap(targetType);
+        TypeConverter<?, ?> converter = converters.get(new ConversionKey(source, target));
+        if (Objects.isNull(converter)) {
+            converter = findAssignable(source, target);
+        }
+        if (Objects.isNull(converter)) {
+            converter = BUILT_IN_CONVERTERS.get(new ConversionKey(source, target));
+        }
+        if (Objects.isNull(converter)) {
+            converter = findEnumConverter(source, target);
+        }
+        return (TypeConverter<Object, Object>) converter;
+    }
+
+    private TypeConverter<?, ?> findAssignable(Class<?> source, Class<?> target) {
+        for (Map.Entry<ConversionKey, TypeConverter<?, ?>> entry : converters.entrySet()) {
+            ConversionKey key = entry.getKey();
+            if (key.sourceType.isAssignableFrom(source) && target.isAssignableFrom(key.targetType)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the converter between strings and the constants of an enum, which are converted by their name.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static TypeConverter<?, ?> findEnumConverter(Class<?> source, Class<?> target) {
+        if (source == String.class && target.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) target;
+            return (TypeConverter<String, Enum<?>>) name -> Enum.valueOf(enumType, name);
+        }
+        if (Enum.class.isAssignableFrom(source) && target == String.class) {
+            return (TypeConverter<Enum<?>, String>) Enum::name;
+        }
+        return null;
+    }
+
+    private static Map<ConversionKey, TypeConverter<?, ?>> createBuiltInConverters() {
+        Builder builder = new Builder();
+        BuiltInConverters.register(builder);
+        return Map.copyOf(builder.converters);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * The (source type, target type) pair of a converter.
+     */
+    private record ConversionKey(Class<?> sourceType, Class<?> targetType) {
+    }
+
+    public static class Builder {
+        private final Map<ConversionKey, TypeConverter<?, ?>> converters = new LinkedHashMap<>();
+
+        /**
+         * Registers the converter of the values of the source type into values of the target type, replacing the
+         * converter registered for the same pair before. Registered converters take precedence over the built-in ones.
+         *
+         * @param sourceType the type of the source values
+         * @param targetType the type the values are converted to
+         * @param converter  the converter
+         * @param <S>        the type of the source values
+         * @param <T>        the type of the converted values
+         * @return this builder
+         */
+        public <S, T> Builder withConverter(Class<S> sourceType,
+                                            Class<T> targetType,
+                                            TypeConverter<? super S, ? extends T> converter) {
+            ConversionKey key = new ConversionKey(
+                    wrap(Objects.requireNonNull(sourceType, "Converter source type cannot be null.")),
+                    wrap(Objects.requireNonNull(targetType, "Converter target type cannot be null.")));
+            converters.put(key, Objects.requireNonNull(converter, "Type converter cannot be null."));
+            return this;
+        }
+
+        public TypeConverterRegistry build() {
+            return new TypeConverterRegistry(converters);
+        }
+    }
+}
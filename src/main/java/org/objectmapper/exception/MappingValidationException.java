@@ -0,0 +1,26 @@
+package org.objectmapper.exception;
+
+import java.util.List;
+
+/**
+ * Represents an exception that is thrown when mappings registered in advance cannot be performed. It reports the
+ * problems of all registered mappings at once, each of them is also added as a suppressed exception.
+ */
+public class MappingValidationException extends MappingException {
+    private final List<MappingException> problems;
+
+    public MappingValidationException(String message, List<MappingException> problems) {
+        super(message);
+        this.problems = List.copyOf(problems);
+        this.problems.forEach(this::addSuppressed);
+    }
+
+    /**
+     * Returns the problems of the registered mappings.
+     *
+     * @return the unmodifiable list of the problems
+     */
+    public List<MappingException> getProblems() {
+        return problems;
+    }
+}
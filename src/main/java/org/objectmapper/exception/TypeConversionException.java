@@ -0,0 +1,14 @@
+package org.objectmapper.exception;
+
+/**
+ * Represents an exception that is thrown when a source value cannot be converted to the type of its target field.
+ */
+public class TypeConversionException extends MappingException {
+    public TypeConversionException(String message) {
+        super(message);
+    }
+
+    public TypeConversionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
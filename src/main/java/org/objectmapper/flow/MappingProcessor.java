@@ -0,0 +1,329 @@
+package org.objectmapper.flow;
+
+import org.objectmapper.mapper.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Processor} mapping every object published by its upstream publisher to an object of the target type,
+ * and publishing the mapped objects to a single subscriber, so an {@link ObjectMapper} can be used as a stage of a
+ * reactive pipeline built on {@link java.util.concurrent.Flow}, e.g. behind a
+ * {@link java.util.concurrent.SubmissionPublisher}.
+ * <p>
+ * The processor respects the demand of its subscriber: it requests at most {@code batchSize} objects from its upstream
+ * ahead of that demand, and requests more only after it published them. The buffered objects are mapped in batches of
+ * at most {@code batchSize} objects with {@link ObjectMapper#mapAll(java.util.Collection, Class)}, which resolves the
+ * cached mapping plan once per batch.
+ * <p>
+ * The mapping runs on the given executor, or without one, on the thread signalling the processor: the publisher thread
+ * delivering the objects or the subscriber thread requesting them. The signals of the subscriber are never concurrent,
+ * whatever the executor. On Java 21 and later, {@code Executors.newVirtualThreadPerTaskExecutor()} maps every batch on
+ * a virtual thread.
+ * <p>
+ * A mapping failure, or the rejection of the mapping by the executor, cancels the upstream subscription and is
+ * signalled to the subscriber with {@link Flow.Subscriber#onError(Throwable)}. Errors of the upstream publisher are
+ * signalled immediately, dropping the buffered objects, while its completion is signalled once every buffered object
+ * has been published.
+ *
+ * @param <S> the type of the source objects
+ * @param <T> the type of the target objects
+ */
+public class MappingProcessor<S, T> implements Flow.Processor<S, T> {
+    /**
+     * The number of objects requested ahead of the demand and mapped at once, unless configured otherwise.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 32;
+    private final ObjectMapper mapper;
+    private final Class<T> targetType;
+    private final int batchSize;
+    private final Executor executor;
+    private final AtomicReference<Flow.Subscriber<? super T>> subscriber = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    /**
+     * The source objects received from the upstream and not yet mapped.
+     */
+    private final Queue<S> buffer = new ConcurrentLinkedQueue<>();
+    /**
+     * The number of objects requested by the subscriber and not yet published, {@link Long#MAX_VALUE} if unbounded.
+     */
+    private final AtomicLong requested = new AtomicLong();
+    /**
+     * The number of drain requests made while the drain loop was running, zero if it is not running.
+     */
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    /**
+     * Whether the first batch was requested from the upstream, only accessed by the drain loop.
+     */
+    private boolean upstreamRequested;
+    /**
+     * Whether the subscriber received its terminal signal, only accessed by the drain loop.
+     */
+    private boolean terminated;
+
+    /**
+     * Constructs a {@code MappingProcessor} mapping the objects on the threads signalling it, in batches of
+     * {@value #DEFAULT_BATCH_SIZE} objects.
+     *
+     * @param mapper     the mapper of the published objects.
+     * @param targetType the class of the target objects.
+     * @throws IllegalArgumentException if {@code mapper} or {@code targetType} is null.
+     */
+    public MappingProcessor(ObjectMapper mapper, Class<T> targetType) {
+        this(mapper, targetType, DEFAULT_BATCH_SIZE, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code MappingProcessor} mapping the objects on the given executor, in batches of the given size.
+     *
+     * @param mapper     the mapper of the published objects.
+     * @param targetType the class of the target objects.
+     * @param batchSize  the number of objects requested ahead of the demand and mapped at once.
+     * @param executor   the executor running the mapping and publishing the mapped objects.
+     * @throws IllegalArgumentException if {@code mapper}, {@code targetType} or {@code executor} is null, or
+     *                                  {@code batchSize} is not positive.
+     */
+    public MappingProcessor(ObjectMapper mapper, Class<T> targetType, int batchSize, Executor executor) {
+        if (Objects.isNull(mapper) || Objects.isNull(targetType) || Objects.isNull(executor)) {
+            throw new IllegalArgumentException("Invalid parameters! Mapper, target type and executor cannot be null.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid parameters! Batch size must be positive, but was %d.", batchSize));
+        }
+        this.mapper = mapper;
+        this.targetType = targetType;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribes the given subscriber to the mapped objects. A processor publishes to a single subscriber: any further
+     * subscriber receives an {@link IllegalStateException}.
+     *
+     * @throws NullPointerException if {@code subscriber} is null, as required by the Reactive Streams specification.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null.");
+        if (!this.subscriber.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException(
+                    String.format("%s supports a single subscriber.", getClass().getName())));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        drain();
+    }
+
+    /**
+     * Accepts the subscription of the upstream publisher. Any further subscription is cancelled.
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "Subscription cannot be null.");
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(S source) {
+        Objects.requireNonNull(source, "Source object cannot be null.");
+        buffer.offer(source);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "Error cannot be null.");
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Schedules the drain loop on the executor, unless it is running, in which case it runs once more. If the executor
+     * rejects the drain loop, the upstream subscription is cancelled and the drain loop runs on the calling thread to
+     * signal the rejection to the subscriber.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            executor.execute(this::drainLoop);
+        } catch (RejectedExecutionException e) {
+            if (Objects.isNull(error)) {
+                error = e;
+            }
+            done = true;
+            cancelUpstream();
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        while (true) {
+            Flow.Subscriber<? super T> downstream = subscriber.get();
+            Flow.Subscription subscription = upstream.get();
+            if (Objects.nonNull(downstream) && Objects.nonNull(subscription) && !terminated) {
+                publish(downstream, subscription);
+            }
+            missed = drainRequests.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Maps and publishes the buffered objects in batches while the subscriber demands them, then signals the
+     * termination of the upstream once the buffer is empty.
+     */
+    private void publish(Flow.Subscriber<? super T> downstream, Flow.Subscription subscription) {
+        if (!upstreamRequested && !cancelled) {
+            upstreamRequested = true;
+            subscription.request(batchSize);
+        }
+        while (!cancelled) {
+            boolean upstreamDone = done;
+            if (upstreamDone && Objects.nonNull(error)) {
+                terminate();
+                downstream.onError(error);
+                return;
+            }
+            if (buffer.isEmpty()) {
+                if (upstreamDone) {
+                    terminate();
+                    downstream.onComplete();
+                }
+                return;
+            }
+            long demand = requested.get();
+            if (demand == 0) {
+                return;
+            }
+            List<S> batch = pollBatch((int) Math.min(demand, batchSize));
+            List<T> targets;
+            try {
+                targets = mapper.mapAll(batch, targetType);
+            } catch (RuntimeException e) {
+                cancelUpstream();
+                terminate();
+                downstream.onError(e);
+                return;
+            }
+            for (T target : targets) {
+                if (cancelled) {
+                    return;
+                }
+                downstream.onNext(target);
+            }
+            if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-batch.size());
+            }
+            subscription.request(batch.size());
+        }
+        buffer.clear();
+    }
+
+    private List<S> pollBatch(int size) {
+        List<S> batch = new ArrayList<>(size);
+        S source;
+        while (batch.size() < size && Objects.nonNull(source = buffer.poll())) {
+            batch.add(source);
+        }
+        return batch;
+    }
+
+    private void terminate() {
+        terminated = true;
+        buffer.clear();
+    }
+
+    /**
+     * Cancels the upstream subscription, and any later one.
+     */
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream.getAndSet(CancelledSubscription.INSTANCE);
+        if (Objects.nonNull(subscription)) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * The subscription of the subscriber, adding its requests to the demand.
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelUpstream();
+                error = new IllegalArgumentException(
+                        String.format("Invalid parameters! Requested count must be positive, but was %d.", n));
+                done = true;
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+
+    /**
+     * The subscription of a rejected subscriber, ignoring its requests.
+     */
+    private static final class RejectedSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    /**
+     * The subscription replacing the upstream subscription once it is cancelled, so a later upstream subscription is
+     * cancelled too.
+     */
+    private enum CancelledSubscription implements Flow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
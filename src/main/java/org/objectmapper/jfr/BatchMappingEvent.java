@@ -0,0 +1,69 @@
+package org.objectmapper.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Recorded when a batch mapping of a collection or an array completes. Lazily mapped streams are not recorded, as
+ * their mapping has no point of completion.
+ * <p>
+ * While the event is not enabled, {@link #start()} does not create an event object.
+ */
+@Name("org.objectmapper.BatchMapping")
+@Label("Batch Mapping")
+@Category("Object Mapper")
+@Description("Completed mapping of a collection or an array of objects")
+@StackTrace(false)
+public final class BatchMappingEvent extends Event {
+    /**
+     * The event checked by {@link #start()}. Whether an event is enabled is decided per event class, so a single
+     * instance answers for all of them.
+     */
+    private static final BatchMappingEvent PROBE = new BatchMappingEvent();
+
+    @Label("Target Class")
+    Class<?> targetType;
+
+    @Label("Object Count")
+    @Description("Number of mapped objects")
+    int objectCount;
+
+    @Label("Parallel")
+    @Description("Whether the objects were mapped on the threads of a fork/join pool")
+    boolean parallel;
+
+    /**
+     * Creates and begins a new event, if the event is enabled in a running recording.
+     *
+     * @return the begun event, or {@code null} if the event is not enabled
+     */
+    public static BatchMappingEvent start() {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        BatchMappingEvent event = new BatchMappingEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the given values, if the event is enabled and above its threshold.
+     *
+     * @param targetType  the class of the target objects
+     * @param objectCount the number of mapped objects
+     * @param parallel    whether the objects were mapped in parallel
+     */
+    public void complete(Class<?> targetType, int objectCount, boolean parallel) {
+        end();
+        if (shouldCommit()) {
+            this.targetType = targetType;
+            this.objectCount = objectCount;
+            this.parallel = parallel;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.objectmapper.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Recorded when a mapper builds the mapping plan of a (source class, target class) pair on a plan cache miss. The
+ * duration of the event is the time spent resolving the fields, accessors and converters of the pair.
+ * <p>
+ * While the event is not enabled, {@link #start()} does not create an event object.
+ */
+@Name("org.objectmapper.PlanCompilation")
+@Label("Mapping Plan Compilation")
+@Category("Object Mapper")
+@Description("Mapping plan built for a source and target class pair")
+@StackTrace(false)
+public final class PlanCompilationEvent extends Event {
+    /**
+     * The event checked by {@link #start()}. Whether an event is enabled is decided per event class, so a single
+     * instance answers for all of them.
+     */
+    private static final PlanCompilationEvent PROBE = new PlanCompilationEvent();
+
+    @Label("Source Class")
+    Class<?> sourceType;
+
+    @Label("Target Class")
+    Class<?> targetType;
+
+    @Label("Field Count")
+    @Description("Number of fields copied by the plan")
+    int fieldCount;
+
+    @Label("Generated Copier")
+    @Description("Whether the fields are copied by a generated copier class")
+    boolean generated;
+
+    /**
+     * Creates and begins a new event, if the event is enabled in a running recording.
+     *
+     * @return the begun event, or {@code null} if the event is not enabled
+     */
+    public static PlanCompilationEvent start() {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        PlanCompilationEvent event = new PlanCompilationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the given values, if the event is enabled and above its threshold.
+     *
+     * @param sourceType the class of the source objects
+     * @param targetType the class of the target objects
+     * @param fieldCount the number of fields copied by the plan
+     * @param generated  whether the plan copies the fields through a generated copier class
+     */
+    public void complete(Class<?> sourceType, Class<?> targetType, int fieldCount, boolean generated) {
+        end();
+        if (shouldCommit()) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.fieldCount = fieldCount;
+            this.generated = generated;
+            commit();
+        }
+    }
+}
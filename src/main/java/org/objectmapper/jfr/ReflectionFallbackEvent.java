@@ -0,0 +1,40 @@
+package org.objectmapper.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Recorded when the object factory cannot access the constructor of a class through a method handle, and falls back
+ * to invoking it reflectively. Every object of such a class is then created through a reflective call.
+ */
+@Name("org.objectmapper.ReflectionFallback")
+@Label("Reflection Fallback")
+@Category("Object Mapper")
+@Description("Constructor invoked reflectively, because it cannot be accessed through a method handle")
+@StackTrace(false)
+public final class ReflectionFallbackEvent extends Event {
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Reason")
+    String reason;
+
+    /**
+     * Commits a new event with the given values, if the event is enabled.
+     *
+     * @param type   the class whose constructor is invoked reflectively
+     * @param reason the reason the method handle could not be created
+     */
+    public static void emit(Class<?> type, String reason) {
+        ReflectionFallbackEvent event = new ReflectionFallbackEvent();
+        if (event.shouldCommit()) {
+            event.type = type;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+}
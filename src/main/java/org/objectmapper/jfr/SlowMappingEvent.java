@@ -0,0 +1,70 @@
+package org.objectmapper.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Recorded when mapping a single object takes longer than the threshold of the event, which is {@code 1 ms} unless a
+ * JFR setting overrides it. The stack trace of the event points at the caller of the slow mapping.
+ * <p>
+ * Mapped objects are measured by every mapping method, including the objects of batch mappings. As the event is only
+ * committed above its threshold, the fast mappings cost two reads of the JFR clock while the event is enabled. While
+ * it is not, {@link #start()} does not even create an event object.
+ */
+@Name("org.objectmapper.SlowMapping")
+@Label("Slow Object Mapping")
+@Category("Object Mapper")
+@Description("Mapping of a single object that took longer than the threshold")
+@Threshold("1 ms")
+public final class SlowMappingEvent extends Event {
+    /**
+     * The event checked by {@link #start()}. Whether an event is enabled is decided per event class, so a single
+     * instance answers for all of them.
+     */
+    private static final SlowMappingEvent PROBE = new SlowMappingEvent();
+
+    @Label("Source Class")
+    Class<?> sourceType;
+
+    @Label("Target Class")
+    Class<?> targetType;
+
+    @Label("Operation")
+    @Description("The mapping method: map, mapInto or patch")
+    String operation;
+
+    /**
+     * Creates and begins a new event, if the event is enabled in a running recording.
+     *
+     * @return the begun event, or {@code null} if the event is not enabled
+     */
+    public static SlowMappingEvent start() {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        SlowMappingEvent event = new SlowMappingEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it with the given values, if the event is enabled and above its threshold.
+     *
+     * @param sourceType the class of the source object
+     * @param targetType the class of the target object
+     * @param operation  the mapping method, {@code map}, {@code mapInto} or {@code patch}
+     */
+    public void complete(Class<?> sourceType, Class<?> targetType, String operation) {
+        end();
+        if (shouldCommit()) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.operation = operation;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.objectmapper.mapper;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An unmodifiable map of the field values of a bean, created by {@link ObjectMapperImpl#toMap(Object)}. The values are
+ * held in an array sized for the fields of the bean, and the keys in a {@link KeyTable} shared by every map of the
+ * same class, so a map costs little more than its value array. The entries are iterated in the order of the fields.
+ */
+final class BeanMap extends AbstractMap<String, Object> {
+    private final KeyTable keyTable;
+    private final Object[] values;
+
+    BeanMap(KeyTable keyTable, Object[] values) {
+        this.keyTable = keyTable;
+        this.values = values;
+    }
+
+    KeyTable getKeyTable() {
+        return keyTable;
+    }
+
+    Object getValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keyTable.indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Object candidate : values) {
+            if (Objects.equals(candidate, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = keyTable.indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < values.length; i++) {
+            action.accept(keyTable.getKey(i), values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, Object> entry = new SimpleImmutableEntry<>(keyTable.getKey(index), values[index]);
+            index++;
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.objectmapper.mapper;
+
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.strategy.FieldValueInsertionStrategy;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The fields of a class that are mapped to and from maps, resolved once per class together with their readers and the
+ * {@link KeyTable} of their names, so reading a bean into a map only reads its fields into a new value array.
+ * <p>
+ * Map values that their field cannot hold are converted by the converter of their class. The converter of every field
+ * is resolved for the class of the first value that needs one, and resolved again only when a value of another class
+ * comes, since the values of a field usually share a class.
+ */
+final class BeanSchema {
+    private final Field[] fields;
+    private final ValueReader[] readers;
+    private final KeyTable keyTable;
+    private final FieldConverterFactory converterFactory;
+    /**
+     * The last converter resolved for each field. The entries are immutable, so a race only resolves a converter twice.
+     */
+    private final ResolvedConverter[] converters;
+
+    BeanSchema(Field[] fields, ValueReader[] readers, FieldConverterFactory converterFactory) {
+        this.fields = fields;
+        this.readers = readers;
+        String[] keys = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            keys[i] = fields[i].getName();
+        }
+        this.keyTable = new KeyTable(keys);
+        this.converterFactory = converterFactory;
+        this.converters = new ResolvedConverter[fields.length];
+    }
+
+    /**
+     * Reads the fields of the given bean into a new map sharing the key table of the schema.
+     */
+    BeanMap read(Object bean) {
+        Object[] values = new Object[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            values[i] = readers[i].read(bean);
+        }
+        return new BeanMap(keyTable, values);
+    }
+
+    /**
+     * Inserts the values of the given map into the fields of the same name of the target. The fields without a key in
+     * the map keep their value, and the keys without a field are ignored.
+     */
+    void write(Map<String, ?> source, Object target, FieldValueInsertionStrategy insertionStrategy) {
+        if (source instanceof BeanMap && ((BeanMap) source).getKeyTable() == keyTable) {
+            BeanMap beanMap = (BeanMap) source;
+            for (int i = 0; i < fields.length; i++) {
+                insert(i, beanMap.getValue(i), target, insertionStrategy);
+            }
+            return;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            String key = keyTable.getKey(i);
+            Object value = source.get(key);
+            if (Objects.nonNull(value) || source.containsKey(key)) {
+                insert(i, value, target, insertionStrategy);
+            }
+        }
+    }
+
+    private void insert(int index, Object value, Object target, FieldValueInsertionStrategy insertionStrategy) {
+        if (Objects.nonNull(value)) {
+            FieldConverter converter = getConverter(index, value.getClass());
+            if (Objects.nonNull(converter)) {
+                value = converter.convert(value, null);
+            }
+        }
+        insertionStrategy.insertValue(value, target, fields[index]);
+    }
+
+    private FieldConverter getConverter(int index, Class<?> valueType) {
+        ResolvedConverter resolved = converters[index];
+        if (Objects.isNull(resolved) || resolved.valueType != valueType) {
+            Field field = fields[index];
+            resolved = new ResolvedConverter(valueType,
+                    converterFactory.createTypeConverter(valueType, field.getType(), field.getName()));
+            converters[index] = resolved;
+        }
+        return resolved.converter;
+    }
+
+    /**
+     * The converter of the values of a class into a field, {@code null} if the field can hold them as they are.
+     */
+    private static final class ResolvedConverter {
+        private final Class<?> valueType;
+        private final FieldConverter converter;
+
+        private ResolvedConverter(Class<?> valueType, FieldConverter converter) {
+            this.valueType = valueType;
+            this.converter = converter;
+        }
+    }
+}
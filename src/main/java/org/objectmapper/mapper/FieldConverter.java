@@ -0,0 +1,25 @@
+package org.objectmapper.mapper;
+
+/**
+ * Converts the value of a source field to the value inserted into its target field. Converters are resolved once per
+ * field pair when a {@link MappingPlan} is built.
+ */
+interface FieldConverter {
+    /**
+     * Converts the given source value.
+     *
+     * @param sourceValue       the value of the source field, never {@code null}
+     * @param nestedValueMapper the mapper of nested objects, only available to nested converters
+     * @return the value to insert into the target field
+     */
+    Object convert(Object sourceValue, NestedValueMapper nestedValueMapper);
+
+    /**
+     * Returns whether the converter maps nested objects, which requires the mapping of the whole object graph.
+     *
+     * @return {@code true} if the converter uses the nested value mapper
+     */
+    default boolean isNested() {
+        return false;
+    }
+}
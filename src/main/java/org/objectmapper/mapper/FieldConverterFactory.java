@@ -0,0 +1,479 @@
+package org.objectmapper.mapper;
+
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.converter.TypeConverter;
+import org.objectmapper.converter.TypeConverterRegistry;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.TypeConversionException;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the {@link FieldConverter} of a (source field, target field) pair.
+ * <p>
+ * Fields declared with a type that has a nested mapping are mapped to the nested target type. Arrays, collections and
+ * maps are copied into a new container of the target field type, which is pre-sized from the source container, so the
+ * target never shares a mutable container with the source. Their elements are mapped when the declared element type has
+ * a nested mapping, and copied in bulk otherwise: arrays with {@link System#arraycopy}, collections and maps with
+ * {@code addAll} and {@code putAll}. The mapped elements of sets and the mapped keys of maps have their fields copied
+ * before they are inserted, as the container hashes or compares them. When immutable container reuse is enabled,
+ * unmodifiable source collections and maps whose elements are not mapped are inserted as they are.
+ * <p>
+ * The values of all other fields whose target field cannot hold them are converted by the {@link TypeConverter} that
+ * the {@link TypeConverterRegistry} provides for the pair of field types.
+ */
+final class FieldConverterFactory {
+    /**
+     * The classes of the unmodifiable collections and maps of the JDK, which can be shared between source and target.
+     */
+    private static final Set<Class<?>> IMMUTABLE_CONTAINER_TYPES = Set.copyOf(List.of(
+            List.of().getClass(), List.of(1).getClass(), Set.of().getClass(), Set.of(1).getClass(),
+            Map.of().getClass(), Map.of(1, 1).getClass(),
+            Collections.emptyList().getClass(), Collections.emptySet().getClass(), Collections.emptyMap().getClass(),
+            Collections.singletonList(1).getClass(), Collections.singleton(1).getClass(),
+            Collections.singletonMap(1, 1).getClass(),
+            Collections.unmodifiableCollection(new ArrayList<>()).getClass(),
+            Collections.unmodifiableList(new ArrayList<>()).getClass(),
+            Collections.unmodifiableList(new LinkedList<>()).getClass(),
+            Collections.unmodifiableSet(new LinkedHashSet<>()).getClass(),
+            Collections.unmodifiableSortedSet(new TreeSet<>()).getClass(),
+            Collections.unmodifiableMap(new LinkedHashMap<>()).getClass(),
+            Collections.unmodifiableSortedMap(new TreeMap<>()).getClass()));
+
+    /**
+     * The target types of the nested source types.
+     */
+    private final Map<Class<?>, Class<?>> nestedMappings;
+    /**
+     * Whether unmodifiable source containers are inserted instead of copied.
+     */
+    private final boolean immutableContainerReuse;
+    /**
+     * The converters of the values that the target fields cannot hold.
+     */
+    private final TypeConverterRegistry typeConverters;
+
+    FieldConverterFactory(Map<Class<?>, Class<?>> nestedMappings,
+                          boolean immutableContainerReuse,
+                          TypeConverterRegistry typeConverters) {
+        this.nestedMappings = Map.copyOf(nestedMappings);
+        this.immutableContainerReuse = immutableContainerReuse;
+        this.typeConverters = typeConverters;
+    }
+
+    /**
+     * Resolves the converter of the value of the source field into the value of the target field.
+     *
+     * @param sourceField the field the value is read from
+     * @param targetField the field the value is inserted into
+     * @return the converter, or {@code null} if the value is inserted as it is
+     * @throws MappingException if a nested target type cannot be held by the target field or its elements
+     */
+    FieldConverter create(Field sourceField, Field targetField) {
+        Class<?> sourceType = sourceField.getType();
+        Class<?> targetType = targetField.getType();
+        Class<?> nestedTargetType = nestedMappings.get(sourceType);
+        if (nestedTargetType != null) {
+            checkAssignable(targetType, nestedTargetType, targetField);
+            return new NestedObjectConverter(nestedTargetType);
+        }
+        if (sourceType.isArray() && targetType.isArray()) {
+            return createArrayConverter(sourceType.getComponentType(), targetType.getComponentType(), targetField);
+        }
+        if (Collection.class.isAssignableFrom(sourceType) && Collection.class.isAssignableFrom(targetType)) {
+            return createCollectionConverter(sourceField, targetField);
+        }
+        if (Map.class.isAssignableFrom(sourceType) && Map.class.isAssignableFrom(targetType)) {
+            return createMapConverter(sourceField, targetField);
+        }
+        return createTypeConverter(sourceType, targetType, targetField.getName());
+    }
+
+    /**
+     * Resolves the converter of values of the source type into a target of the given type, which is either a target
+     * field or a parameter of the mapping constructor.
+     *
+     * @param sourceType the declared type of the source field
+     * @param targetType the declared type of the target
+     * @param targetName the name of the target, reported when a value cannot be converted
+     * @return the converter, or {@code null} if the target can hold the source values, or the registry has no
+     * converter of the types
+     */
+    FieldConverter createTypeConverter(Class<?> sourceType, Class<?> targetType, String targetName) {
+        if (wrap(targetType).isAssignableFrom(wrap(sourceType))) {
+            return null;
+        }
+        TypeConverter<Object, Object> typeConverter = typeConverters.find(sourceType, targetType);
+        return typeConverter == null ? null : new TypeConversionConverter(typeConverter, targetType, targetName);
+    }
+
+    private FieldConverter createArrayConverter(Class<?> sourceComponent, Class<?> targetComponent, Field targetField) {
+        Class<?> nestedComponent = sourceComponent.isPrimitive() ? null : nestedMappings.get(sourceComponent);
+        if (nestedComponent != null) {
+            checkAssignable(targetComponent, nestedComponent, targetField);
+            return new NestedArrayConverter(targetComponent, nestedComponent);
+        }
+        if (sourceComponent == targetComponent
+                || (!sourceComponent.isPrimitive() && targetComponent.isAssignableFrom(sourceComponent))) {
+            return (sourceValue, nestedValueMapper) -> {
+                int length = Array.getLength(sourceValue);
+                Object target = Array.newInstance(targetComponent, length);
+                System.arraycopy(sourceValue, 0, target, 0, length);
+                return target;
+            };
+        }
+        return null;
+    }
+
+    private FieldConverter createCollectionConverter(Field sourceField, Field targetField) {
+        Function<Collection<?>, Collection<Object>> containerFactory = getCollectionFactory(targetField.getType());
+        if (containerFactory == null) {
+            return null;
+        }
+        Class<?> nestedElementType = getNestedElementType(sourceField, targetField, 0);
+        return new CollectionConverter(containerFactory, nestedElementType, getReusableType(targetField,
+                nestedElementType));
+    }
+
+    private FieldConverter createMapConverter(Field sourceField, Field targetField) {
+        Function<Map<?, ?>, Map<Object, Object>> containerFactory = getMapFactory(targetField.getType());
+        if (containerFactory == null) {
+            return null;
+        }
+        Class<?> nestedKeyType = getNestedElementType(sourceField, targetField, 0);
+        Class<?> nestedValueType = getNestedElementType(sourceField, targetField, 1);
+        Class<?> reusableType = nestedKeyType == null ? getReusableType(targetField, nestedValueType) : null;
+        return new MapConverter(containerFactory, nestedKeyType, nestedValueType, reusableType);
+    }
+
+    /**
+     * Returns the type that unmodifiable source containers must have to be inserted as they are, or {@code null} if
+     * they are always copied.
+     */
+    private Class<?> getReusableType(Field targetField, Class<?> nestedElementType) {
+        return immutableContainerReuse && nestedElementType == null ? targetField.getType() : null;
+    }
+
+    /**
+     * Returns the nested target type of the type argument of the given index of the source field, or {@code null} if
+     * the elements are not mapped.
+     */
+    private Class<?> getNestedElementType(Field sourceField, Field targetField, int index) {
+        Class<?> nestedElementType = nestedMappings.get(getTypeArgument(sourceField, index));
+        if (nestedElementType != null) {
+            checkAssignable(getTypeArgument(targetField, index), nestedElementType, targetField);
+        }
+        return nestedElementType;
+    }
+
+    private Class<?> getTypeArgument(Field field, int index) {
+        Type genericType = field.getGenericType();
+        if (genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (index < arguments.length) {
+                return getRawType(arguments[index]);
+            }
+        }
+        return Object.class;
+    }
+
+    private Class<?> getRawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return getRawType(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof WildcardType) {
+            return getRawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private void checkAssignable(Class<?> targetType, Class<?> nestedTargetType, Field targetField) {
+        if (!targetType.isAssignableFrom(nestedTargetType)) {
+            String msg = String.format("%s field in %s class cannot hold the nested %s objects",
+                    targetField.getName(), targetField.getDeclaringClass().getName(), nestedTargetType.getName());
+            throw new MappingException(msg);
+        }
+    }
+
+    /**
+     * Returns the factory of the target collections, or {@code null} if no collection of the type can be created.
+     */
+    @SuppressWarnings("unchecked")
+    private Function<Collection<?>, Collection<Object>> getCollectionFactory(Class<?> type) {
+        if (type.isAssignableFrom(ArrayList.class)) {
+            return source -> new ArrayList<>(source.size());
+        }
+        if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return source -> new LinkedHashSet<>(getHashCapacity(source.size()));
+        }
+        if (type.isAssignableFrom(TreeSet.class)) {
+            return source -> source instanceof SortedSet
+                    ? new TreeSet<>((Comparator) ((SortedSet<?>) source).comparator())
+                    : new TreeSet<>();
+        }
+        if (type.isAssignableFrom(ArrayDeque.class)) {
+            return source -> new ArrayDeque<>(source.size());
+        }
+        Supplier<?> instantiator = getInstantiator(type);
+        return instantiator == null ? null : source -> (Collection<Object>) instantiator.get();
+    }
+
+    /**
+     * Returns the factory of the target maps, or {@code null} if no map of the type can be created.
+     */
+    @SuppressWarnings("unchecked")
+    private Function<Map<?, ?>, Map<Object, Object>> getMapFactory(Class<?> type) {
+        if (type.isAssignableFrom(LinkedHashMap.class)) {
+            return source -> new LinkedHashMap<>(getHashCapacity(source.size()));
+        }
+        if (type.isAssignableFrom(TreeMap.class)) {
+            return source -> source instanceof SortedMap
+                    ? new TreeMap<>((Comparator) ((SortedMap<?, ?>) source).comparator())
+                    : new TreeMap<>();
+        }
+        Supplier<?> instantiator = getInstantiator(type);
+        return instantiator == null ? null : source -> (Map<Object, Object>) instantiator.get();
+    }
+
+    private Supplier<?> getInstantiator(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return Accessors.instantiator(type.getDeclaredConstructor());
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the initial capacity of a hash based container, which holds the given number of entries without
+     * resizing.
+     */
+    private static int getHashCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static boolean isReusable(Object sourceValue, Class<?> reusableType) {
+        return reusableType != null
+                && IMMUTABLE_CONTAINER_TYPES.contains(sourceValue.getClass())
+                && reusableType.isInstance(sourceValue);
+    }
+
+    private static Object mapNested(Object sourceValue, Class<?> nestedTargetType,
+                                    NestedValueMapper nestedValueMapper) {
+        if (sourceValue == null || nestedTargetType == null) {
+            return sourceValue;
+        }
+        return nestedValueMapper.map(sourceValue, nestedTargetType);
+    }
+
+    /**
+     * Maps a value that the target container hashes or compares, so its fields are copied before it is inserted.
+     */
+    private static Object mapNestedCompletely(Object sourceValue, Class<?> nestedTargetType,
+                                              NestedValueMapper nestedValueMapper) {
+        if (sourceValue == null || nestedTargetType == null) {
+            return sourceValue;
+        }
+        return nestedValueMapper.mapCompletely(sourceValue, nestedTargetType);
+    }
+
+    /**
+     * Converts a value through the {@link TypeConverter} of its field pair, reporting a failing conversion as a
+     * {@link TypeConversionException}.
+     */
+    private static final class TypeConversionConverter implements FieldConverter {
+        private final TypeConverter<Object, Object> typeConverter;
+        private final Class<?> targetType;
+        private final String targetName;
+
+        private TypeConversionConverter(TypeConverter<Object, Object> typeConverter,
+                                        Class<?> targetType,
+                                        String targetName) {
+            this.typeConverter = typeConverter;
+            this.targetType = targetType;
+            this.targetName = targetName;
+        }
+
+        @Override
+        public Object convert(Object sourceValue, NestedValueMapper nestedValueMapper) {
+            try {
+                return typeConverter.convert(sourceValue);
+            } catch (MappingException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                String msg = String.format("Unable to convert %s value of %s field to %s",
+                        sourceValue.getClass().getName(), targetName, targetType.getName());
+                throw new TypeConversionException(msg, e);
+            }
+        }
+    }
+
+    /**
+     * Maps a nested object to its nested target type.
+     */
+    private static final class NestedObjectConverter implements FieldConverter {
+        private final Class<?> targetType;
+
+        private NestedObjectConverter(Class<?> targetType) {
+            this.targetType = targetType;
+        }
+
+        @Override
+        public Object convert(Object sourceValue, NestedValueMapper nestedValueMapper) {
+            return nestedValueMapper.map(sourceValue, targetType);
+        }
+
+        @Override
+        public boolean isNested() {
+            return true;
+        }
+    }
+
+    /**
+     * Maps the elements of an array to a new array of the target component type.
+     */
+    private static final class NestedArrayConverter implements FieldConverter {
+        private final Class<?> targetComponent;
+        private final Class<?> nestedComponent;
+
+        private NestedArrayConverter(Class<?> targetComponent, Class<?> nestedComponent) {
+            this.targetComponent = targetComponent;
+            this.nestedComponent = nestedComponent;
+        }
+
+        @Override
+        public Object convert(Object sourceValue, NestedValueMapper nestedValueMapper) {
+            Object[] sourceArray = (Object[]) sourceValue;
+            Object[] targetArray = (Object[]) Array.newInstance(targetComponent, sourceArray.length);
+            for (int i = 0; i < sourceArray.length; i++) {
+                targetArray[i] = mapNested(sourceArray[i], nestedComponent, nestedValueMapper);
+            }
+            return targetArray;
+        }
+
+        @Override
+        public boolean isNested() {
+            return true;
+        }
+    }
+
+    /**
+     * Copies a collection into a new target collection, mapping its elements if they are nested.
+     */
+    private static final class CollectionConverter implements FieldConverter {
+        private final Function<Collection<?>, Collection<Object>> containerFactory;
+        private final Class<?> nestedElementType;
+        private final Class<?> reusableType;
+
+        private CollectionConverter(Function<Collection<?>, Collection<Object>> containerFactory,
+                                    Class<?> nestedElementType,
+                                    Class<?> reusableType) {
+            this.containerFactory = containerFactory;
+            this.nestedElementType = nestedElementType;
+            this.reusableType = reusableType;
+        }
+
+        @Override
+        public Object convert(Object sourceValue, NestedValueMapper nestedValueMapper) {
+            if (isReusable(sourceValue, reusableType)) {
+                return sourceValue;
+            }
+            Collection<?> source = (Collection<?>) sourceValue;
+            Collection<Object> target = containerFactory.apply(source);
+            if (nestedElementType == null) {
+                target.addAll(source);
+                return target;
+            }
+            if (target instanceof Set) {
+                for (Object element : source) {
+                    target.add(mapNestedCompletely(element, nestedElementType, nestedValueMapper));
+                }
+                return target;
+            }
+            for (Object element : source) {
+                target.add(mapNested(element, nestedElementType, nestedValueMapper));
+            }
+            return target;
+        }
+
+        @Override
+        public boolean isNested() {
+            return nestedElementType != null;
+        }
+    }
+
+    /**
+     * Copies a map into a new target map, mapping its keys and values if they are nested.
+     */
+    private static final class MapConverter implements FieldConverter {
+        private final Function<Map<?, ?>, Map<Object, Object>> containerFactory;
+        private final Class<?> nestedKeyType;
+        private final Class<?> nestedValueType;
+        private final Class<?> reusableType;
+
+        private MapConverter(Function<Map<?, ?>, Map<Object, Object>> containerFactory,
+                             Class<?> nestedKeyType,
+                             Class<?> nestedValueType,
+                             Class<?> reusableType) {
+            this.containerFactory = containerFactory;
+            this.nestedKeyType = nestedKeyType;
+            this.nestedValueType = nestedValueType;
+            this.reusableType = reusableType;
+        }
+
+        @Override
+        public Object convert(Object sourceValue, NestedValueMapper nestedValueMapper) {
+            if (isReusable(sourceValue, reusableType)) {
+                return sourceValue;
+            }
+            Map<?, ?> source = (Map<?, ?>) sourceValue;
+            Map<Object, Object> target = containerFactory.apply(source);
+            if (!isNested()) {
+                target.putAll(source);
+                return target;
+            }
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                target.put(mapNestedCompletely(entry.getKey(), nestedKeyType, nestedValueMapper),
+                        mapNested(entry.getValue(), nestedValueType, nestedValueMapper));
+            }
+            return target;
+        }
+
+        @Override
+        public boolean isNested() {
+            return nestedKeyType != null || nestedValueType != null;
+        }
+    }
+}
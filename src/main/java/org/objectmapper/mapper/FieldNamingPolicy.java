@@ -0,0 +1,53 @@
+package org.objectmapper.mapper;
+
+import java.util.Locale;
+
+/**
+ * Decides which source and target fields match: two fields match when the policy gives their names the same matching
+ * key. The keys of the target fields are computed once per target class, and the matching fields are resolved once
+ * per type pair into its mapping plan, so the policy does not add any cost to the mappings themselves.
+ * <p>
+ * Policies must be stateless, or at least thread-safe, and must always return the same key for the same name.
+ */
+@FunctionalInterface
+public interface FieldNamingPolicy {
+    /**
+     * Matches the fields of exactly the same name. This is the default policy.
+     */
+    FieldNamingPolicy EXACT = name -> name;
+    /**
+     * Matches the fields whose names differ only by case, e.g. {@code userId} and {@code userID}.
+     */
+    FieldNamingPolicy CASE_INSENSITIVE = name -> name.toLowerCase(Locale.ROOT);
+    /**
+     * Matches snake_case fields with the camelCase fields of the same words, e.g. {@code first_name} and
+     * {@code firstName}. Names without underscores are matched exactly.
+     */
+    FieldNamingPolicy SNAKE_CASE_TO_CAMEL_CASE = FieldNamingPolicy::toCamelCase;
+
+    /**
+     * Returns the key that the given field name is matched with.
+     *
+     * @param fieldName the name of a source or target field
+     * @return the matching key of the name
+     */
+    String getMatchingKey(String fieldName);
+
+    private static String toCamelCase(String name) {
+        if (name.indexOf('_') < 0) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name.length());
+        boolean upperCaseNext = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                upperCaseNext = key.length() > 0;
+            } else {
+                key.append(upperCaseNext ? Character.toUpperCase(c) : Character.toLowerCase(c));
+                upperCaseNext = false;
+            }
+        }
+        return key.toString();
+    }
+}
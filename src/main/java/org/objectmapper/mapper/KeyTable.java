@@ -0,0 +1,66 @@
+package org.objectmapper.mapper;
+
+/**
+ * The keys of the maps created from the beans of one class, shared by all of them. The index of a key is the index of
+ * its value in the value array of every such map, and is looked up in an open addressing table, so a lookup neither
+ * allocates nor boxes anything. The keys are field names, which the JVM interns, so the lookups of keys taken from
+ * field names or string literals are decided by reference comparison.
+ */
+final class KeyTable {
+    private final String[] keys;
+    /**
+     * The open addressing table of the keys, holding the index of each key plus one, or zero in empty slots.
+     */
+    private final int[] slots;
+    private final int mask;
+
+    KeyTable(String[] keys) {
+        this.keys = keys.clone();
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length * 2 - 1)) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = spread(keys[i].hashCode()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    String getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the index of the given key.
+     *
+     * @param key the key to look up, of any type
+     * @return the index of the key, or {@code -1} if the table does not hold it
+     */
+    int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        int slot = spread(key.hashCode()) & mask;
+        while (true) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            String candidate = keys[entry - 1];
+            if (candidate == key || candidate.equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,46 @@
+package org.objectmapper.mapper;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports the source fields that a lenient mapper skips, for the type pairs it has planned so far, e.g. to log the
+ * partially overlapping pairs once the application has started. See
+ * {@link ObjectMapperImpl.Builder#withLenientMapping(boolean)}.
+ */
+public final class MappingDiagnostics {
+    private final List<UnmappedField> unmappedFields;
+
+    MappingDiagnostics(List<UnmappedField> unmappedFields) {
+        this.unmappedFields = List.copyOf(unmappedFields);
+    }
+
+    /**
+     * Returns the skipped source fields.
+     *
+     * @return the unmodifiable list of the skipped fields, in the order their plans were built
+     */
+    public List<UnmappedField> getUnmappedFields() {
+        return unmappedFields;
+    }
+
+    /**
+     * Returns whether every planned source field is mapped.
+     *
+     * @return {@code true} if no field is skipped
+     */
+    public boolean isEmpty() {
+        return unmappedFields.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        if (unmappedFields.isEmpty()) {
+            return "No unmapped fields";
+        }
+        return unmappedFields.stream()
+                .map(UnmappedField::toString)
+                .collect(Collectors.joining(System.lineSeparator() + " - ",
+                        String.format("%d unmapped fields:%n - ", unmappedFields.size()), ""));
+    }
+}
@@ -0,0 +1,296 @@
+package org.objectmapper.mapper;
+
+import org.objectmapper.accessor.PropertyCopier;
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.bytecode.FieldCopier;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+import org.objectmapper.strategy.FieldValueInsertionStrategy;
+import org.objectmapper.strategy.ObjectFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable, pre-resolved description of how the fields of a source class are copied to a target class.
+ * A plan is built once per (source class, target class) pair by {@link ObjectMapperImpl} and then cached, so the
+ * mapping hot path only walks the already resolved field pairs and their pre-resolved readers. The readers of the
+ * target fields, which are only needed by patches skipping unchanged values, are resolved on first use.
+ */
+final class MappingPlan {
+    /**
+     * The class the plan reads the field values from.
+     */
+    private final Class<?> sourceType;
+    /**
+     * The class the plan writes the field values to.
+     */
+    private final Class<?> targetType;
+    /**
+     * The mapping constructor of the target class, or {@code null} if the target is created by the object factory.
+     */
+    private final TargetConstructor targetConstructor;
+    /**
+     * The source fields that were not excluded from the mapping and are not passed to the mapping constructor.
+     */
+    private final Field[] sourceFields;
+    /**
+     * The readers of the source fields, {@code sourceReaders[i]} reads {@code sourceFields[i]}.
+     */
+    private final ValueReader[] sourceReaders;
+    /**
+     * The target fields, {@code targetFields[i]} receives the value of {@code sourceFields[i]}.
+     */
+    private final Field[] targetFields;
+    /**
+     * The converters of the field values, {@code converters[i]} converts the value of {@code sourceFields[i]}, or is
+     * {@code null} if the value is inserted as it is.
+     */
+    private final FieldConverter[] converters;
+    /**
+     * The direct copiers of primitive field pairs, {@code directCopiers[i]} copies {@code sourceFields[i]} without
+     * boxing its value, or is {@code null} if the value is inserted by the insertion strategy.
+     */
+    private final PropertyCopier[] directCopiers;
+    /**
+     * Whether any of the converters maps nested objects.
+     */
+    private final boolean nested;
+    /**
+     * The generated copier of the type pair, or {@code null} if the fields are copied through the insertion strategy.
+     */
+    private final FieldCopier copier;
+    /**
+     * The names of the target fields, in the order of the plan.
+     */
+    private final List<String> targetFieldNames;
+    /**
+     * The source fields left out of the plan by a lenient mapper.
+     */
+    private final List<UnmappedField> unmappedFields;
+    /**
+     * The readers of the target fields, or {@code null} if they have not been resolved yet. Racing threads resolve
+     * equivalent readers, so either of them may be kept.
+     */
+    private volatile ValueReader[] targetReaders;
+
+    MappingPlan(Class<?> sourceType,
+                Class<?> targetType,
+                TargetConstructor targetConstructor,
+                Field[] sourceFields,
+                ValueReader[] sourceReaders,
+                Field[] targetFields,
+                FieldConverter[] converters,
+                PropertyCopier[] directCopiers,
+                FieldCopier copier,
+                List<UnmappedField> unmappedFields) {
+        if (sourceFields.length != sourceReaders.length || sourceFields.length != targetFields.length
+                || sourceFields.length != converters.length || sourceFields.length != directCopiers.length) {
+            throw new IllegalArgumentException(
+                    "Source fields, readers, target fields, converters and copiers must have the same length.");
+        }
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.targetConstructor = targetConstructor;
+        this.sourceFields = sourceFields.clone();
+        this.sourceReaders = sourceReaders.clone();
+        this.targetFields = targetFields.clone();
+        this.converters = converters.clone();
+        this.directCopiers = directCopiers.clone();
+        this.nested = Arrays.stream(converters).anyMatch(converter -> converter != null && converter.isNested());
+        this.copier = copier;
+        this.targetFieldNames = Arrays.stream(targetFields).map(Field::getName).toList();
+        this.unmappedFields = List.copyOf(unmappedFields);
+    }
+
+    Class<?> getSourceType() {
+        return sourceType;
+    }
+
+    Class<?> getTargetType() {
+        return targetType;
+    }
+
+    int size() {
+        return sourceFields.length;
+    }
+
+    List<String> getTargetFieldNames() {
+        return targetFieldNames;
+    }
+
+    List<UnmappedField> getUnmappedFields() {
+        return unmappedFields;
+    }
+
+    boolean isGenerated() {
+        return copier != null;
+    }
+
+    boolean hasTargetConstructor() {
+        return targetConstructor != null;
+    }
+
+    boolean hasNestedFields() {
+        return nested;
+    }
+
+    /**
+     * Lets the insertion strategy and the object factory validate and prepare the mapping of the pair. The values of
+     * converted fields are prepared with the declared type of their target field, and the fields with a direct copier
+     * are skipped, as their setter has been resolved with the plan.
+     *
+     * @param insertionStrategy the strategy used to insert the values into the target fields
+     * @param objectFactory     the factory used for targets without mapping constructor
+     * @return the problems of every field that cannot be inserted, or of the target type if it cannot be created
+     */
+    List<MappingException> prepare(FieldValueInsertionStrategy insertionStrategy, ObjectFactory objectFactory) {
+        List<MappingException> problems = new ArrayList<>();
+        if (targetConstructor == null) {
+            try {
+                objectFactory.prepare(targetType);
+            } catch (MappingException e) {
+                problems.add(e);
+            }
+        }
+        for (int i = 0; i < sourceFields.length; i++) {
+            if (directCopiers[i] != null) {
+                continue;
+            }
+            Class<?> valueType = converters[i] == null ? sourceFields[i].getType() : targetFields[i].getType();
+            try {
+                insertionStrategy.prepare(targetType, targetFields[i], valueType);
+            } catch (MappingException e) {
+                problems.add(e);
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Creates a new target object. A target with a mapping constructor is created from the values of the source
+     * object, otherwise it is created by the given object factory.
+     *
+     * @param source        the object to read the constructor arguments from
+     * @param objectFactory the factory used for targets without mapping constructor
+     * @return the created target object
+     */
+    Object createTarget(Object source, ObjectFactory objectFactory) {
+        if (targetConstructor == null) {
+            return objectFactory.create(targetType);
+        }
+        return targetConstructor.newInstance(source);
+    }
+
+    /**
+     * Copies every planned field value from the source object into the target object. When the plan has a generated
+     * copier, the copier is used instead of the insertion strategy.
+     *
+     * @param source            the object to read the values from
+     * @param target            the object to insert the values into
+     * @param insertionStrategy the strategy used to insert the values into the target fields
+     */
+    void copy(Object source, Object target, FieldValueInsertionStrategy insertionStrategy) {
+        if (copier != null) {
+            copier.copy(source, target);
+            return;
+        }
+        copy(source, target, insertionStrategy, null);
+    }
+
+    /**
+     * Copies every planned field value from the source object into the target object, converting the non-null values
+     * of the fields that have a converter. Nested converters map their nested objects with the given mapper. Fields
+     * with a direct copier are copied by it instead of the insertion strategy.
+     *
+     * @param source            the object to read the values from
+     * @param target            the object to insert the values into
+     * @param insertionStrategy the strategy used to insert the values into the target fields
+     * @param nestedValueMapper the mapper of nested objects, only needed if the plan has nested fields
+     */
+    void copy(Object source, Object target, FieldValueInsertionStrategy insertionStrategy,
+              NestedValueMapper nestedValueMapper) {
+        for (int i = 0; i < sourceFields.length; i++) {
+            PropertyCopier directCopier = directCopiers[i];
+            if (directCopier != null) {
+                copyDirectly(directCopier, source, target, targetFields[i]);
+                continue;
+            }
+            Object sourceValue = sourceReaders[i].read(source);
+            FieldConverter converter = converters[i];
+            if (converter != null && sourceValue != null) {
+                sourceValue = converter.convert(sourceValue, nestedValueMapper);
+            }
+            insertionStrategy.insertValue(sourceValue, target, targetFields[i]);
+        }
+    }
+
+    /**
+     * Writes the planned field values of the source object into the target object according to the patch policy.
+     * Fields with a direct copier are copied by it, unless unchanged values are skipped, which requires the values to
+     * be compared.
+     *
+     * @param source            the object to read the values from
+     * @param target            the object to write the values into
+     * @param insertionStrategy the strategy used to insert the values into the target fields
+     * @param policy            the policy deciding which values are written
+     * @param nestedValueMapper the mapper of nested objects, only needed if the plan has nested fields
+     * @return the bits of the written fields, in the order of the plan
+     */
+    BitSet patch(Object source, Object target, FieldValueInsertionStrategy insertionStrategy, PatchPolicy policy,
+                 NestedValueMapper nestedValueMapper) {
+        BitSet writtenFields = new BitSet(sourceFields.length);
+        boolean skipNulls = policy.getNullValuePolicy() == NullValuePolicy.SKIP;
+        ValueReader[] currentReaders = policy.isUnchangedValuesSkipped() ? getTargetReaders() : null;
+        for (int i = 0; i < sourceFields.length; i++) {
+            PropertyCopier directCopier = directCopiers[i];
+            if (directCopier != null && currentReaders == null) {
+                copyDirectly(directCopier, source, target, targetFields[i]);
+                writtenFields.set(i);
+                continue;
+            }
+            Object sourceValue = sourceReaders[i].read(source);
+            if (sourceValue == null) {
+                if (skipNulls) {
+                    continue;
+                }
+            } else if (converters[i] != null) {
+                sourceValue = converters[i].convert(sourceValue, nestedValueMapper);
+            }
+            if (currentReaders != null && Objects.equals(currentReaders[i].read(target), sourceValue)) {
+                continue;
+            }
+            insertionStrategy.insertValue(sourceValue, target, targetFields[i]);
+            writtenFields.set(i);
+        }
+        return writtenFields;
+    }
+
+    private ValueReader[] getTargetReaders() {
+        ValueReader[] readers = targetReaders;
+        if (readers == null) {
+            readers = Arrays.stream(targetFields).map(MappingPlanFactory::getReader).toArray(ValueReader[]::new);
+            targetReaders = readers;
+        }
+        return readers;
+    }
+
+    /**
+     * Copies a field through its direct copier, reporting a failing setter like the default insertion strategy does.
+     */
+    private void copyDirectly(PropertyCopier directCopier, Object source, Object target, Field targetField) {
+        try {
+            directCopier.copy(source, target);
+        } catch (MappingException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            String msg = String.format("Failed to invoke %s field's setter method in %s ",
+                    targetField.getName(), target.getClass().getName());
+            throw new TargetFieldNotAccessibleException(msg, e);
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package org.objectmapper.mapper;
+
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.PropertyCopier;
+import org.objectmapper.accessor.PropertyMethods;
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.annotation.MapFrom;
+import org.objectmapper.bytecode.CopierGenerator;
+import org.objectmapper.bytecode.FieldCopier;
+import org.objectmapper.converter.TypeConverterRegistry;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+import org.objectmapper.exception.TargetFieldNotFoundException;
+import org.objectmapper.exception.TargetObjectInstantiationException;
+import org.objectmapper.metadata.ClassMetadata;
+import org.objectmapper.metadata.ClassMetadataRegistry;
+import org.objectmapper.strategy.ConstructorSelectionStrategy;
+import org.objectmapper.strategy.FieldExclusionStrategy;
+import org.objectmapper.strategy.FieldValueInsertionStrategy;
+import org.objectmapper.strategy.FieldWriteInsertionStrategy;
+import org.objectmapper.strategy.SetterInsertionStrategy;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Builds the {@link MappingPlan} of a (source class, target class) pair from the configured strategies.
+ */
+final class MappingPlanFactory {
+    /**
+     * The field exclusion strategy used to determine which fields to exclude from the mapping.
+     */
+    private final FieldExclusionStrategy fieldExclusionStrategy;
+    /**
+     * The field value insertion strategy, which decides whether a copier class can be generated.
+     */
+    private final FieldValueInsertionStrategy fieldValueInsertionStrategy;
+    /**
+     * The constructor selection strategy used to find the mapping constructor of the target classes.
+     */
+    private final ConstructorSelectionStrategy constructorSelectionStrategy;
+    /**
+     * Whether dedicated copier classes are generated for the mapped type pairs.
+     */
+    private final boolean bytecodeGeneration;
+    /**
+     * The target types of the nested source types, which cannot be passed to a mapping constructor.
+     */
+    private final Map<Class<?>, Class<?>> nestedMappings;
+    /**
+     * The factory resolving the converters of nested objects, containers and values of other types.
+     */
+    private final FieldConverterFactory fieldConverterFactory;
+    /**
+     * The registry of the declared fields of the mapped classes.
+     */
+    private final ClassMetadataRegistry metadataRegistry;
+    /**
+     * The policy deciding which source and target fields match.
+     */
+    private final FieldNamingPolicy namingPolicy;
+    /**
+     * Whether the source fields that cannot be mapped are skipped instead of failing the plan.
+     */
+    private final boolean lenientMapping;
+    /**
+     * The fields of the target classes, keyed by the matching key of the source fields they are mapped from.
+     */
+    private final ClassValue<Map<String, Field>> targetFieldIndexes = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> targetType) {
+            return indexTargetFields(targetType);
+        }
+    };
+
+    MappingPlanFactory(FieldExclusionStrategy fieldExclusionStrategy,
+                       FieldValueInsertionStrategy fieldValueInsertionStrategy,
+                       ConstructorSelectionStrategy constructorSelectionStrategy,
+                       boolean bytecodeGeneration,
+                       Map<Class<?>, Class<?>> nestedMappings,
+                       boolean immutableContainerReuse,
+                       TypeConverterRegistry typeConverters,
+                       ClassMetadataRegistry metadataRegistry,
+                       FieldNamingPolicy namingPolicy,
+                       boolean lenientMapping) {
+        this.fieldExclusionStrategy = fieldExclusionStrategy;
+        this.fieldValueInsertionStrategy = fieldValueInsertionStrategy;
+        this.constructorSelectionStrategy = constructorSelectionStrategy;
+        this.bytecodeGeneration = bytecodeGeneration;
+        this.nestedMappings = Map.copyOf(nestedMappings);
+        this.fieldConverterFactory = new FieldConverterFactory(nestedMappings, immutableContainerReuse,
+                typeConverters);
+        this.metadataRegistry = metadataRegistry;
+        this.namingPolicy = namingPolicy;
+        this.lenientMapping = lenientMapping;
+    }
+
+    /**
+     * Resolves the not excluded source fields and their target counterparts into a new mapping plan. The fields are
+     * matched by the configured {@link FieldNamingPolicy} and the {@link MapFrom} renames, once, so the plan holds the
+     * target field of every source field at the same index. Source fields matching a parameter of the mapping
+     * constructor of the target are passed to the constructor, all the other fields are inserted into the created
+     * target. Inserted nested objects, arrays, collections and maps, as well as values that their target cannot hold,
+     * are planned with the converter resolved by the {@link FieldConverterFactory}.
+     * <p>
+     * In lenient mode, the source fields without a matching target field, without a converter to their target field
+     * or whose values the insertion strategy cannot insert are left out of the plan, and recorded as its unmapped
+     * fields, instead of failing the plan.
+     *
+     * @param sourceType the class of the source object
+     * @param targetType the class of the target object
+     * @return a new mapping plan of the given type pair
+     * @throws TargetFieldNotFoundException       if a target field cannot be found, unless the mapping is lenient.
+     * @throws TargetFieldNotAccessibleException  if a source field cannot be accessed.
+     * @throws TargetObjectInstantiationException if the mapping constructor cannot be resolved.
+     * @throws MappingException                   if a nested field is passed to the mapping constructor, or its target
+     *                                            field cannot hold the nested target type.
+     */
+    MappingPlan create(Class<?> sourceType, Class<?> targetType) {
+        return create(sourceType, targetType, null);
+    }
+
+    /**
+     * Resolves a new mapping plan like {@link #create(Class, Class)}, but collects the problems of the source fields
+     * that cannot be mapped into the given list, and leaves these fields out of the plan, instead of failing on the
+     * first one. The plan is only meant to be prepared further, to find the problems of the other fields: a plan with
+     * problems must not be used. In lenient mode, the fields are recorded as unmapped fields instead.
+     *
+     * @param problems the list collecting the problems of the fields, or {@code null} to fail on the first one
+     * @throws TargetFieldNotAccessibleException  if a source field cannot be accessed.
+     * @throws TargetObjectInstantiationException if the mapping constructor cannot be resolved.
+     */
+    MappingPlan create(Class<?> sourceType, Class<?> targetType, List<MappingException> problems) {
+        Field[] sourceFields = getFields(sourceType).toArray(Field[]::new);
+        ValueReader[] sourceReaders = new ValueReader[sourceFields.length];
+        String[] sourceKeys = new String[sourceFields.length];
+        for (int i = 0; i < sourceFields.length; i++) {
+            sourceReaders[i] = getReader(sourceFields[i]);
+            sourceKeys[i] = namingPolicy.getMatchingKey(sourceFields[i].getName());
+        }
+        boolean[] passedToConstructor = new boolean[sourceFields.length];
+        TargetConstructor targetConstructor = createTargetConstructor(targetType, sourceFields, sourceKeys,
+                sourceReaders, passedToConstructor);
+
+        List<Field> insertedSourceFields = new ArrayList<>();
+        List<ValueReader> insertedSourceReaders = new ArrayList<>();
+        List<Field> targetFields = new ArrayList<>();
+        List<FieldConverter> converters = new ArrayList<>();
+        List<PropertyCopier> directCopiers = new ArrayList<>();
+        List<UnmappedField> unmappedFields = new ArrayList<>();
+        for (int i = 0; i < sourceFields.length; i++) {
+            if (passedToConstructor[i]) {
+                if (nestedMappings.containsKey(sourceFields[i].getType())) {
+                    String msg = String.format(
+                            "Nested %s field cannot be passed to the mapping constructor of %s class",
+                            sourceFields[i].getName(), targetType.getName());
+                    if (Objects.isNull(problems)) {
+                        throw new MappingException(msg);
+                    }
+                    problems.add(new MappingException(msg));
+                }
+                continue;
+            }
+            Field targetField;
+            FieldConverter converter;
+            PropertyCopier directCopier;
+            try {
+                targetField = getMatchingField(targetType, sourceFields[i], sourceKeys[i]);
+                converter = fieldConverterFactory.create(sourceFields[i], targetField);
+                directCopier = createDirectCopier(targetType, sourceFields[i], targetField);
+                if (lenientMapping && Objects.isNull(directCopier)) {
+                    Class<?> valueType = Objects.isNull(converter) ? sourceFields[i].getType() : targetField.getType();
+                    fieldValueInsertionStrategy.prepare(targetType, targetField, valueType);
+                }
+            } catch (MappingException e) {
+                if (!lenientMapping) {
+                    if (Objects.isNull(problems)) {
+                        throw e;
+                    }
+                    problems.add(e);
+                    continue;
+                }
+                unmappedFields.add(new UnmappedField(sourceType.getName(), targetType.getName(),
+                        sourceFields[i].getName(), e.getMessage()));
+                continue;
+            }
+            insertedSourceFields.add(sourceFields[i]);
+            insertedSourceReaders.add(sourceReaders[i]);
+            targetFields.add(targetField);
+            converters.add(converter);
+            directCopiers.add(directCopier);
+        }
+        Field[] insertedFields = insertedSourceFields.toArray(Field[]::new);
+        Field[] insertedTargetFields = targetFields.toArray(Field[]::new);
+        FieldConverter[] insertedConverters = converters.toArray(FieldConverter[]::new);
+        FieldCopier copier = Objects.isNull(targetConstructor)
+                && Arrays.stream(insertedConverters).allMatch(Objects::isNull)
+                ? generateCopier(sourceType, targetType, insertedFields, insertedTargetFields)
+                : null;
+        return new MappingPlan(sourceType, targetType, targetConstructor, insertedFields,
+                insertedSourceReaders.toArray(ValueReader[]::new), insertedTargetFields, insertedConverters,
+                directCopiers.toArray(PropertyCopier[]::new), copier, unmappedFields);
+    }
+
+    /**
+     * Creates the copier of a primitive field pair, which passes the value from the source getter, or the source field,
+     * to the primitive setter of the target without boxing it. As the copier calls the setter directly, it is only
+     * used together with the default {@link SetterInsertionStrategy}. With a {@link FieldWriteInsertionStrategy}, the
+     * copier writes the target field directly instead.
+     *
+     * @return the direct copier, or {@code null} if the value is inserted by the insertion strategy
+     */
+    private PropertyCopier createDirectCopier(Class<?> targetType, Field sourceField, Field targetField) {
+        Class<?> valueType = sourceField.getType();
+        Class<?> strategyType = fieldValueInsertionStrategy.getClass();
+        if (!valueType.isPrimitive() || targetField.getType() != valueType
+                || (strategyType != SetterInsertionStrategy.class && strategyType != FieldWriteInsertionStrategy.class)
+                || metadataRegistry.get(targetType).isExcluded(targetField)) {
+            return null;
+        }
+        try {
+            if (strategyType == FieldWriteInsertionStrategy.class) {
+                return ((FieldWriteInsertionStrategy) fieldValueInsertionStrategy).createCopier(sourceField,
+                        targetField);
+            }
+            Method setter = PropertyMethods.findSetter(targetType, targetField, valueType);
+            if (Objects.isNull(setter)) {
+                return null;
+            }
+            Method getter = PropertyMethods.findGetter(sourceField);
+            return Objects.isNull(getter) ? Accessors.copier(sourceField, setter) : Accessors.copier(getter, setter);
+        } catch (TargetFieldNotAccessibleException e) {
+            // The insertion strategy reports the inaccessible member, if it cannot insert the value either.
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the mapping constructor of the target type, if it has one, and matches its parameters to the source
+     * fields by name, or by the {@link MapFrom} rename of the record component of the same name. Parameters without a
+     * matching source field receive the default value of their type. Source values that a parameter cannot hold are
+     * passed through their type converter.
+     *
+     * @param passedToConstructor the flags of the source fields, which are set for the fields passed to the constructor
+     * @return the resolved constructor, or {@code null} if the target has no mapping constructor
+     */
+    private TargetConstructor createTargetConstructor(Class<?> targetType,
+                                                      Field[] sourceFields,
+                                                      String[] sourceKeys,
+                                                      ValueReader[] sourceReaders,
+                                                      boolean[] passedToConstructor) {
+        Constructor<?> constructor = constructorSelectionStrategy.select(targetType);
+        if (Objects.isNull(constructor)) {
+            return null;
+        }
+        String[] parameterNames = getParameterNames(constructor);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        ValueReader[] argumentReaders = new ValueReader[parameterNames.length];
+        for (int i = 0; i < parameterNames.length; i++) {
+            int sourceIndex = indexOf(sourceKeys, getParameterKey(targetType, parameterNames[i]));
+            if (sourceIndex < 0) {
+                Object defaultValue = getDefaultValue(parameterTypes[i]);
+                argumentReaders[i] = source -> defaultValue;
+            } else {
+                argumentReaders[i] = getArgumentReader(sourceReaders[sourceIndex], sourceFields[sourceIndex],
+                        parameterTypes[i], parameterNames[i]);
+                passedToConstructor[sourceIndex] = true;
+            }
+        }
+        return new TargetConstructor(Accessors.constructorInvoker(constructor), argumentReaders, targetType.getName());
+    }
+
+    private ValueReader getArgumentReader(ValueReader sourceReader, Field sourceField,
+                                          Class<?> parameterType, String parameterName) {
+        FieldConverter converter = fieldConverterFactory.createTypeConverter(sourceField.getType(), parameterType,
+                parameterName);
+        if (Objects.isNull(converter)) {
+            return sourceReader;
+        }
+        return source -> {
+            Object sourceValue = sourceReader.read(source);
+            return Objects.isNull(sourceValue) ? null : converter.convert(sourceValue, null);
+        };
+    }
+
+    private String[] getParameterNames(Constructor<?> constructor) {
+        Class<?> type = constructor.getDeclaringClass();
+        if (type.isRecord() && isCanonical(constructor)) {
+            return Stream.of(type.getRecordComponents()).map(RecordComponent::getName).toArray(String[]::new);
+        }
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isNamePresent()) {
+                String msg = String.format("Unable to resolve the parameter names of %s class constructor. "
+                        + "The class must be compiled with the -parameters option", type.getName());
+                throw new TargetObjectInstantiationException(msg);
+            }
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+
+    private boolean isCanonical(Constructor<?> constructor) {
+        Class<?>[] componentTypes = Stream.of(constructor.getDeclaringClass().getRecordComponents())
+                .map(RecordComponent::getType)
+                .toArray(Class<?>[]::new);
+        return Arrays.equals(componentTypes, constructor.getParameterTypes());
+    }
+
+    private String getParameterKey(Class<?> targetType, String parameterName) {
+        Field field = metadataRegistry.get(targetType).getDeclaredField(parameterName);
+        MapFrom mapFrom = Objects.isNull(field) ? null : field.getAnnotation(MapFrom.class);
+        return namingPolicy.getMatchingKey(Objects.isNull(mapFrom) ? parameterName : mapFrom.value());
+    }
+
+    private int indexOf(String[] keys, String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object getDefaultValue(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    /**
+     * Generates a dedicated copier class of the type pair, if bytecode generation is enabled. As the generated code
+     * calls the setters directly, it is only used together with the default {@link SetterInsertionStrategy}.
+     *
+     * @return the generated copier, or {@code null} if the fields are copied through the insertion strategy
+     */
+    private FieldCopier generateCopier(Class<?> sourceType, Class<?> targetType,
+                                       Field[] sourceFields, Field[] targetFields) {
+        if (!bytecodeGeneration || fieldValueInsertionStrategy.getClass() != SetterInsertionStrategy.class) {
+            return null;
+        }
+        return CopierGenerator.generate(sourceType, targetType, sourceFields, targetFields);
+    }
+
+    /**
+     * Resolves the not excluded fields of the given class, and their readers, into the schema of its maps.
+     *
+     * @param type the class of the beans
+     * @return a new schema of the class
+     * @throws TargetFieldNotAccessibleException if a field cannot be accessed.
+     */
+    BeanSchema createSchema(Class<?> type) {
+        Field[] fields = getFields(type).toArray(Field[]::new);
+        ValueReader[] readers = new ValueReader[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            readers[i] = getReader(fields[i]);
+        }
+        return new BeanSchema(fields, readers, fieldConverterFactory);
+    }
+
+    /**
+     * Returns the reader of a source or target field. The public getter of the field is preferred, because it is
+     * invoked through a directly linked accessor class, and the field itself is only read when there is no such getter.
+     *
+     * @param field the field to read
+     * @return the reader of the field
+     * @throws TargetFieldNotAccessibleException if neither the getter nor the field can be accessed.
+     */
+    static ValueReader getReader(Field field) {
+        Method getter = PropertyMethods.findGetter(field);
+        if (Objects.isNull(getter)) {
+            return Accessors.reader(field);
+        }
+        return Accessors.reader(getter);
+    }
+
+    /**
+     * Returns a stream of the declared and inherited fields of the given source type, excluding the ones defined in
+     * the fieldExclusionStrategy.
+     *
+     * @param sourceType the class from which to retrieve the fields
+     * @return a stream of all fields of the source type excluding the excluded ones
+     */
+    private Stream<Field> getFields(Class<?> sourceType) {
+        return fieldExclusionStrategy.filter(metadataRegistry.get(sourceType).getFields().stream());
+    }
+
+    /**
+     * Returns the target field that the given source field is mapped to.
+     *
+     * @param targetType  the target type
+     * @param sourceField the source field
+     * @param sourceKey   the matching key of the source field name
+     * @return the declared or inherited target field matching the source field
+     * @throws TargetFieldNotFoundException if no field of the target type matches the source field
+     */
+    private Field getMatchingField(Class<?> targetType, Field sourceField, String sourceKey) {
+        Field field = targetFieldIndexes.get(targetType).get(sourceKey);
+        if (Objects.isNull(field)) {
+            String msg = String.format("Unable to find %s field in %s class",
+                    sourceField.getName(), targetType.getName());
+            throw new TargetFieldNotFoundException(msg);
+        }
+        return field;
+    }
+
+    /**
+     * Indexes the declared and inherited fields of the target type by the matching key of their name, or of the
+     * source field name given by their {@link MapFrom} annotation. A field hides the fields of its superclasses with
+     * the same key.
+     *
+     * @throws MappingException if two fields declared by the same class have the same key.
+     */
+    private Map<String, Field> indexTargetFields(Class<?> targetType) {
+        ClassMetadata metadata = metadataRegistry.get(targetType);
+        Map<String, Field> index = new HashMap<>();
+        for (Field field : metadata.getFields()) {
+            MapFrom mapFrom = field.getAnnotation(MapFrom.class);
+            String key = namingPolicy.getMatchingKey(Objects.isNull(mapFrom) ? field.getName() : mapFrom.value());
+            Field indexed = index.putIfAbsent(key, field);
+            if (Objects.nonNull(indexed) && indexed.getDeclaringClass() == field.getDeclaringClass()) {
+                String msg = String.format("Fields %s and %s of %s class match the same source field",
+                        indexed.getName(), field.getName(), targetType.getName());
+                throw new MappingException(msg);
+            }
+        }
+        return Map.copyOf(index);
+    }
+}
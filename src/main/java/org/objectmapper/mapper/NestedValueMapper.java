@@ -0,0 +1,27 @@
+package org.objectmapper.mapper;
+
+/**
+ * Maps a nested source object to the target object inserted in its place.
+ */
+interface NestedValueMapper {
+    /**
+     * Returns the target object of the given nested source object.
+     *
+     * @param sourceValue the nested source object, never {@code null}
+     * @param targetType  the type the nested object is mapped to
+     * @return the target object of the nested source object
+     */
+    Object map(Object sourceValue, Class<?> targetType);
+
+    /**
+     * Returns the target object of the given nested source object, with the fields of the target and of the nested
+     * objects it reaches already copied, so the target can be hashed or compared, e.g. as an element of a set or a key
+     * of a map. Only the objects whose fields are being copied, i.e. the targets on a cycle back to the object, may
+     * still be incomplete.
+     *
+     * @param sourceValue the nested source object, never {@code null}
+     * @param targetType  the type the nested object is mapped to
+     * @return the target object of the nested source object
+     */
+    Object mapCompletely(Object sourceValue, Class<?> targetType);
+}
@@ -0,0 +1,15 @@
+package org.objectmapper.mapper;
+
+/**
+ * Decides what a patch does with the {@code null} values of the source object.
+ */
+public enum NullValuePolicy {
+    /**
+     * Null source values are not written, so the target field keeps its current value.
+     */
+    SKIP,
+    /**
+     * Null source values are written into the target field like any other value.
+     */
+    WRITE
+}
@@ -0,0 +1,169 @@
+package org.objectmapper.mapper;
+
+import org.objectmapper.strategy.FieldValueInsertionStrategy;
+import org.objectmapper.strategy.ObjectFactory;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Maps the graph of nested objects reachable from a source object in a single pass.
+ * <p>
+ * Every nested source object is mapped to exactly one target object, which is remembered in an identity map, so
+ * shared references and cycles of the source graph are kept in the target graph. When a nested source object is seen
+ * for the first time, its target is created and inserted into the parent right away, and the copying of its own fields
+ * is pushed onto an explicit work stack. The walker therefore needs constant call stack depth, however deep the graph
+ * is. The mapping plan of every level is taken from the plan cache of the mapper.
+ * <p>
+ * The elements of sets and the keys of maps are hashed or compared as soon as they are inserted, so their fields, and
+ * the fields of the objects they reach, are copied before they are returned by {@link #mapCompletely}. Only this nested
+ * copying uses the call stack, once per level of sets or map keys nested in one another.
+ * <p>
+ * A walker maps one graph and must not be shared between threads.
+ */
+final class ObjectGraphWalker implements NestedValueMapper {
+    /**
+     * The lookup of the cached mapping plan of a (source class, target class) pair.
+     */
+    private final BiFunction<Class<?>, Class<?>, MappingPlan> plans;
+    private final ObjectFactory objectFactory;
+    private final FieldValueInsertionStrategy insertionStrategy;
+    /**
+     * The targets of the already visited source objects.
+     */
+    private final Map<Object, Object> targets = new IdentityHashMap<>();
+    /**
+     * The visited objects whose fields have not been copied yet.
+     */
+    private final Deque<PendingCopy> pendingCopies = new ArrayDeque<>();
+    /**
+     * The plan of the last mapped nested object, which is reused while the nested objects have the same types, e.g.
+     * for the elements of a collection.
+     */
+    private MappingPlan lastPlan;
+
+    ObjectGraphWalker(BiFunction<Class<?>, Class<?>, MappingPlan> plans,
+                      ObjectFactory objectFactory,
+                      FieldValueInsertionStrategy insertionStrategy) {
+        this.plans = plans;
+        this.objectFactory = objectFactory;
+        this.insertionStrategy = insertionStrategy;
+    }
+
+    /**
+     * Copies the fields of the source object into the target object, mapping the nested objects of the whole graph.
+     *
+     * @param plan   the mapping plan of the source and target objects
+     * @param source the root of the source graph
+     * @param target the root of the target graph
+     */
+    void copy(MappingPlan plan, Object source, Object target) {
+        targets.put(source, target);
+        pendingCopies.push(new PendingCopy(plan, source, target));
+        copyPending();
+    }
+
+    /**
+     * Patches the target object with the fields of the source object. The nested objects written by the patch are
+     * mapped to new target objects with all of their fields, like the nested objects of {@link #copy}.
+     *
+     * @param plan   the mapping plan of the source and target objects
+     * @param source the root of the source graph
+     * @param target the patched target object
+     * @param policy the policy deciding which values of the root are written
+     * @return the bits of the written fields of the root, in the order of the plan
+     */
+    BitSet patch(MappingPlan plan, Object source, Object target, PatchPolicy policy) {
+        targets.put(source, target);
+        BitSet writtenFields = plan.patch(source, target, insertionStrategy, policy, this);
+        copyPending();
+        return writtenFields;
+    }
+
+    private void copyPending() {
+        copyPending(0);
+    }
+
+    /**
+     * Copies the fields of the pending objects until only the given number of them is left.
+     */
+    private void copyPending(int remaining) {
+        while (pendingCopies.size() > remaining) {
+            PendingCopy pendingCopy = pendingCopies.pop();
+            pendingCopy.plan.copy(pendingCopy.source, pendingCopy.target, insertionStrategy, this);
+        }
+    }
+
+    /**
+     * Returns the target of a nested source object, creating it and scheduling the copying of its fields when the
+     * object is visited for the first time.
+     */
+    @Override
+    public Object map(Object sourceValue, Class<?> targetType) {
+        Object target = targets.get(sourceValue);
+        if (targetType.isInstance(target)) {
+            return target;
+        }
+        MappingPlan plan = lastPlan;
+        if (plan == null || plan.getSourceType() != sourceValue.getClass() || plan.getTargetType() != targetType) {
+            plan = plans.apply(sourceValue.getClass(), targetType);
+            lastPlan = plan;
+        }
+        target = plan.createTarget(sourceValue, objectFactory);
+        targets.put(sourceValue, target);
+        pendingCopies.push(new PendingCopy(plan, sourceValue, target));
+        return target;
+    }
+
+    /**
+     * Returns the target of a nested source object, copying its fields, and the fields of the objects it reaches,
+     * before returning it. A target that was created before but whose fields have not been copied yet is copied first.
+     */
+    @Override
+    public Object mapCompletely(Object sourceValue, Class<?> targetType) {
+        int remaining = pendingCopies.size();
+        Object target = map(sourceValue, targetType);
+        if (pendingCopies.size() == remaining && movePendingCopyToTop(sourceValue)) {
+            remaining--;
+        }
+        copyPending(remaining);
+        return target;
+    }
+
+    /**
+     * Moves the pending copy of the given source object to the top of the work stack.
+     *
+     * @return whether the fields of the object have not been copied yet
+     */
+    private boolean movePendingCopyToTop(Object sourceValue) {
+        for (Iterator<PendingCopy> iterator = pendingCopies.iterator(); iterator.hasNext(); ) {
+            PendingCopy pendingCopy = iterator.next();
+            if (pendingCopy.source == sourceValue) {
+                iterator.remove();
+                pendingCopies.push(pendingCopy);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A created target object whose fields have not been copied from its source object yet.
+     */
+    private static final class PendingCopy {
+        private final MappingPlan plan;
+        private final Object source;
+        private final Object target;
+
+        private PendingCopy(MappingPlan plan, Object source, Object target) {
+            this.plan = plan;
+            this.source = source;
+            this.target = target;
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package org.objectmapper.mapper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 /**
  * An interface representing an object mapper that can map objects from one type to another.
  */
@@ -15,4 +22,97 @@ public interface ObjectMapper {
      */
     <S, T> T mapObject(S source, Class<T> targetType);
 
+    /**
+     * Maps an object of type S into an existing object of type T, instead of creating a new target object.
+     * Mappers that cannot write into existing objects do not override this method.
+     *
+     * @param source the object to map from
+     * @param target the object to map into
+     * @param <S>    the type of the source object
+     * @param <T>    the type of the target object
+     * @return the given target object
+     * @throws UnsupportedOperationException if the mapper does not support mapping into existing objects
+     */
+    default <S, T> T mapInto(S source, T target) {
+        throw new UnsupportedOperationException(
+                String.format("%s does not support mapping into existing objects.", getClass().getName()));
+    }
+
+    /**
+     * Maps every source object into the target object at the same index, so a loop reusing the same targets does not
+     * allocate any target objects.
+     *
+     * @param sources the objects to map from
+     * @param targets the objects to map into, {@code targets[i]} receives the values of {@code sources[i]}
+     * @param <S>     the type of the source objects
+     * @param <T>     the type of the target objects
+     * @throws IllegalArgumentException      if the arrays or any of their elements are null, or their lengths differ
+     * @throws UnsupportedOperationException if the mapper does not support mapping into existing objects
+     */
+    default <S, T> void mapAllInto(S[] sources, T[] targets) {
+        if (Objects.isNull(sources) || Objects.isNull(targets) || sources.length != targets.length) {
+            throw new IllegalArgumentException(
+                    "Invalid parameters! Source and target objects cannot be null and must have the same length.");
+        }
+        for (int i = 0; i < sources.length; i++) {
+            mapInto(sources[i], targets[i]);
+        }
+    }
+
+    /**
+     * Maps every object of the collection to an object of type T.
+     *
+     * @param sources    the objects to map from
+     * @param targetType the class of the target objects to map to
+     * @param <S>        the type of the source objects
+     * @param <T>        the type of the target objects
+     * @return the mapped target objects in the iteration order of the collection
+     * @throws IllegalArgumentException if {@code sources}, {@code targetType} or a source object is null
+     */
+    default <S, T> List<T> mapAll(Collection<S> sources, Class<T> targetType) {
+        if (Objects.isNull(sources) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source objects and target type cannot be null.");
+        }
+        List<T> targets = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            targets.add(mapObject(source, targetType));
+        }
+        return targets;
+    }
+
+    /**
+     * Maps every object of the array to an object of type T.
+     *
+     * @param sources    the objects to map from
+     * @param targetType the class of the target objects to map to
+     * @param <S>        the type of the source objects
+     * @param <T>        the type of the target objects
+     * @return the mapped target objects in the order of the array
+     * @throws IllegalArgumentException if {@code sources}, {@code targetType} or a source object is null
+     */
+    default <S, T> List<T> mapAll(S[] sources, Class<T> targetType) {
+        if (Objects.isNull(sources) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source objects and target type cannot be null.");
+        }
+        return mapAll(Arrays.asList(sources), targetType);
+    }
+
+    /**
+     * Lazily maps every object of the stream to an object of type T. The objects are mapped when the returned stream
+     * is consumed.
+     *
+     * @param sources    the objects to map from
+     * @param targetType the class of the target objects to map to
+     * @param <S>        the type of the source objects
+     * @param <T>        the type of the target objects
+     * @return the stream of the mapped target objects
+     * @throws IllegalArgumentException if {@code sources} or {@code targetType} is null, or when the stream is
+     *                                  consumed, if a source object is null
+     */
+    default <S, T> Stream<T> mapStream(Stream<S> sources, Class<T> targetType) {
+        if (Objects.isNull(sources) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source objects and target type cannot be null.");
+        }
+        return sources.map(source -> mapObject(source, targetType));
+    }
 }
@@ -1,26 +1,103 @@
 package org.objectmapper.mapper;
 
-import org.objectmapper.annotation.ExcludeFromMapping;
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.converter.TypeConverter;
+import org.objectmapper.converter.TypeConverterRegistry;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.MappingValidationException;
 import org.objectmapper.exception.TargetFieldNotAccessibleException;
 import org.objectmapper.exception.TargetFieldNotFoundException;
+import org.objectmapper.jfr.BatchMappingEvent;
+import org.objectmapper.jfr.PlanCompilationEvent;
+import org.objectmapper.jfr.SlowMappingEvent;
+import org.objectmapper.metadata.ClassMetadataRegistry;
+import org.objectmapper.metrics.MappingListener;
+import org.objectmapper.strategy.ConstructorSelectionStrategy;
+import org.objectmapper.strategy.FieldAccessMode;
+import org.objectmapper.strategy.FieldWriteInsertionStrategy;
 import org.objectmapper.strategy.ObjectFactory;
 import org.objectmapper.strategy.StrategyFactory;
 import org.objectmapper.strategy.TargetObjectFactory;
-import org.objectmapper.strategy.AnnotationExclusionStrategy;
 import org.objectmapper.strategy.FieldExclusionStrategy;
 import org.objectmapper.strategy.FieldValueInsertionStrategy;
-import org.objectmapper.strategy.SetterInsertionStrategy;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * A utility class that maps fields from a source object to a target object using Java reflection. The source and target
  * objects can be of different types as long as they have the same fields. This implementation provides default strategies
  * for handling excluded fields and field value insertion.
+ * <p>
+ * The fields to copy are resolved only once per (source class, target class) pair into an immutable
+ * {@link MappingPlan}, which is cached by the mapper instance and reused by every later mapping of the same pair.
+ * The source values are read through accessors created by {@link Accessors}, so no reflective call is made on the
+ * mapping hot path. Records and classes with a {@link org.objectmapper.annotation.MappingConstructor} are created
+ * directly from the source values through that constructor.
+ * <p>
+ * Nested objects are copied as references by default. When a nested mapping is registered for a source type with
+ * {@link Builder#withNestedMapping(Class, Class)}, every field declared with that type is mapped to the registered
+ * target type instead, together with the whole graph reachable from it. Shared references and cycles are mapped to a
+ * single target object each. Array, collection and map fields are copied into new containers of the target field
+ * type, whose elements are mapped the same way.
+ * <p>
+ * Values that their target field cannot hold, e.g. an {@code Integer} value of a {@code long} field, are converted by
+ * the {@link TypeConverter} of the pair of field types. The converters are resolved once per field pair from the
+ * built-in converters of the {@link TypeConverterRegistry} and the ones registered with
+ * {@link Builder#withTypeConverter(Class, Class, TypeConverter)}.
+ * <p>
+ * Objects are mapped to and from maps of their field values with {@link #toMap(Object)} and
+ * {@link #fromMap(Map, Class)}. The fields of a class are resolved once into a schema, whose key table is shared by
+ * every map created from an object of that class.
+ * <p>
+ * By default, a source field that cannot be mapped fails the mapping of its pair. A mapper built with
+ * {@link Builder#withLenientMapping(boolean)} leaves such fields out of the plan instead: they are detected once, when
+ * the plan is built, skipped by every mapping of the pair without any exception, and reported by
+ * {@link #getDiagnostics()}.
+ * <p>
+ * Type pairs registered with {@link Builder#register(Class, Class)} are planned and validated when the mapper is built,
+ * so their problems surface at startup instead of on the first mapping, and the first mapping of a pair is as fast as
+ * the later ones.
+ * <p>
+ * The fields, exclusion annotations and setters of the mapped classes are read from a shared
+ * {@link ClassMetadataRegistry}, so mappers of the same classes do not discover them again. The registry holds no
+ * reference to the classes, and a cached plan is held by the class of its pair whose class loader lives longer, so the
+ * classes of a child or plugin class loader can be unloaded together with it while the mapper is still in use.
+ * <p>
+ * The costs of the mapper can be observed with a {@link MappingListener} registered with
+ * {@link Builder#withMappingListener(MappingListener)}, which is told about every mapped object, failure and plan cache
+ * lookup. Without a listener, nothing is measured. The mapper also emits Java Flight Recorder events for the plans it
+ * builds, the mappings slower than a threshold and the completed batch mappings, see the {@code org.objectmapper.jfr}
+ * package; like every JFR event, they cost next to nothing while they are not enabled in the recording settings.
+ * <p>
+ * Instances are thread-safe as long as the configured strategies are, which holds for all default strategies, so a
+ * single mapper can be shared by every thread of an application. Large lists can be mapped on several cores with
+ * {@link #mapAllParallel(List, Class, ForkJoinPool)}.
  */
 public class ObjectMapperImpl implements ObjectMapper {
+    /**
+     * The size below which {@code mapAllParallel} maps the sources on the calling thread, because splitting them would
+     * cost more than it saves.
+     */
+    static final int PARALLEL_THRESHOLD = 1024;
+    /**
+     * The smallest number of sources a parallel mapping task maps without splitting them further.
+     */
+    private static final int MIN_CHUNK_SIZE = 256;
     /**
      * The object factory used to create new target objects.
      */
@@ -30,26 +107,83 @@ public class ObjectMapperImpl implements ObjectMapper {
      */
     private final FieldValueInsertionStrategy fieldValueInsertionStrategy;
     /**
-     * The field exclusion strategy used to determine which fields to exclude from the mapping.
+     * The factory building the mapping plans from the configured strategies.
+     */
+    private final MappingPlanFactory planFactory;
+    /**
+     * The listener of the mapping events, or {@code null} if the events are not reported.
+     */
+    private final MappingListener mappingListener;
+    /**
+     * The source fields left out of the plans built so far, in lenient mode.
+     */
+    private final Queue<UnmappedField> unmappedFields = new ConcurrentLinkedQueue<>();
+    /**
+     * The cached mapping plans, grouped by source class and keyed by target class.
      */
-    private final FieldExclusionStrategy fieldExclusionStrategy;
+    private final ClassValue<SourcePlans> plans = new ClassValue<>() {
+        @Override
+        protected SourcePlans computeValue(Class<?> sourceType) {
+            return new SourcePlans(sourceType);
+        }
+    };
 
     /**
-     * Constructs an {@code ObjectMapperImpl} object with the given mapping configuration and object factory.
+     * The cached schemas of the classes mapped to and from maps.
+     */
+    private final ClassValue<BeanSchema> schemas = new ClassValue<>() {
+        @Override
+        protected BeanSchema computeValue(Class<?> type) {
+            return planFactory.createSchema(type);
+        }
+    };
+
+    /**
+     * Constructs an {@code ObjectMapperImpl} object with the given strategies and mapping configuration.
      *
-     * @param objectFactory the object factory.
-     * @throws IllegalArgumentException if either {@code mappingConfig} or {@code initializer} is null.
+     * @param objectFactory           the object factory.
+     * @param insertionStrategy       the strategy inserting the values into the target fields.
+     * @param exclusionStrategy       the strategy excluding source fields from the mapping.
+     * @param constructorStrategy     the strategy selecting the mapping constructor of the target classes.
+     * @param bytecodeGeneration      whether dedicated copier classes are generated for the mapped type pairs.
+     * @param nestedMappings          the target types of the nested source types.
+     * @param immutableContainerReuse whether unmodifiable source containers are inserted instead of copied.
+     * @param typeConverters          the converters of the values that their target cannot hold.
+     * @param mappingListener         the listener of the mapping events, or {@code null}.
+     * @param metadataRegistry        the registry of the fields of the mapped classes.
+     * @param namingPolicy            the policy matching the source and target fields.
+     * @param lenientMapping          whether the source fields that cannot be mapped are skipped.
+     * @throws NullPointerException if any parameter but {@code mappingListener} is null.
      */
     ObjectMapperImpl(ObjectFactory objectFactory,
                      FieldValueInsertionStrategy insertionStrategy,
-                     FieldExclusionStrategy exclusionStrategy) {
+                     FieldExclusionStrategy exclusionStrategy,
+                     ConstructorSelectionStrategy constructorStrategy,
+                     boolean bytecodeGeneration,
+                     Map<Class<?>, Class<?>> nestedMappings,
+                     boolean immutableContainerReuse,
+                     TypeConverterRegistry typeConverters,
+                     MappingListener mappingListener,
+                     ClassMetadataRegistry metadataRegistry,
+                     FieldNamingPolicy namingPolicy,
+                     boolean lenientMapping) {
 
         this.objectFactory = Objects.requireNonNull(objectFactory,
                 "Object initializer cannot be null.");
-        this.fieldExclusionStrategy = Objects.requireNonNull(exclusionStrategy,
-                "Field exclusion strategy cannot be null.");
         this.fieldValueInsertionStrategy = Objects.requireNonNull(insertionStrategy,
                 "Field insertion strategy cannot be null.");
+        this.planFactory = new MappingPlanFactory(
+                Objects.requireNonNull(exclusionStrategy, "Field exclusion strategy cannot be null."),
+                insertionStrategy,
+                Objects.requireNonNull(constructorStrategy, "Constructor selection strategy cannot be null."),
+                bytecodeGeneration,
+                Objects.requireNonNull(nestedMappings, "Nested mappings cannot be null."),
+                immutableContainerReuse,
+                Objects.requireNonNull(typeConverters, "Type converter registry cannot be null."),
+                Objects.requireNonNull(metadataRegistry, "Metadata registry cannot be null."),
+                Objects.requireNonNull(namingPolicy, "Field naming policy cannot be null."),
+                lenientMapping);
+        this.mappingListener = mappingListener;
     }
 
     /**
@@ -69,23 +203,373 @@ public class ObjectMapperImpl implements ObjectMapper {
         if (Objects.isNull(source) || Objects.isNull(targetType)) {
             throw new IllegalArgumentException("Invalid parameters! Source object and target type cannot be null.");
         }
-        return copySourceFieldsToTarget(source, targetType);
+        return copySourceFieldsToTarget(getPlan(source.getClass(), targetType), source, targetType);
+    }
+
+    /**
+     * Maps the fields of the source object into the given target object through the same mapping plan and insertion
+     * strategy as {@link #mapObject(Object, Class)}, without creating a new target object.
+     *
+     * @param source the source object.
+     * @param target the target object.
+     * @param <S>    the type of the source object.
+     * @param <T>    the type of the target object.
+     * @return the given target object.
+     * @throws IllegalArgumentException          if either {@code source} or {@code target} is null, or the target class
+     *                                           is created through a mapping constructor.
+     * @throws TargetFieldNotFoundException      if the target field cannot be found.
+     * @throws TargetFieldNotAccessibleException if the target field cannot be accessed.
+     */
+    @Override
+    public <S, T> T mapInto(S source, T target) {
+        if (Objects.isNull(source) || Objects.isNull(target)) {
+            throw new IllegalArgumentException("Invalid parameters! Source and target objects cannot be null.");
+        }
+        copyFieldsInto(getIntoPlan(source.getClass(), target.getClass()), source, target);
+        return target;
+    }
+
+    /**
+     * Writes the fields of the source object into the target object through the same mapping plan and insertion
+     * strategy as {@link #mapInto(Object, Object)}, skipping the values the policy rejects. Fields that are skipped
+     * are not passed to the insertion strategy at all, so their setters are not called.
+     *
+     * @param source the object holding the new values.
+     * @param target the object to patch.
+     * @param policy the policy deciding which values are written.
+     * @param <S>    the type of the source object.
+     * @param <T>    the type of the target object.
+     * @return the fields written into the target object.
+     * @throws IllegalArgumentException          if {@code source}, {@code target} or {@code policy} is null, or the
+     *                                           target class is created through a mapping constructor.
+     * @throws TargetFieldNotFoundException      if the target field cannot be found.
+     * @throws TargetFieldNotAccessibleException if the target field cannot be accessed.
+     */
+    public <S, T> PatchResult patch(S source, T target, PatchPolicy policy) {
+        if (Objects.isNull(source) || Objects.isNull(target) || Objects.isNull(policy)) {
+            throw new IllegalArgumentException("Invalid parameters! Source, target and patch policy cannot be null.");
+        }
+        MappingPlan plan = getIntoPlan(source.getClass(), target.getClass());
+        return new PatchResult(plan.getTargetFieldNames(), patchFields(plan, source, target, policy));
+    }
+
+    /**
+     * Writes the non-null fields of the source object into the target object, as configured by
+     * {@link PatchPolicy#DEFAULT}.
+     *
+     * @see #patch(Object, Object, PatchPolicy)
+     */
+    public <S, T> PatchResult patch(S source, T target) {
+        return patch(source, target, PatchPolicy.DEFAULT);
+    }
+
+    /**
+     * Maps the not excluded fields of the source object to an unmodifiable map, keyed by the field names in the order
+     * of the fields. The map holds the values in an array, and shares its keys with every map of the same class.
+     *
+     * @param source the source object.
+     * @return the map of the field values of the source object.
+     * @throws IllegalArgumentException          if {@code source} is null.
+     * @throws TargetFieldNotAccessibleException if a field of the source class cannot be accessed.
+     */
+    public Map<String, Object> toMap(Object source) {
+        if (Objects.isNull(source)) {
+            throw new IllegalArgumentException("Invalid parameters! Source object cannot be null.");
+        }
+        return schemas.get(source.getClass()).read(source);
+    }
+
+    /**
+     * Creates a target object with the object factory, and inserts the values of the map into its not excluded fields
+     * of the same name with the insertion strategy. The fields without a key in the map keep their initial value, and
+     * the keys without a field are ignored. Values that their field cannot hold are converted like the values of a
+     * mapped object.
+     *
+     * @param source     the map of the field values.
+     * @param targetType the target object type.
+     * @param <T>        the type of the target object.
+     * @return the target object with the fields mapped from the map.
+     * @throws IllegalArgumentException          if either {@code source} or {@code targetType} is null.
+     * @throws TargetFieldNotAccessibleException if a field of the target class cannot be accessed.
+     */
+    public <T> T fromMap(Map<String, ?> source, Class<T> targetType) {
+        if (Objects.isNull(source) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source map and target type cannot be null.");
+        }
+        T target = objectFactory.create(targetType);
+        schemas.get(targetType).write(source, target, fieldValueInsertionStrategy);
+        return target;
+    }
+
+    /**
+     * Maps every source object into the target object at the same index. The mapping plan is resolved once for the
+     * batch, and again only when the class of the source or target objects changes.
+     *
+     * @throws IllegalArgumentException if the arrays or any of their elements are null, their lengths differ, or a
+     *                                  target class is created through a mapping constructor.
+     */
+    @Override
+    public <S, T> void mapAllInto(S[] sources, T[] targets) {
+        if (Objects.isNull(sources) || Objects.isNull(targets) || sources.length != targets.length) {
+            throw new IllegalArgumentException(
+                    "Invalid parameters! Source and target objects cannot be null and must have the same length.");
+        }
+        BatchMappingEvent event = BatchMappingEvent.start();
+        MappingPlan plan = null;
+        for (int i = 0; i < sources.length; i++) {
+            S source = sources[i];
+            T target = targets[i];
+            if (Objects.isNull(source) || Objects.isNull(target)) {
+                throw new IllegalArgumentException("Invalid parameters! Source and target objects cannot be null.");
+            }
+            if (Objects.isNull(plan) || plan.getSourceType() != source.getClass()
+                    || plan.getTargetType() != target.getClass()) {
+                plan = getIntoPlan(source.getClass(), target.getClass());
+            }
+            copyFieldsInto(plan, source, target);
+        }
+        if (Objects.nonNull(event)) {
+            event.complete(targets.getClass().getComponentType(), targets.length, false);
+        }
+    }
+
+    /**
+     * Maps every object of the collection to an object of the target type. The mapping plan is resolved once for the
+     * batch, and again only when the class of the source objects changes.
+     *
+     * @throws IllegalArgumentException if {@code sources}, {@code targetType} or a source object is null.
+     */
+    @Override
+    public <S, T> List<T> mapAll(Collection<S> sources, Class<T> targetType) {
+        if (Objects.isNull(sources) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source objects and target type cannot be null.");
+        }
+        BatchMappingEvent event = BatchMappingEvent.start();
+        BatchMapper<T> batchMapper = new BatchMapper<>(targetType);
+        List<T> targets = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            targets.add(batchMapper.apply(source));
+        }
+        if (Objects.nonNull(event)) {
+            event.complete(targetType, targets.size(), false);
+        }
+        return targets;
+    }
+
+    /**
+     * Maps every object of the array to an object of the target type. The mapping plan is resolved once for the
+     * batch, and again only when the class of the source objects changes.
+     *
+     * @throws IllegalArgumentException if {@code sources}, {@code targetType} or a source object is null.
+     */
+    @Override
+    public <S, T> List<T> mapAll(S[] sources, Class<T> targetType) {
+        if (Objects.isNull(sources) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source objects and target type cannot be null.");
+        }
+        BatchMappingEvent event = BatchMappingEvent.start();
+        BatchMapper<T> batchMapper = new BatchMapper<>(targetType);
+        List<T> targets = new ArrayList<>(sources.length);
+        for (S source : sources) {
+            targets.add(batchMapper.apply(source));
+        }
+        if (Objects.nonNull(event)) {
+            event.complete(targetType, targets.size(), false);
+        }
+        return targets;
+    }
+
+    /**
+     * Lazily maps every object of the stream to an object of the target type. The mapping plan is resolved once for
+     * the stream, and again only when the class of the source objects changes.
+     *
+     * @throws IllegalArgumentException if {@code sources} or {@code targetType} is null, or when the stream is
+     *                                  consumed, if a source object is null.
+     */
+    @Override
+    public <S, T> Stream<T> mapStream(Stream<S> sources, Class<T> targetType) {
+        if (Objects.isNull(sources) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source objects and target type cannot be null.");
+        }
+        return sources.map(new BatchMapper<>(targetType));
+    }
+
+    /**
+     * Maps every object of the list to an object of the target type on the threads of the common fork/join pool.
+     *
+     * @see #mapAllParallel(List, Class, ForkJoinPool)
+     */
+    public <S, T> List<T> mapAllParallel(List<S> sources, Class<T> targetType) {
+        return mapAllParallel(sources, targetType, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Maps every object of the list to an object of the target type on the threads of the given pool. The list is
+     * split into chunks, which are mapped concurrently, and the targets are returned in the order of the sources.
+     * Lists smaller than {@value #PARALLEL_THRESHOLD} elements are mapped on the calling thread.
+     *
+     * @param sources    the objects to map from
+     * @param targetType the class of the target objects to map to
+     * @param pool       the pool to map the chunks on
+     * @param <S>        the type of the source objects
+     * @param <T>        the type of the target objects
+     * @return the mapped target objects in the order of the list
+     * @throws IllegalArgumentException if {@code sources}, {@code targetType}, {@code pool} or a source object is null.
+     */
+    public <S, T> List<T> mapAllParallel(List<S> sources, Class<T> targetType, ForkJoinPool pool) {
+        if (Objects.isNull(sources) || Objects.isNull(targetType) || Objects.isNull(pool)) {
+            throw new IllegalArgumentException(
+                    "Invalid parameters! Source objects, target type and pool cannot be null.");
+        }
+        if (sources.size() < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            return mapAll(sources, targetType);
+        }
+        BatchMappingEvent event = BatchMappingEvent.start();
+        Object[] sourceArray = sources.toArray();
+        Object[] targetArray = new Object[sourceArray.length];
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, sourceArray.length / (pool.getParallelism() * 4));
+        pool.invoke(new ParallelMappingTask<>(sourceArray, targetArray, 0, sourceArray.length, chunkSize, targetType));
+        List<T> targets = new ArrayList<>(targetArray.length);
+        for (Object target : targetArray) {
+            targets.add(targetType.cast(target));
+        }
+        if (Objects.nonNull(event)) {
+            event.complete(targetType, targets.size(), true);
+        }
+        return targets;
+    }
+
+    /**
+     * Returns the cached mapping plan of the given source and target types, building it on the first request.
+     * The lookup never blocks: if several threads request a missing plan at the same time, each of them builds one
+     * and the first one published wins.
+     *
+     * @param sourceType the class of the source object
+     * @param targetType the class of the target object
+     * @return the mapping plan of the given type pair
+     * @throws TargetFieldNotFoundException      if a target field cannot be found.
+     * @throws TargetFieldNotAccessibleException if a source field cannot be accessed.
+     */
+    private MappingPlan getPlan(Class<?> sourceType, Class<?> targetType) {
+        SourcePlans plansOfSource = plans.get(sourceType);
+        MappingPlan plan = plansOfSource.get(targetType);
+        if (Objects.isNull(plan)) {
+            return createPlan(plansOfSource, sourceType, targetType);
+        }
+        if (Objects.nonNull(mappingListener)) {
+            mappingListener.onPlanCacheHit(sourceType, targetType);
+        }
+        return plan;
+    }
+
+    private MappingPlan createPlan(SourcePlans plansOfSource,
+                                   Class<?> sourceType, Class<?> targetType) {
+        return createPlan(plansOfSource, sourceType, targetType, null);
     }
 
     /**
-     * Returns a stream of all fields of the given source object, excluding the ones defined in the fieldExclusionStrategy.
+     * Builds and caches the plan of the given types. With a list of problems, the plan is built in collecting mode and
+     * prepared with the insertion strategy and the object factory, and it is only cached if neither found a problem.
      *
-     * @param source the object from which to retrieve the fields
-     * @param <S>    the type of the source object
-     * @return a stream of all fields of the source object excluding the excluded ones
+     * @param problems the list collecting the problems of the pair, or {@code null} to fail on the first one
+     * @return the cached plan, or the plan with problems, which must not be used
      */
-    private <S> Stream<Field> getFields(S source) {
-        return fieldExclusionStrategy.filter(Stream.of(source.getClass().getDeclaredFields()));
+    private MappingPlan createPlan(SourcePlans plansOfSource,
+                                   Class<?> sourceType, Class<?> targetType, List<MappingException> problems) {
+        long start = System.nanoTime();
+        PlanCompilationEvent event = PlanCompilationEvent.start();
+        MappingPlan created;
+        try {
+            created = planFactory.create(sourceType, targetType, problems);
+            if (Objects.nonNull(event)) {
+                event.complete(sourceType, targetType, created.size(), created.isGenerated());
+            }
+        } catch (MappingException e) {
+            if (Objects.nonNull(mappingListener)) {
+                mappingListener.onFailure(sourceType, targetType, e);
+            }
+            throw e;
+        }
+        if (Objects.nonNull(problems)) {
+            problems.addAll(created.prepare(fieldValueInsertionStrategy, objectFactory));
+            if (!problems.isEmpty()) {
+                return created;
+            }
+        }
+        MappingPlan plan = plansOfSource.putIfAbsent(targetType, created);
+        if (Objects.isNull(plan)) {
+            unmappedFields.addAll(created.getUnmappedFields());
+        }
+        if (Objects.nonNull(mappingListener)) {
+            mappingListener.onPlanCacheMiss(sourceType, targetType, System.nanoTime() - start);
+        }
+        return Objects.isNull(plan) ? created : plan;
+    }
+
+    /**
+     * Returns the source fields that this mapper skips, because they cannot be mapped to their target class. Only a
+     * lenient mapper skips fields, and only the pairs planned so far are reported: the registered pairs, and the pairs
+     * that have been mapped at least once.
+     *
+     * @return the report of the skipped fields
+     */
+    public MappingDiagnostics getDiagnostics() {
+        return new MappingDiagnostics(new ArrayList<>(unmappedFields));
+    }
+
+    /**
+     * Returns the mapping plan of the given types for mapping into existing target objects, which is only possible
+     * when the targets are not created through a mapping constructor.
+     */
+    private MappingPlan getIntoPlan(Class<?> sourceType, Class<?> targetType) {
+        MappingPlan plan = getPlan(sourceType, targetType);
+        if (plan.hasTargetConstructor()) {
+            String msg = String.format(
+                    "%s objects are created through their mapping constructor and cannot be mapped into.",
+                    targetType.getName());
+            throw new IllegalArgumentException(msg);
+        }
+        return plan;
+    }
+
+    /**
+     * Builds, caches and prepares the plans of the given type pairs, collecting the problems of every pair instead of
+     * stopping at the first one.
+     *
+     * @param typePairs the type pairs to prepare
+     * @param parallel  whether the pairs are prepared on the common fork/join pool
+     * @throws MappingValidationException if any of the pairs cannot be mapped
+     */
+    void preparePlans(Collection<TypePair> typePairs, boolean parallel) {
+        Stream<TypePair> pairs = parallel ? typePairs.parallelStream() : typePairs.stream();
+        List<Map.Entry<TypePair, MappingException>> problems = pairs
+                .flatMap(pair -> preparePlan(pair).stream().map(problem -> Map.entry(pair, problem)))
+                .collect(Collectors.toList());
+        if (!problems.isEmpty()) {
+            String msg = problems.stream()
+                    .map(problem -> String.format("%s -> %s: %s", problem.getKey().sourceType().getName(),
+                            problem.getKey().targetType().getName(), problem.getValue().getMessage()))
+                    .collect(Collectors.joining(System.lineSeparator() + " - ",
+                            String.format("%d problems found in the registered mappings:%n - ", problems.size()), ""));
+            throw new MappingValidationException(msg,
+                    problems.stream().map(Map.Entry::getValue).collect(Collectors.toList()));
+        }
+    }
+
+    private List<MappingException> preparePlan(TypePair pair) {
+        List<MappingException> problems = new ArrayList<>();
+        try {
+            createPlan(plans.get(pair.sourceType()), pair.sourceType(), pair.targetType(), problems);
+        } catch (MappingException e) {
+            problems.add(e);
+        }
+        return problems;
     }
 
     /**
      * Copies fields from the source object to a new instance of the target type, and returns the target object.
      *
+     * @param plan       The mapping plan of the source class and the target type.
      * @param source     The source object from which to copy the fields.
      * @param targetType The type of the target object.
      * @return The target object with the copied fields.
@@ -93,70 +577,190 @@ public class ObjectMapperImpl implements ObjectMapper {
      * @throws TargetFieldNotAccessibleException If the field in the target object cannot be accessed due to security restrictions.
      * @throws IllegalArgumentException          If either source or targetType is null.
      */
-    private <S, T> T copySourceFieldsToTarget(S source, Class<T> targetType) {
-        T target = objectFactory.create(targetType);
-        getFields(source).forEach(field -> {
-            Object sourceValue = getFieldValue(field, source);
-            Field targetField = getFieldByName(target, field.getName());
-            fieldValueInsertionStrategy.insertValue(sourceValue, target, targetField);
-        });
+    private <S, T> T copySourceFieldsToTarget(MappingPlan plan, S source, Class<T> targetType) {
+        MappingListener listener = mappingListener;
+        if (Objects.isNull(listener)) {
+            return createTarget(plan, source, targetType);
+        }
+        long start = System.nanoTime();
+        try {
+            T target = createTarget(plan, source, targetType);
+            listener.onMapping(plan.getSourceType(), plan.getTargetType(), System.nanoTime() - start);
+            return target;
+        } catch (MappingException e) {
+            listener.onFailure(plan.getSourceType(), plan.getTargetType(), e);
+            throw e;
+        }
+    }
+
+    private <S, T> T createTarget(MappingPlan plan, S source, Class<T> targetType) {
+        SlowMappingEvent event = SlowMappingEvent.start();
+        T target = targetType.cast(plan.createTarget(source, objectFactory));
+        copyFields(plan, source, target);
+        if (Objects.nonNull(event)) {
+            event.complete(plan.getSourceType(), plan.getTargetType(), "map");
+        }
         return target;
     }
 
     /**
-     * This method checks whether the given field should be excluded from mapping based on the current field exclusion strategy,
-     * and throws a {@link TargetFieldNotAccessibleException} if the field is excluded based on an {@link AnnotationExclusionStrategy}
-     * and is annotated with the {@link ExcludeFromMapping} annotation.
-     *
-     * @param field the field to check for exclusion
-     * @throws TargetFieldNotAccessibleException if the field is excluded based on an AnnotationExclusionStrategy and is annotated with the ExcludeFromMapping annotation
+     * Copies the planned fields from the source object into an existing target object, reporting the mapping to the
+     * listener.
      */
+    private void copyFieldsInto(MappingPlan plan, Object source, Object target) {
+        MappingListener listener = mappingListener;
+        if (Objects.isNull(listener)) {
+            copyFieldsTimed(plan, source, target);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            copyFieldsTimed(plan, source, target);
+            listener.onMapping(plan.getSourceType(), plan.getTargetType(), System.nanoTime() - start);
+        } catch (MappingException e) {
+            listener.onFailure(plan.getSourceType(), plan.getTargetType(), e);
+            throw e;
+        }
+    }
 
     /**
-     * Returns the field with the specified name from the target object.
-     *
-     * @param target    the target object
-     * @param fieldName the name of the field to retrieve
-     * @param <T>       the type of the target object
-     * @return the field with the specified name from the target object
-     * @throws TargetFieldNotFoundException if the field with the specified name cannot be found in the target object
+     * Copies the planned fields from the source object into the target object. Plans with nested fields map the
+     * whole object graph of the source through an {@link ObjectGraphWalker}.
      */
-    private <T> Field getFieldByName(T target, String fieldName) {
-        try {
-            return target.getClass().getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            String msg = String.format("Unable to find %s field in %s class",
-                    fieldName, target.getClass().getName());
-            throw new TargetFieldNotFoundException(msg, e);
+    private void copyFields(MappingPlan plan, Object source, Object target) {
+        if (plan.hasNestedFields()) {
+            new ObjectGraphWalker(this::getPlan, objectFactory, fieldValueInsertionStrategy).copy(plan, source, target);
+        } else {
+            plan.copy(source, target, fieldValueInsertionStrategy);
         }
     }
 
     /**
-     * Returns the value of a field of an object.
-     *
-     * @param field  the field to retrieve the value from.
-     * @param parent the object that contains the field.
-     * @return the value of the field.
-     * @throws TargetFieldNotAccessibleException if the field is inaccessible due to access restrictions.
-     * @see Field#get(Object)
+     * Copies the planned fields, recording a {@link SlowMappingEvent} if the copy is slower than its threshold.
      */
-    private Object getFieldValue(Field field, Object parent) {
+    private void copyFieldsTimed(MappingPlan plan, Object source, Object target) {
+        SlowMappingEvent event = SlowMappingEvent.start();
+        copyFields(plan, source, target);
+        if (Objects.nonNull(event)) {
+            event.complete(plan.getSourceType(), plan.getTargetType(), "mapInto");
+        }
+    }
+
+    /**
+     * Writes the values the policy accepts from the source object into the target object, reporting the patch to the
+     * listener.
+     */
+    private BitSet patchFields(MappingPlan plan, Object source, Object target, PatchPolicy policy) {
+        MappingListener listener = mappingListener;
+        long start = Objects.isNull(listener) ? 0 : System.nanoTime();
+        SlowMappingEvent event = SlowMappingEvent.start();
         try {
-            field.setAccessible(true);
-            return field.get(parent);
-        } catch (IllegalAccessException e) {
-            String msg = String.format("Unable to access %s field in %s class",
-                    field.getName(), parent.getClass().getName());
-            throw new TargetFieldNotAccessibleException(msg, e);
+            BitSet writtenFields = plan.hasNestedFields()
+                    ? new ObjectGraphWalker(this::getPlan, objectFactory, fieldValueInsertionStrategy)
+                            .patch(plan, source, target, policy)
+                    : plan.patch(source, target, fieldValueInsertionStrategy, policy, null);
+            if (Objects.nonNull(event)) {
+                event.complete(plan.getSourceType(), plan.getTargetType(), "patch");
+            }
+            if (Objects.nonNull(listener)) {
+                listener.onMapping(plan.getSourceType(), plan.getTargetType(), System.nanoTime() - start);
+            }
+            return writtenFields;
+        } catch (MappingException e) {
+            if (Objects.nonNull(listener)) {
+                listener.onFailure(plan.getSourceType(), plan.getTargetType(), e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the source objects of a batch to the same target type, reusing the mapping plan of the previous source
+     * object while the source class does not change. When it is used by a parallel stream, the threads may race on
+     * the remembered plan, which is harmless as plans are immutable.
+     */
+    private final class BatchMapper<T> implements Function<Object, T> {
+        private final Class<T> targetType;
+        private MappingPlan plan;
+
+        private BatchMapper(Class<T> targetType) {
+            this.targetType = targetType;
+        }
+
+        @Override
+        public T apply(Object source) {
+            if (Objects.isNull(source)) {
+                throw new IllegalArgumentException("Invalid parameters! Source object cannot be null.");
+            }
+            MappingPlan current = plan;
+            if (Objects.isNull(current) || current.getSourceType() != source.getClass()) {
+                current = getPlan(source.getClass(), targetType);
+                plan = current;
+            }
+            return copySourceFieldsToTarget(current, source, targetType);
+        }
+    }
+
+    /**
+     * A (source class, target class) pair registered in advance.
+     */
+    record TypePair(Class<?> sourceType, Class<?> targetType) {
+    }
+
+    /**
+     * Maps a range of the sources into the same range of the targets, splitting it in halves until it is not longer
+     * than the chunk size. Every chunk is mapped by its own {@link BatchMapper}.
+     */
+    private final class ParallelMappingTask<T> extends RecursiveAction {
+        private final Object[] sources;
+        private final Object[] targets;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Class<T> targetType;
+
+        private ParallelMappingTask(Object[] sources, Object[] targets, int from, int to, int chunkSize,
+                                    Class<T> targetType) {
+            this.sources = sources;
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.targetType = targetType;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                BatchMapper<T> batchMapper = new BatchMapper<>(targetType);
+                for (int i = from; i < to; i++) {
+                    targets[i] = batchMapper.apply(sources[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParallelMappingTask<>(sources, targets, from, middle, chunkSize, targetType),
+                    new ParallelMappingTask<>(sources, targets, middle, to, chunkSize, targetType));
         }
     }
 
     public static class Builder {
         private ObjectFactory objectFactory = StrategyFactory.getInstance().getDefaultObjectFactory();
-        private FieldValueInsertionStrategy fieldValueInsertionStrategy = StrategyFactory.getInstance()
-                .getDefaultFieldInsertionStrategy();
-        private FieldExclusionStrategy fieldExclusionStrategy = StrategyFactory.getInstance()
-                .getDefaultFieldExclusionStrategy();
+        private FieldValueInsertionStrategy fieldValueInsertionStrategy;
+        private FieldExclusionStrategy fieldExclusionStrategy;
+        private ConstructorSelectionStrategy constructorSelectionStrategy = StrategyFactory.getInstance()
+                .getDefaultConstructorSelectionStrategy();
+        private boolean bytecodeGeneration;
+        private final Map<Class<?>, Class<?>> nestedMappings = new HashMap<>();
+        private boolean immutableContainerReuse;
+        private final TypeConverterRegistry.Builder typeConverters = new TypeConverterRegistry.Builder();
+        private final Set<TypePair> registeredPairs = new LinkedHashSet<>();
+        private boolean parallelPreparation;
+        private MappingListener mappingListener;
+        private ClassMetadataRegistry metadataRegistry = ClassMetadataRegistry.getDefault();
+        private FieldNamingPolicy fieldNamingPolicy = FieldNamingPolicy.EXACT;
+        private boolean lenientMapping;
+        private FieldAccessMode fieldAccessMode;
 
         public Builder withObjectFactory(ObjectFactory objectFactory) {
             this.objectFactory = Objects.requireNonNull(objectFactory,
@@ -178,8 +782,197 @@ public class ObjectMapperImpl implements ObjectMapper {
             return this;
         }
 
+        public Builder withConstructorSelectionStrategy(ConstructorSelectionStrategy constructorSelectionStrategy) {
+            this.constructorSelectionStrategy = Objects.requireNonNull(constructorSelectionStrategy,
+                    "Constructor selection strategy cannot be null.");
+            return this;
+        }
+
+        /**
+         * Enables or disables the generation of a dedicated copier class per (source class, target class) pair.
+         * The generated classes are only used with the default insertion strategy; pairs that cannot be generated,
+         * e.g. because of inaccessible classes or missing getters, are mapped reflectively.
+         *
+         * @param bytecodeGeneration whether copier classes are generated
+         * @return this builder
+         */
+        public Builder withBytecodeGeneration(boolean bytecodeGeneration) {
+            this.bytecodeGeneration = bytecodeGeneration;
+            return this;
+        }
+
+        /**
+         * Registers the target type that the nested objects of the given source type are mapped to. Every field
+         * declared with the source type is then mapped to a new target object, instead of copying the reference.
+         * The target fields must be able to hold the target type, and must not be set through a mapping constructor.
+         *
+         * @param sourceType the declared type of the nested source fields
+         * @param targetType the type the nested objects are mapped to
+         * @return this builder
+         */
+        public Builder withNestedMapping(Class<?> sourceType, Class<?> targetType) {
+            nestedMappings.put(Objects.requireNonNull(sourceType, "Nested source type cannot be null."),
+                    Objects.requireNonNull(targetType, "Nested target type cannot be null."));
+            return this;
+        }
+
+        /**
+         * Enables or disables the reuse of unmodifiable containers. By default, array, collection and map fields are
+         * copied into new containers. When reuse is enabled, unmodifiable JDK collections and maps, such as the ones
+         * created by {@code List.of} or {@code Collections.unmodifiableList}, are inserted as they are if their
+         * elements are not mapped and the target field can hold them.
+         *
+         * @param immutableContainerReuse whether unmodifiable containers are shared by source and target
+         * @return this builder
+         */
+        public Builder withImmutableContainerReuse(boolean immutableContainerReuse) {
+            this.immutableContainerReuse = immutableContainerReuse;
+            return this;
+        }
+
+        /**
+         * Registers the converter of source values of the given source type into values of the given target type. It
+         * is used for the field pairs whose target field cannot hold the source values, and takes precedence over the
+         * built-in converters of the same types.
+         *
+         * @param sourceType the declared type of the source fields
+         * @param targetType the declared type of the target fields
+         * @param converter  the converter of the values
+         * @param <S>        the type of the source values
+         * @param <T>        the type of the converted values
+         * @return this builder
+         */
+        public <S, T> Builder withTypeConverter(Class<S> sourceType,
+                                                Class<T> targetType,
+                                                TypeConverter<? super S, ? extends T> converter) {
+            typeConverters.withConverter(sourceType, targetType, converter);
+            return this;
+        }
+
+        /**
+         * Registers a type pair that is mapped by the built mapper. The plan of every registered pair is built,
+         * validated and cached by {@link #build()}: every missing target field and setter of every pair, as well as the
+         * target types that cannot be created, are reported at once, and the first mapping of the pair needs no
+         * further lookups.
+         *
+         * @param sourceType the class of the source objects
+         * @param targetType the class of the target objects
+         * @return this builder
+         */
+        public Builder register(Class<?> sourceType, Class<?> targetType) {
+            registeredPairs.add(new TypePair(
+                    Objects.requireNonNull(sourceType, "Registered source type cannot be null."),
+                    Objects.requireNonNull(targetType, "Registered target type cannot be null.")));
+            return this;
+        }
+
+        /**
+         * Enables or disables the preparation of the registered pairs on the threads of the common fork/join pool,
+         * which shortens the build of mappers with many registered pairs. The configured strategies must be
+         * thread-safe.
+         *
+         * @param parallelPreparation whether the registered pairs are prepared in parallel
+         * @return this builder
+         */
+        public Builder withParallelPreparation(boolean parallelPreparation) {
+            this.parallelPreparation = parallelPreparation;
+            return this;
+        }
+
+        /**
+         * Registers the listener that the built mapper reports its mappings, failures and plan cache lookups to, e.g.
+         * an {@link org.objectmapper.metrics.InMemoryMappingMetrics}. The listener is called on the mapping threads,
+         * and measuring the mappings adds two {@link System#nanoTime()} calls to each of them.
+         *
+         * @param mappingListener the listener of the mapping events
+         * @return this builder
+         */
+        public Builder withMappingListener(MappingListener mappingListener) {
+            this.mappingListener = Objects.requireNonNull(mappingListener, "Mapping listener cannot be null.");
+            return this;
+        }
+
+        /**
+         * Sets the registry that the built mapper and its default insertion and exclusion strategies read the fields,
+         * exclusion annotations and setters of the mapped classes from, e.g. a registry with a maximum size. By
+         * default, the registry shared by all mappers is used. Strategies set on this builder keep their own registry.
+         *
+         * @param metadataRegistry the registry of the class metadata
+         * @return this builder
+         */
+        public Builder withMetadataRegistry(ClassMetadataRegistry metadataRegistry) {
+            this.metadataRegistry = Objects.requireNonNull(metadataRegistry, "Metadata registry cannot be null.");
+            return this;
+        }
+
+        /**
+         * Sets the policy matching the source fields to the target fields, e.g.
+         * {@link FieldNamingPolicy#SNAKE_CASE_TO_CAMEL_CASE}. By default, fields are matched by their exact name. The
+         * {@link org.objectmapper.annotation.MapFrom} renames of the target fields are matched with the same policy.
+         *
+         * @param fieldNamingPolicy the policy matching the fields
+         * @return this builder
+         */
+        public Builder withFieldNamingPolicy(FieldNamingPolicy fieldNamingPolicy) {
+            this.fieldNamingPolicy = Objects.requireNonNull(fieldNamingPolicy, "Field naming policy cannot be null.");
+            return this;
+        }
+
+        /**
+         * Makes the built mapper write the target fields directly through a {@link FieldWriteInsertionStrategy}
+         * with the given access mode, instead of calling their setters, e.g. for plain data holders or setters with
+         * side effects. The strategy shares the metadata registry of the mapper. It is only used when no insertion
+         * strategy is set with {@link #withInsertionStrategy(FieldValueInsertionStrategy)}.
+         *
+         * @param fieldAccessMode the access mode of the writes of non-volatile fields
+         * @return this builder
+         */
+        public Builder withFieldWriteInsertion(FieldAccessMode fieldAccessMode) {
+            this.fieldAccessMode = Objects.requireNonNull(fieldAccessMode, "Field access mode cannot be null.");
+            return this;
+        }
+
+        /**
+         * Enables or disables lenient mapping, for type pairs that only partially overlap. A lenient mapper skips the
+         * source fields without a matching target field, without a converter to their target field, or whose values
+         * the insertion strategy cannot insert, e.g. for lack of a setter. They are detected once per pair when its
+         * plan is built, and reported by {@link ObjectMapperImpl#getDiagnostics()}. By default, such fields fail the
+         * mapping with a {@link MappingException}.
+         *
+         * @param lenientMapping whether the fields that cannot be mapped are skipped
+         * @return this builder
+         */
+        public Builder withLenientMapping(boolean lenientMapping) {
+            this.lenientMapping = lenientMapping;
+            return this;
+        }
+
+        /**
+         * Builds the mapper and prepares the plans of the registered type pairs.
+         *
+         * @return the built mapper
+         * @throws MappingValidationException if any of the registered pairs cannot be mapped, with the problems of all
+         *                                    of them
+         */
         public ObjectMapper build() {
-            return new ObjectMapperImpl(objectFactory, fieldValueInsertionStrategy, fieldExclusionStrategy);
+            FieldValueInsertionStrategy insertionStrategy = fieldValueInsertionStrategy;
+            if (Objects.isNull(insertionStrategy)) {
+                insertionStrategy = Objects.isNull(fieldAccessMode)
+                        ? StrategyFactory.getInstance().getDefaultFieldInsertionStrategy(metadataRegistry)
+                        : StrategyFactory.getInstance().getFieldWriteInsertionStrategy(metadataRegistry,
+                                fieldAccessMode);
+            }
+            FieldExclusionStrategy exclusionStrategy = Objects.isNull(fieldExclusionStrategy)
+                    ? StrategyFactory.getInstance().getDefaultFieldExclusionStrategy(metadataRegistry)
+                    : fieldExclusionStrategy;
+            ObjectMapperImpl mapper = new ObjectMapperImpl(objectFactory, insertionStrategy, exclusionStrategy,
+                    constructorSelectionStrategy, bytecodeGeneration, nestedMappings, immutableContainerReuse,
+                    typeConverters.build(), mappingListener, metadataRegistry, fieldNamingPolicy,
+                    lenientMapping);
+            if (!registeredPairs.isEmpty()) {
+                mapper.preparePlans(List.copyOf(registeredPairs), parallelPreparation);
+            }
+            return mapper;
         }
 
     }
@@ -0,0 +1,59 @@
+package org.objectmapper.mapper;
+
+import java.util.Objects;
+
+/**
+ * Configures which source values {@link ObjectMapperImpl#patch(Object, Object, PatchPolicy)} writes into the target
+ * object. By default, null source values are skipped and all other values are written.
+ * <p>
+ * Policies are immutable and can be shared between threads.
+ */
+public final class PatchPolicy {
+    /**
+     * The policy skipping null values and writing all other values.
+     */
+    public static final PatchPolicy DEFAULT = new Builder().build();
+
+    private final NullValuePolicy nullValuePolicy;
+    private final boolean unchangedValuesSkipped;
+
+    private PatchPolicy(NullValuePolicy nullValuePolicy, boolean unchangedValuesSkipped) {
+        this.nullValuePolicy = nullValuePolicy;
+        this.unchangedValuesSkipped = unchangedValuesSkipped;
+    }
+
+    public NullValuePolicy getNullValuePolicy() {
+        return nullValuePolicy;
+    }
+
+    public boolean isUnchangedValuesSkipped() {
+        return unchangedValuesSkipped;
+    }
+
+    public static class Builder {
+        private NullValuePolicy nullValuePolicy = NullValuePolicy.SKIP;
+        private boolean unchangedValuesSkipped;
+
+        public Builder withNullValuePolicy(NullValuePolicy nullValuePolicy) {
+            this.nullValuePolicy = Objects.requireNonNull(nullValuePolicy, "Null value policy cannot be null.");
+            return this;
+        }
+
+        /**
+         * Enables or disables the skipping of unchanged values. When enabled, the current value of every target field
+         * is read and compared to the new value with {@link Object#equals(Object)}, and equal values are not written.
+         * This avoids setter calls that would mark an unchanged entity as dirty, at the cost of reading the target.
+         *
+         * @param unchangedValuesSkipped whether values equal to the current target value are skipped
+         * @return this builder
+         */
+        public Builder withUnchangedValuesSkipped(boolean unchangedValuesSkipped) {
+            this.unchangedValuesSkipped = unchangedValuesSkipped;
+            return this;
+        }
+
+        public PatchPolicy build() {
+            return new PatchPolicy(nullValuePolicy, unchangedValuesSkipped);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.objectmapper.mapper;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Reports which target fields a patch has written. The fields are numbered in the order of the mapping plan of the
+ * (source class, target class) pair, which is the same for every patch of the pair: bit {@code i} of
+ * {@link #getWrittenFields()} belongs to the field named {@code getFieldNames().get(i)}.
+ */
+public final class PatchResult {
+    /**
+     * The names of the patchable target fields, shared by every result of the same plan.
+     */
+    private final List<String> fieldNames;
+    private final BitSet writtenFields;
+
+    PatchResult(List<String> fieldNames, BitSet writtenFields) {
+        this.fieldNames = fieldNames;
+        this.writtenFields = writtenFields;
+    }
+
+    /**
+     * Returns the names of all target fields the patch could have written, in the order of their bits.
+     *
+     * @return the unmodifiable list of the field names
+     */
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Returns the bits of the written fields.
+     *
+     * @return a copy of the bitset of the written fields
+     */
+    public BitSet getWrittenFields() {
+        return (BitSet) writtenFields.clone();
+    }
+
+    /**
+     * Returns the names of the written fields.
+     *
+     * @return the names of the written fields, in the order of their bits
+     */
+    public List<String> getWrittenFieldNames() {
+        List<String> names = new ArrayList<>(writtenFields.cardinality());
+        for (int i = writtenFields.nextSetBit(0); i >= 0; i = writtenFields.nextSetBit(i + 1)) {
+            names.add(fieldNames.get(i));
+        }
+        return names;
+    }
+
+    /**
+     * Returns whether the field of the given name was written.
+     *
+     * @param fieldName the name of the target field
+     * @return {@code true} if the patch wrote the field
+     */
+    public boolean isWritten(String fieldName) {
+        int index = fieldNames.indexOf(fieldName);
+        return index >= 0 && writtenFields.get(index);
+    }
+
+    /**
+     * Returns whether the patch wrote any field.
+     *
+     * @return {@code true} if at least one field was written
+     */
+    public boolean hasWrittenFields() {
+        return !writtenFields.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PatchResult" + getWrittenFieldNames();
+    }
+}
@@ -0,0 +1,73 @@
+package org.objectmapper.mapper;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The cached mapping plans of a source class, keyed by target class. A plan refers to both classes of its pair, so it
+ * is held by the class whose class loader outlives the other one, and never keeps a class of a shorter-lived loader
+ * loaded:
+ * <ul>
+ *     <li>the plans of the target classes that the source class sees, those of its own class loader or of one of its
+ *     ancestors, are held by the source class, in a map;</li>
+ *     <li>the plans of the other target classes, e.g. the classes of a child or plugin class loader, are held by the
+ *     target classes themselves, through a {@link ClassValue}, so they are unloaded together with their loader.</li>
+ * </ul>
+ * Storing a plan never blocks: if several threads store a plan of the same target class, the first one wins.
+ */
+final class SourcePlans {
+    private final ClassLoader sourceLoader;
+    private final ConcurrentMap<Class<?>, MappingPlan> visiblePlans = new ConcurrentHashMap<>();
+    private final ClassValue<AtomicReference<MappingPlan>> otherPlans = new ClassValue<>() {
+        @Override
+        protected AtomicReference<MappingPlan> computeValue(Class<?> targetType) {
+            return new AtomicReference<>();
+        }
+    };
+
+    SourcePlans(Class<?> sourceType) {
+        this.sourceLoader = sourceType.getClassLoader();
+    }
+
+    /**
+     * Returns the cached plan of the given target class.
+     *
+     * @return the plan, or {@code null} if none has been stored
+     */
+    MappingPlan get(Class<?> targetType) {
+        MappingPlan plan = visiblePlans.get(targetType);
+        return Objects.nonNull(plan) || isVisible(targetType) ? plan : otherPlans.get(targetType).get();
+    }
+
+    /**
+     * Stores the plan of the given target class, unless another plan has been stored first.
+     *
+     * @return the plan stored first, or {@code null} if the given plan has been stored
+     */
+    MappingPlan putIfAbsent(Class<?> targetType, MappingPlan plan) {
+        if (isVisible(targetType)) {
+            return visiblePlans.putIfAbsent(targetType, plan);
+        }
+        AtomicReference<MappingPlan> holder = otherPlans.get(targetType);
+        return holder.compareAndSet(null, plan) ? null : holder.get();
+    }
+
+    /**
+     * Returns whether the class loader of the target class is the loader of the source class or one of its ancestors,
+     * which outlive the source class.
+     */
+    private boolean isVisible(Class<?> targetType) {
+        ClassLoader targetLoader = targetType.getClassLoader();
+        if (Objects.isNull(targetLoader)) {
+            return true;
+        }
+        for (ClassLoader loader = sourceLoader; Objects.nonNull(loader); loader = loader.getParent()) {
+            if (loader == targetLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
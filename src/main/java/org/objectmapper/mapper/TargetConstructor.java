@@ -0,0 +1,53 @@
+package org.objectmapper.mapper;
+
+import org.objectmapper.accessor.ConstructorInvoker;
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.TargetObjectInstantiationException;
+
+/**
+ * A resolved mapping constructor of a target class together with the readers of its arguments, so the target object
+ * is created directly from the source values in a single allocation.
+ */
+final class TargetConstructor {
+    /**
+     * The invoker of the mapping constructor.
+     */
+    private final ConstructorInvoker invoker;
+    /**
+     * The readers of the constructor arguments, {@code argumentReaders[i]} reads the i-th argument from the source.
+     */
+    private final ValueReader[] argumentReaders;
+    /**
+     * The name of the target class, used in error messages.
+     */
+    private final String targetTypeName;
+
+    TargetConstructor(ConstructorInvoker invoker, ValueReader[] argumentReaders, String targetTypeName) {
+        this.invoker = invoker;
+        this.argumentReaders = argumentReaders.clone();
+        this.targetTypeName = targetTypeName;
+    }
+
+    /**
+     * Creates a new target object from the values of the given source object.
+     *
+     * @param source the object to read the constructor arguments from
+     * @return the created target object
+     * @throws TargetObjectInstantiationException if the constructor fails
+     */
+    Object newInstance(Object source) {
+        Object[] arguments = new Object[argumentReaders.length];
+        for (int i = 0; i < argumentReaders.length; i++) {
+            arguments[i] = argumentReaders[i].read(source);
+        }
+        try {
+            return invoker.invoke(arguments);
+        } catch (MappingException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            String msg = String.format("Unable to invoke %s constructor.", targetTypeName);
+            throw new TargetObjectInstantiationException(msg, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.objectmapper.mapper;
+
+/**
+ * A source field that a lenient mapper skips, because it cannot be mapped to the target class. It is detected once,
+ * when the mapping plan of the (source class, target class) pair is built. The classes are referred to by name, so the
+ * report keeps no reference to them.
+ */
+public final class UnmappedField {
+    private final String sourceTypeName;
+    private final String targetTypeName;
+    private final String fieldName;
+    private final String reason;
+
+    UnmappedField(String sourceTypeName, String targetTypeName, String fieldName, String reason) {
+        this.sourceTypeName = sourceTypeName;
+        this.targetTypeName = targetTypeName;
+        this.fieldName = fieldName;
+        this.reason = reason;
+    }
+
+    public String getSourceTypeName() {
+        return sourceTypeName;
+    }
+
+    public String getTargetTypeName() {
+        return targetTypeName;
+    }
+
+    /**
+     * Returns the name of the skipped source field.
+     *
+     * @return the name of the source field
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns why the field cannot be mapped, i.e. the message of the exception a strict mapper throws for it.
+     *
+     * @return the reason the field is skipped
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s.%s -> %s: %s", sourceTypeName, fieldName, targetTypeName, reason);
+    }
+}
@@ -0,0 +1,195 @@
+package org.objectmapper.metadata;
+
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.PropertyMethods;
+import org.objectmapper.accessor.ValueWriter;
+import org.objectmapper.annotation.ExcludeFromMapping;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The reflective metadata of a class that the mappers and strategies look up: its declared fields, the instance fields
+ * it declares or inherits, the fields excluded from mapping with {@link ExcludeFromMapping}, and the setters of its
+ * fields. The fields are discovered once, when the metadata is created by a {@link ClassMetadataRegistry}, and the
+ * setters on their first lookup.
+ * <p>
+ * Instances are thread-safe and shared by every mapper and strategy using the same registry.
+ */
+public final class ClassMetadata {
+    private final Class<?> type;
+    private final List<Field> declaredFields;
+    private final Map<String, Field> fieldsByName;
+    private final List<Field> fields;
+    private final Set<Field> excludedFields;
+    /**
+     * The setters resolved last for every field, together with the value type they were resolved for.
+     */
+    private final ConcurrentMap<Field, ResolvedSetter> setters = new ConcurrentHashMap<>();
+    /**
+     * The writers of the resolved setter methods, so resolving a setter again for another value type does not create
+     * a new writer.
+     */
+    private final ConcurrentMap<Method, ValueWriter> writers = new ConcurrentHashMap<>();
+    /**
+     * Whether the registry counts this metadata in its size.
+     */
+    volatile boolean tracked;
+
+    ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.declaredFields = List.of(type.getDeclaredFields());
+        Map<String, Field> byName = new HashMap<>();
+        Set<Field> excluded = new HashSet<>();
+        for (Field field : declaredFields) {
+            byName.put(field.getName(), field);
+            if (field.isAnnotationPresent(ExcludeFromMapping.class)) {
+                excluded.add(field);
+            }
+        }
+        this.fieldsByName = Map.copyOf(byName);
+        this.excludedFields = Set.copyOf(excluded);
+        this.fields = List.copyOf(collectFields(type));
+    }
+
+    /**
+     * Collects the instance fields of the class and of its superclasses, except the fields hidden by a field of the
+     * same name in a subclass.
+     */
+    private static List<Field> collectFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Class<?> current = type; Objects.nonNull(current) && current != Object.class;
+             current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && names.add(field.getName())) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the class described by this metadata.
+     *
+     * @return the class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the fields declared by the class, in the order of {@link Class#getDeclaredFields()}.
+     *
+     * @return the unmodifiable list of the declared fields
+     */
+    public List<Field> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    /**
+     * Returns the instance fields of the class and of its superclasses, which are mapped. The fields declared by the
+     * class come first, in the order of {@link Class#getDeclaredFields()}, followed by the fields of each superclass.
+     * Fields hidden by a field of the same name in a subclass, static fields and synthetic fields are left out.
+     *
+     * @return the unmodifiable list of the instance fields
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field of the given name declared by the class.
+     *
+     * @param name the name of the field
+     * @return the field, or {@code null} if the class declares no such field
+     */
+    public Field getDeclaredField(String name) {
+        return fieldsByName.get(name);
+    }
+
+    /**
+     * Returns whether the given field is annotated with {@link ExcludeFromMapping}.
+     *
+     * @param field a field declared by the class
+     * @return {@code true} if the field is excluded from mapping
+     */
+    public boolean isExcluded(Field field) {
+        return field.getDeclaringClass() == type
+                ? excludedFields.contains(field)
+                : field.isAnnotationPresent(ExcludeFromMapping.class);
+    }
+
+    /**
+     * Returns the writer of the public setter of the given field, which accepts values of the given type: the setter
+     * whose parameter is exactly the value type, or else the setter whose parameter is the declared type of the field,
+     * e.g. {@code setItems(List)} for an {@code ArrayList} value or {@code setCount(int)} for an {@code Integer} value.
+     * Fields excluded from mapping have no setter.
+     * <p>
+     * The setter resolved last for a field is remembered, so repeated lookups with the same value type cost a single
+     * map lookup.
+     *
+     * @param field     the field whose setter is looked up
+     * @param valueType the class of the values to write, never primitive
+     * @return the writer invoking the setter, or {@code null} if the field has no such setter
+     * @throws TargetFieldNotAccessibleException if the setter cannot be accessed
+     */
+    public ValueWriter findSetter(Field field, Class<?> valueType) {
+        ResolvedSetter setter = setters.get(field);
+        if (Objects.nonNull(setter) && setter.valueType == valueType) {
+            return setter.writer;
+        }
+        if (isExcluded(field)) {
+            return null;
+        }
+        Method method = findSetterMethod(field, valueType);
+        if (Objects.isNull(method)) {
+            return null;
+        }
+        ValueWriter writer = writers.computeIfAbsent(method, Accessors::writer);
+        setters.put(field, new ResolvedSetter(valueType, writer));
+        return writer;
+    }
+
+    private Method findSetterMethod(Field field, Class<?> valueType) {
+        Method setter = PropertyMethods.findSetter(type, field, valueType);
+        if (Objects.nonNull(setter)) {
+            return setter;
+        }
+        Class<?> fieldType = field.getType();
+        if (fieldType == valueType || !wrap(fieldType).isAssignableFrom(valueType)) {
+            return null;
+        }
+        return PropertyMethods.findSetter(type, field, fieldType);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * A setter resolved for a specific value type.
+     */
+    private static final class ResolvedSetter {
+        private final Class<?> valueType;
+        private final ValueWriter writer;
+
+        private ResolvedSetter(Class<?> valueType, ValueWriter writer) {
+            this.valueType = valueType;
+            this.writer = writer;
+        }
+    }
+}
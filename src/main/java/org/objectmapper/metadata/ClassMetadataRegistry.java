@@ -0,0 +1,171 @@
+package org.objectmapper.metadata;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of the {@link ClassMetadata} of the mapped classes, shared by every mapper and strategy using it. The
+ * {@linkplain #getDefault() default registry} is used by all mappers and default strategies that are not given another
+ * one, so the metadata of a class is discovered once per application instead of once per mapper.
+ * <p>
+ * The metadata is kept in a {@link ClassValue}, which stores it with the class itself: the registry holds no reference
+ * to the classes it describes, so caching their metadata does not prevent the unloading of their class loaders, e.g.
+ * when a plugin is undeployed.
+ * <p>
+ * A registry built with a {@linkplain Builder#withMaximumSize(int) maximum size} evicts the metadata of the classes
+ * that were first looked up the longest time ago once it holds more classes, which bounds its memory in applications
+ * mapping an open-ended set of generated classes. Unloaded classes leave the registry on their own, without an
+ * eviction. The lookups are counted only when {@linkplain Builder#withStatsRecording(boolean) stats recording} is
+ * enabled, so they cost a single {@link ClassValue} lookup otherwise.
+ * <p>
+ * Registries are thread-safe.
+ */
+public final class ClassMetadataRegistry {
+    private static final ClassMetadataRegistry DEFAULT = new Builder().build();
+
+    private final int maximumSize;
+    private final boolean statsRecording;
+    private final ClassValue<ClassMetadata> metadata = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            misses.increment();
+            return new ClassMetadata(type);
+        }
+    };
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /**
+     * The classes counted in the size of the registry, in the order they were first looked up. The references are
+     * cleared when the classes are unloaded.
+     */
+    private final Deque<WeakReference<Class<?>>> residents = new ArrayDeque<>();
+    private final ReferenceQueue<Class<?>> unloaded = new ReferenceQueue<>();
+
+    private ClassMetadataRegistry(int maximumSize, boolean statsRecording) {
+        this.maximumSize = maximumSize;
+        this.statsRecording = statsRecording;
+    }
+
+    /**
+     * Returns the registry shared by the mappers and the default strategies, which has no maximum size and does not
+     * record stats.
+     *
+     * @return the default registry
+     */
+    public static ClassMetadataRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the metadata of the given class, discovering it on the first lookup.
+     *
+     * @param type the class
+     * @return the metadata of the class
+     * @throws IllegalArgumentException if the class is null
+     */
+    public ClassMetadata get(Class<?> type) {
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException("Invalid parameters! Class type cannot be null.");
+        }
+        ClassMetadata classMetadata = metadata.get(type);
+        if (statsRecording) {
+            lookups.increment();
+        }
+        if ((maximumSize > 0 || statsRecording) && !classMetadata.tracked) {
+            track(classMetadata);
+        }
+        return classMetadata;
+    }
+
+    /**
+     * Returns the counters of the registry.
+     *
+     * @return a snapshot of the counters
+     */
+    public RegistryStats getStats() {
+        synchronized (residents) {
+            purgeUnloaded();
+            return new RegistryStats(lookups.sum(), misses.sum(), evictions.sum(), residents.size());
+        }
+    }
+
+    /**
+     * Counts the metadata in the size of the registry, evicting the oldest classes when the size exceeds the maximum.
+     * Several threads may compute the metadata of a class at the same time, so only the published one is counted.
+     */
+    private void track(ClassMetadata classMetadata) {
+        synchronized (residents) {
+            if (classMetadata.tracked) {
+                return;
+            }
+            classMetadata.tracked = true;
+            purgeUnloaded();
+            residents.addLast(new WeakReference<>(classMetadata.getType(), unloaded));
+            while (maximumSize > 0 && residents.size() > maximumSize) {
+                Class<?> evicted = residents.removeFirst().get();
+                if (Objects.nonNull(evicted)) {
+                    metadata.remove(evicted);
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private void purgeUnloaded() {
+        Reference<? extends Class<?>> reference;
+        while ((reference = unloaded.poll()) != null) {
+            residents.remove(reference);
+        }
+    }
+
+    /**
+     * Builds {@link ClassMetadataRegistry} instances.
+     */
+    public static class Builder {
+        private int maximumSize;
+        private boolean statsRecording;
+
+        /**
+         * Sets the maximum number of classes whose metadata is kept. By default, the size is not bounded.
+         *
+         * @param maximumSize the maximum number of classes, or {@code 0} for no maximum
+         * @return this builder
+         * @throws IllegalArgumentException if the size is negative
+         */
+        public Builder withMaximumSize(int maximumSize) {
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Invalid parameters! Maximum size cannot be negative.");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Enables or disables the counting of the lookups, which are reported as the hits of the
+         * {@linkplain ClassMetadataRegistry#getStats() stats}. The misses and evictions are always counted, while the
+         * size is only counted by a registry with a maximum size or recording stats.
+         *
+         * @param statsRecording whether the lookups are counted
+         * @return this builder
+         */
+        public Builder withStatsRecording(boolean statsRecording) {
+            this.statsRecording = statsRecording;
+            return this;
+        }
+
+        /**
+         * Builds the registry.
+         *
+         * @return the built registry
+         */
+        public ClassMetadataRegistry build() {
+            return new ClassMetadataRegistry(maximumSize, statsRecording);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.objectmapper.metadata;
+
+/**
+ * A snapshot of the counters of a {@link ClassMetadataRegistry}.
+ */
+public final class RegistryStats {
+    private final long lookupCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    RegistryStats(long lookupCount, long missCount, long evictionCount, int size) {
+        this.lookupCount = lookupCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of lookups, which are only counted by registries recording stats.
+     *
+     * @return the number of lookups, or {@code 0} if stats recording is disabled
+     */
+    public long getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * Returns the number of lookups that found the metadata of their class in the registry.
+     *
+     * @return the number of hits, or {@code 0} if stats recording is disabled
+     */
+    public long getHitCount() {
+        return Math.max(0, lookupCount - missCount);
+    }
+
+    /**
+     * Returns the number of times the metadata of a class was discovered.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of classes evicted because the registry exceeded its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of classes whose metadata is kept, which is only counted by registries with a maximum size
+     * or recording stats. Unloaded classes are not counted.
+     *
+     * @return the number of classes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RegistryStats[lookups=%d, hits=%d, misses=%d, evictions=%d, size=%d]",
+                lookupCount, getHitCount(), missCount, evictionCount, size);
+    }
+}
@@ -0,0 +1,191 @@
+package org.objectmapper.metrics;
+
+import org.objectmapper.exception.MappingException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MappingListener} that keeps the metrics of every (source class, target class) pair in memory: the number of
+ * mappings and failures, a latency histogram and the plan cache hits and misses. The failures are also counted by
+ * their exception class. The recorded metrics are read as immutable {@link PairMetrics} snapshots, e.g. by a scheduled
+ * task exporting them to a monitoring system.
+ * <p>
+ * The counters are {@link LongAdder}s, so threads mapping the same pair do not contend on a single counter. The
+ * counters of a pair are found through a {@link ClassValue} of its source class, holding a {@link ClassValue} of its
+ * target classes, and refer to the classes only by name, so the metrics keep no reference to the mapped classes, which
+ * can be unloaded together with their class loader.
+ * <p>
+ * The metrics are thread-safe. A snapshot is not atomic: the counters of a pair that is mapped while its snapshot is
+ * taken may differ by the mappings in progress.
+ */
+public final class InMemoryMappingMetrics implements MappingListener {
+    /**
+     * The counters of the pairs, grouped by source class and keyed by target class. Counters are created on lookup, and
+     * only the registered ones have recorded anything.
+     */
+    private final ClassValue<ClassValue<PairCounters>> counters = new ClassValue<>() {
+        @Override
+        protected ClassValue<PairCounters> computeValue(Class<?> sourceType) {
+            String sourceTypeName = sourceType.getName();
+            return new ClassValue<>() {
+                @Override
+                protected PairCounters computeValue(Class<?> targetType) {
+                    return new PairCounters(sourceTypeName, targetType.getName());
+                }
+            };
+        }
+    };
+    /**
+     * The counters of every recorded pair, in the order they were first recorded.
+     */
+    private final Queue<PairCounters> allCounters = new ConcurrentLinkedQueue<>();
+    private final ConcurrentMap<Class<? extends MappingException>, LongAdder> exceptionCounts =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public void onMapping(Class<?> sourceType, Class<?> targetType, long durationNanos) {
+        PairCounters pairCounters = getCounters(sourceType, targetType);
+        pairCounters.mappings.increment();
+        pairCounters.totalNanos.add(durationNanos);
+        pairCounters.maxNanos.accumulate(durationNanos);
+        pairCounters.latencyBuckets.incrementAndGet(PairMetrics.getBucketIndex(durationNanos));
+    }
+
+    @Override
+    public void onFailure(Class<?> sourceType, Class<?> targetType, MappingException exception) {
+        getCounters(sourceType, targetType).failures.increment();
+        exceptionCounts.computeIfAbsent(exception.getClass(), type -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void onPlanCacheHit(Class<?> sourceType, Class<?> targetType) {
+        getCounters(sourceType, targetType).planCacheHits.increment();
+    }
+
+    @Override
+    public void onPlanCacheMiss(Class<?> sourceType, Class<?> targetType, long buildNanos) {
+        PairCounters pairCounters = getCounters(sourceType, targetType);
+        pairCounters.planCacheMisses.increment();
+        pairCounters.planBuildNanos.add(buildNanos);
+    }
+
+    /**
+     * Returns the metrics of every recorded pair.
+     *
+     * @return the snapshots of the pairs, in the order they were first recorded
+     */
+    public List<PairMetrics> getPairMetrics() {
+        List<PairMetrics> metrics = new ArrayList<>();
+        for (PairCounters pairCounters : allCounters) {
+            metrics.add(pairCounters.snapshot());
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the metrics of the given pair.
+     *
+     * @param sourceType the class of the source objects
+     * @param targetType the class of the target objects
+     * @return the snapshot of the pair, or {@code null} if nothing has been recorded for it
+     * @throws IllegalArgumentException if either type is null
+     */
+    public PairMetrics getPairMetrics(Class<?> sourceType, Class<?> targetType) {
+        if (Objects.isNull(sourceType) || Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Invalid parameters! Source and target types cannot be null.");
+        }
+        PairCounters pairCounters = counters.get(sourceType).get(targetType);
+        return pairCounters.registered.get() ? pairCounters.snapshot() : null;
+    }
+
+    /**
+     * Returns the number of failures by exception class, over all pairs.
+     *
+     * @return the failure counts keyed by the class of the thrown exceptions
+     */
+    public Map<Class<? extends MappingException>, Long> getExceptionCounts() {
+        Map<Class<? extends MappingException>, Long> counts = new LinkedHashMap<>();
+        exceptionCounts.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Resets every counter to zero, e.g. after the metrics have been exported. The pairs recorded so far are kept.
+     */
+    public void reset() {
+        allCounters.forEach(PairCounters::reset);
+        exceptionCounts.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Returns the counters of the given pair, registering them on their first use. A class value may compute several
+     * counters of a pair at once, but only returns the installed one, so only that one is registered.
+     */
+    private PairCounters getCounters(Class<?> sourceType, Class<?> targetType) {
+        PairCounters pairCounters = counters.get(sourceType).get(targetType);
+        if (!pairCounters.registered.get() && pairCounters.registered.compareAndSet(false, true)) {
+            allCounters.add(pairCounters);
+        }
+        return pairCounters;
+    }
+
+    /**
+     * The live counters of a type pair.
+     */
+    private static final class PairCounters {
+        private final String sourceTypeName;
+        private final String targetTypeName;
+        /**
+         * Whether the counters have been added to the recorded pairs.
+         */
+        private final AtomicBoolean registered = new AtomicBoolean();
+        private final LongAdder mappings = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder planCacheHits = new LongAdder();
+        private final LongAdder planCacheMisses = new LongAdder();
+        private final LongAdder planBuildNanos = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray latencyBuckets = new AtomicLongArray(PairMetrics.BUCKET_COUNT);
+
+        private PairCounters(String sourceTypeName, String targetTypeName) {
+            this.sourceTypeName = sourceTypeName;
+            this.targetTypeName = targetTypeName;
+        }
+
+        private PairMetrics snapshot() {
+            long[] buckets = new long[latencyBuckets.length()];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = latencyBuckets.get(i);
+            }
+            return new PairMetrics(sourceTypeName, targetTypeName, mappings.sum(), failures.sum(),
+                    planCacheHits.sum(), planCacheMisses.sum(), planBuildNanos.sum(), totalNanos.sum(),
+                    maxNanos.get(), buckets);
+        }
+
+        private void reset() {
+            mappings.reset();
+            failures.reset();
+            planCacheHits.reset();
+            planCacheMisses.reset();
+            planBuildNanos.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (int i = 0; i < latencyBuckets.length(); i++) {
+                latencyBuckets.set(i, 0);
+            }
+        }
+    }
+}
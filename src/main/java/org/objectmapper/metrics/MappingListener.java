@@ -0,0 +1,56 @@
+package org.objectmapper.metrics;
+
+import org.objectmapper.exception.MappingException;
+
+/**
+ * Receives the events of an {@link org.objectmapper.mapper.ObjectMapperImpl}, e.g. to export its costs to a monitoring
+ * system. A listener is registered with {@code ObjectMapperImpl.Builder.withMappingListener}; mappers without a
+ * listener do not measure anything, so they pay only for a null check per mapping.
+ * <p>
+ * Every mapped object is reported once, including the objects of batch and parallel mappings, while the nested objects
+ * of an object graph are part of the mapping of their root object. The events are reported on the mapping threads, so
+ * implementations must be thread-safe, fast and must not throw exceptions, which would fail the mapping.
+ * <p>
+ * Every method does nothing by default, so implementations only override the events they need.
+ */
+public interface MappingListener {
+    /**
+     * Called after an object has been mapped, patched or mapped into successfully.
+     *
+     * @param sourceType    the class of the source object
+     * @param targetType    the class of the target object
+     * @param durationNanos the duration of the mapping in nanoseconds, excluding the lookup of its plan
+     */
+    default void onMapping(Class<?> sourceType, Class<?> targetType, long durationNanos) {
+    }
+
+    /**
+     * Called when a mapping fails, or when the plan of a type pair cannot be built.
+     *
+     * @param sourceType the class of the source object
+     * @param targetType the class of the target object
+     * @param exception  the exception thrown to the caller
+     */
+    default void onFailure(Class<?> sourceType, Class<?> targetType, MappingException exception) {
+    }
+
+    /**
+     * Called when the plan of a type pair is found in the plan cache of the mapper.
+     *
+     * @param sourceType the class of the source object
+     * @param targetType the class of the target object
+     */
+    default void onPlanCacheHit(Class<?> sourceType, Class<?> targetType) {
+    }
+
+    /**
+     * Called when the plan of a type pair is missing from the plan cache, after it has been built. Batch mappings look
+     * up the plan only once per run of source objects of the same class.
+     *
+     * @param sourceType the class of the source object
+     * @param targetType the class of the target object
+     * @param buildNanos the time spent building the plan in nanoseconds
+     */
+    default void onPlanCacheMiss(Class<?> sourceType, Class<?> targetType, long buildNanos) {
+    }
+}
@@ -0,0 +1,199 @@
+package org.objectmapper.metrics;
+
+/**
+ * A snapshot of the metrics of a (source class, target class) pair, recorded by {@link InMemoryMappingMetrics}.
+ * <p>
+ * The durations of the successful mappings are counted in a histogram of {@value #BUCKET_COUNT} buckets with power of
+ * two bounds: bucket {@code 0} counts the durations of {@code 0} nanoseconds, and bucket {@code i} the durations from
+ * {@code 2^(i-1)} to {@code 2^i - 1} nanoseconds. The percentiles computed from the histogram are the upper bounds of
+ * their buckets, so they overestimate the real durations by less than a factor of two.
+ */
+public final class PairMetrics {
+    /**
+     * The number of buckets of the latency histogram.
+     */
+    public static final int BUCKET_COUNT = 64;
+
+    private final String sourceTypeName;
+    private final String targetTypeName;
+    private final long mappingCount;
+    private final long failureCount;
+    private final long planCacheHits;
+    private final long planCacheMisses;
+    private final long planBuildNanos;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] latencyBuckets;
+
+    PairMetrics(String sourceTypeName, String targetTypeName, long mappingCount, long failureCount,
+                long planCacheHits, long planCacheMisses, long planBuildNanos, long totalNanos, long maxNanos,
+                long[] latencyBuckets) {
+        this.sourceTypeName = sourceTypeName;
+        this.targetTypeName = targetTypeName;
+        this.mappingCount = mappingCount;
+        this.failureCount = failureCount;
+        this.planCacheHits = planCacheHits;
+        this.planCacheMisses = planCacheMisses;
+        this.planBuildNanos = planBuildNanos;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.latencyBuckets = latencyBuckets;
+    }
+
+    /**
+     * Returns the histogram bucket of the given duration.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the index of the bucket counting the duration
+     */
+    public static int getBucketIndex(long nanos) {
+        return nanos <= 0 ? 0 : Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Returns the largest duration counted by the given histogram bucket.
+     *
+     * @param bucketIndex the index of the bucket
+     * @return the inclusive upper bound of the bucket in nanoseconds
+     */
+    public static long getBucketUpperBound(int bucketIndex) {
+        if (bucketIndex < 0 || bucketIndex >= BUCKET_COUNT) {
+            String msg = String.format("Invalid parameters! Bucket index must be between 0 and %d.", BUCKET_COUNT - 1);
+            throw new IllegalArgumentException(msg);
+        }
+        return bucketIndex == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucketIndex) - 1;
+    }
+
+    /**
+     * Returns the name of the source class of the pair.
+     *
+     * @return the binary name of the source class
+     */
+    public String getSourceTypeName() {
+        return sourceTypeName;
+    }
+
+    /**
+     * Returns the name of the target class of the pair.
+     *
+     * @return the binary name of the target class
+     */
+    public String getTargetTypeName() {
+        return targetTypeName;
+    }
+
+    /**
+     * Returns the number of successful mappings of the pair.
+     *
+     * @return the number of mapped objects
+     */
+    public long getMappingCount() {
+        return mappingCount;
+    }
+
+    /**
+     * Returns the number of failed mappings of the pair, including the failures to build its plan.
+     *
+     * @return the number of failures
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the number of lookups of the pair that found its plan in the plan cache.
+     *
+     * @return the number of plan cache hits
+     */
+    public long getPlanCacheHits() {
+        return planCacheHits;
+    }
+
+    /**
+     * Returns the number of lookups of the pair that built its plan.
+     *
+     * @return the number of plan cache misses
+     */
+    public long getPlanCacheMisses() {
+        return planCacheMisses;
+    }
+
+    /**
+     * Returns the time spent building the plans of the pair on plan cache misses.
+     *
+     * @return the total build time in nanoseconds
+     */
+    public long getPlanBuildNanos() {
+        return planBuildNanos;
+    }
+
+    /**
+     * Returns the sum of the durations of the successful mappings.
+     *
+     * @return the total duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the longest duration of a successful mapping.
+     *
+     * @return the maximum duration in nanoseconds, or {@code 0} if the pair has not been mapped
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean duration of the successful mappings.
+     *
+     * @return the mean duration in nanoseconds, or {@code 0} if the pair has not been mapped
+     */
+    public double getMeanNanos() {
+        return mappingCount == 0 ? 0 : (double) totalNanos / mappingCount;
+    }
+
+    /**
+     * Returns the counts of the latency histogram buckets.
+     *
+     * @return a copy of the {@value #BUCKET_COUNT} bucket counts
+     */
+    public long[] getLatencyBuckets() {
+        return latencyBuckets.clone();
+    }
+
+    /**
+     * Returns the upper bound of the histogram bucket holding the given percentile of the mapping durations.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the upper bound of the percentile in nanoseconds, or {@code 0} if the pair has not been mapped
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long getPercentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Invalid parameters! Percentile must be between 0 and 100.");
+        }
+        long count = 0;
+        for (long bucket : latencyBuckets) {
+            count += bucket;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            seen += latencyBuckets[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), maxNanos);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s -> %s: mappings=%d, failures=%d, planCacheHits=%d, planCacheMisses=%d, "
+                        + "meanNanos=%.1f, p99Nanos=%d, maxNanos=%d",
+                sourceTypeName, targetTypeName, mappingCount, failureCount, planCacheHits, planCacheMisses,
+                getMeanNanos(), getPercentileNanos(99), maxNanos);
+    }
+}
@@ -1,6 +1,6 @@
 package org.objectmapper.strategy;
 
-import org.objectmapper.annotation.ExcludeFromMapping;
+import org.objectmapper.metadata.ClassMetadataRegistry;
 
 import java.lang.reflect.Field;
 import java.util.Objects;
@@ -10,8 +10,31 @@ import java.util.stream.Stream;
 /**
  * Implementation of the {@link FieldExclusionStrategy} interface that excludes fields
  * annotated with the {@link org.objectmapper.annotation.ExcludeFromMapping} annotation.
+ * The annotations are read once per class by the {@link ClassMetadataRegistry}, which is the default registry unless
+ * another one is given. The strategy is thread-safe.
  */
 public class AnnotationExclusionStrategy implements FieldExclusionStrategy {
+    /**
+     * The registry caching the excluded fields of the declaring classes.
+     */
+    private final ClassMetadataRegistry metadataRegistry;
+
+    /**
+     * Creates a strategy reading the annotations through the default metadata registry.
+     */
+    public AnnotationExclusionStrategy() {
+        this(ClassMetadataRegistry.getDefault());
+    }
+
+    /**
+     * Creates a strategy reading the annotations through the given metadata registry.
+     *
+     * @param metadataRegistry the registry of the class metadata
+     */
+    public AnnotationExclusionStrategy(ClassMetadataRegistry metadataRegistry) {
+        this.metadataRegistry = Objects.requireNonNull(metadataRegistry, "Metadata registry cannot be null.");
+    }
+
     @Override
     public Stream<Field> filter(Stream<Field> declaredFields) {
         if (Objects.isNull(declaredFields)){
@@ -21,6 +44,6 @@ public class AnnotationExclusionStrategy implements FieldExclusionStrategy {
         return declaredFields.filter(isAnnotationNotPresent);
     }
     private Predicate<Field> getFieldNotExcludedPredicate(){
-        return field -> !field.isAnnotationPresent(ExcludeFromMapping.class);
+        return field -> !metadataRegistry.get(field.getDeclaringClass()).isExcluded(field);
     }
 }
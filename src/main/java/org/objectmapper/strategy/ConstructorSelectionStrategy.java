@@ -0,0 +1,18 @@
+package org.objectmapper.strategy;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Defines a strategy for selecting the constructor that creates target objects directly from the mapped source values.
+ * Targets without such a constructor are created by the {@link ObjectFactory} and filled by the
+ * {@link FieldValueInsertionStrategy}.
+ */
+public interface ConstructorSelectionStrategy {
+    /**
+     * Selects the constructor whose parameters receive the mapped source values.
+     *
+     * @param targetType the class of the target objects
+     * @return the selected constructor, or {@code null} if the target is not created through a mapping constructor
+     */
+    Constructor<?> select(Class<?> targetType);
+}
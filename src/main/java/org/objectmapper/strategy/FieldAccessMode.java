@@ -0,0 +1,42 @@
+package org.objectmapper.strategy;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * The memory ordering effects of the field writes of a {@link FieldWriteInsertionStrategy}, matching the write access
+ * modes of {@link VarHandle}.
+ */
+public enum FieldAccessMode {
+    /**
+     * Plain writes, like an assignment of a non-volatile field. This is the cheapest mode, and enough for targets that
+     * are published to other threads safely, e.g. through a concurrent collection.
+     */
+    PLAIN(VarHandle.AccessMode.SET),
+    /**
+     * Opaque writes, which are eventually seen by other threads but not ordered with other writes.
+     */
+    OPAQUE(VarHandle.AccessMode.SET_OPAQUE),
+    /**
+     * Release writes, which are not reordered with the preceding writes of the same thread.
+     */
+    RELEASE(VarHandle.AccessMode.SET_RELEASE),
+    /**
+     * Volatile writes, like an assignment of a volatile field.
+     */
+    VOLATILE(VarHandle.AccessMode.SET_VOLATILE);
+
+    private final VarHandle.AccessMode varHandleAccessMode;
+
+    FieldAccessMode(VarHandle.AccessMode varHandleAccessMode) {
+        this.varHandleAccessMode = varHandleAccessMode;
+    }
+
+    /**
+     * Returns the access mode of the {@link VarHandle} writing the fields.
+     *
+     * @return the write access mode
+     */
+    public VarHandle.AccessMode getVarHandleAccessMode() {
+        return varHandleAccessMode;
+    }
+}
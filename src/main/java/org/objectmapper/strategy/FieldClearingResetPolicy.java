@@ -0,0 +1,132 @@
+package org.objectmapper.strategy;
+
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.accessor.ValueWriter;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+import org.objectmapper.metadata.ClassMetadataRegistry;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link ResetPolicy} interface that sets every non-static, non-final field of the object,
+ * including the inherited ones, to {@code null} or to the default value of its primitive type. The final fields holding
+ * a {@link Collection} or a {@link Map} are cleared in place, unless the container is unmodifiable. Any other final
+ * field keeps its value.
+ * <p>
+ * The fields of every class are resolved only once into {@link ValueWriter}s created by {@link Accessors}, which are
+ * kept in a {@link ClassValue}. The declared fields of the classes are read from a {@link ClassMetadataRegistry}, which
+ * is the default registry unless another one is given. The policy is thread-safe.
+ */
+public class FieldClearingResetPolicy implements ResetPolicy {
+    /**
+     * The registry caching the declared fields of the reset classes and their superclasses.
+     */
+    private final ClassMetadataRegistry metadataRegistry;
+    /**
+     * The resolved field writers of the reset classes.
+     */
+    private final ClassValue<FieldReset[]> fieldResets = new ClassValue<>() {
+        @Override
+        protected FieldReset[] computeValue(Class<?> type) {
+            return resolveFieldResets(type);
+        }
+    };
+
+    /**
+     * Creates a policy reading the fields through the default metadata registry.
+     */
+    public FieldClearingResetPolicy() {
+        this(ClassMetadataRegistry.getDefault());
+    }
+
+    /**
+     * Creates a policy reading the fields through the given metadata registry.
+     *
+     * @param metadataRegistry the registry of the class metadata
+     */
+    public FieldClearingResetPolicy(ClassMetadataRegistry metadataRegistry) {
+        this.metadataRegistry = Objects.requireNonNull(metadataRegistry, "Metadata registry cannot be null.");
+    }
+
+    /**
+     * Clears every non-static, non-final field and every final collection or map field of the given object.
+     *
+     * @param instance the released object
+     * @throws TargetFieldNotAccessibleException if a field of the object cannot be accessed
+     */
+    @Override
+    public void reset(Object instance) {
+        if (Objects.isNull(instance)) {
+            throw new IllegalArgumentException("Instance parameter in reset method cannot be null.");
+        }
+        for (FieldReset fieldReset : fieldResets.get(instance.getClass())) {
+            fieldReset.reset(instance);
+        }
+    }
+
+    private FieldReset[] resolveFieldResets(Class<?> type) {
+        List<FieldReset> resets = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : metadataRegistry.get(current).getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)) {
+                    continue;
+                }
+                if (!Modifier.isFinal(modifiers)) {
+                    resets.add(new FieldReset(Accessors.writer(field), getDefaultValue(field.getType()), null));
+                } else if (isContainer(field.getType())) {
+                    resets.add(new FieldReset(null, null, Accessors.reader(field)));
+                }
+            }
+        }
+        return resets.toArray(new FieldReset[0]);
+    }
+
+    private boolean isContainer(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    private Object getDefaultValue(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    /**
+     * A field writer with the value the field is reset to, or the reader of a final container field cleared in place.
+     */
+    private static final class FieldReset {
+        private final ValueWriter writer;
+        private final Object value;
+        private final ValueReader containerReader;
+
+        private FieldReset(ValueWriter writer, Object value, ValueReader containerReader) {
+            this.writer = writer;
+            this.value = value;
+            this.containerReader = containerReader;
+        }
+
+        private void reset(Object instance) {
+            if (Objects.isNull(containerReader)) {
+                writer.write(instance, value);
+                return;
+            }
+            Object container = containerReader.read(instance);
+            try {
+                if (container instanceof Collection) {
+                    ((Collection<?>) container).clear();
+                } else if (container instanceof Map) {
+                    ((Map<?, ?>) container).clear();
+                }
+            } catch (UnsupportedOperationException e) {
+                // An unmodifiable container cannot be cleared, so it is left as it is.
+            }
+        }
+    }
+}
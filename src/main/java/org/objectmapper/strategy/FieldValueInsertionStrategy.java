@@ -4,6 +4,7 @@ import java.lang.reflect.Field;
 
 /**
  * Defines a strategy for inserting a value from a source object into a target object field.
+ * A mapper shared by several threads calls its strategy concurrently, so such strategies must be thread-safe.
  */
 public interface FieldValueInsertionStrategy {
     /**
@@ -13,4 +14,17 @@ public interface FieldValueInsertionStrategy {
      * @param targetField  the target field to insert the value into
      */
     void insertValue(Object sourceValue, Object targetObject, Field targetField);
+
+    /**
+     * Validates that values of the given type can be inserted into the target field, and resolves whatever the
+     * insertion needs in advance, so that the first insertion is as fast as the later ones. It is called for the
+     * field pairs of the mappings registered in advance. The default implementation does nothing.
+     *
+     * @param targetType  the class of the target objects
+     * @param targetField the target field the values are inserted into
+     * @param valueType   the declared type of the inserted values
+     * @throws org.objectmapper.exception.MappingException if the values cannot be inserted into the field
+     */
+    default void prepare(Class<?> targetType, Field targetField, Class<?> valueType) {
+    }
 }
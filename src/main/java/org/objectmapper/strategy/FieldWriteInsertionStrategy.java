@@ -0,0 +1,178 @@
+package org.objectmapper.strategy;
+
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.PropertyCopier;
+import org.objectmapper.accessor.PropertyMethods;
+import org.objectmapper.accessor.ValueWriter;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+import org.objectmapper.metadata.ClassMetadataRegistry;
+
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The FieldWriteInsertionStrategy class implements the {@link FieldValueInsertionStrategy} interface by writing the
+ * values straight into the target fields, without calling any setter. It maps plain data holders without setters, and
+ * targets whose setters have side effects that must not run during the mapping.
+ * <p>
+ * The fields are written through their {@link VarHandle}, which is resolved once per field and cached by the strategy,
+ * with the configured {@link FieldAccessMode}. Fields declared volatile are always written with volatile semantics,
+ * like an assignment in their class would be. Final instance fields are written through reflection with plain
+ * semantics where Java allows it, i.e. unless they are declared by a record or a hidden class. Fields annotated with
+ * {@link org.objectmapper.annotation.ExcludeFromMapping} are never written.
+ * <p>
+ * Primitive fields copied from a source field of the same type are copied by the mapper without boxing their value,
+ * through {@link #createCopier(Field, Field)}.
+ * <p>
+ * The strategy is thread-safe: when two threads resolve the same field at the same time, both resolve an equivalent
+ * writer and either of them may be kept.
+ */
+public class FieldWriteInsertionStrategy implements FieldValueInsertionStrategy {
+    /**
+     * The registry of the fields excluded from mapping.
+     */
+    private final ClassMetadataRegistry metadataRegistry;
+    /**
+     * The access mode of the writes of non-volatile fields.
+     */
+    private final FieldAccessMode accessMode;
+    /**
+     * The writers of the target fields, grouped by the class declaring them.
+     */
+    private final ClassValue<ConcurrentMap<Field, ValueWriter>> writers = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Field, ValueWriter> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Creates a strategy writing the fields with plain access, through the default metadata registry.
+     */
+    public FieldWriteInsertionStrategy() {
+        this(FieldAccessMode.PLAIN);
+    }
+
+    /**
+     * Creates a strategy writing the fields with the given access mode, through the default metadata registry.
+     *
+     * @param accessMode the access mode of the writes of non-volatile fields
+     */
+    public FieldWriteInsertionStrategy(FieldAccessMode accessMode) {
+        this(ClassMetadataRegistry.getDefault(), accessMode);
+    }
+
+    /**
+     * Creates a strategy writing the fields with the given access mode, through the given metadata registry.
+     *
+     * @param metadataRegistry the registry of the target class metadata
+     * @param accessMode       the access mode of the writes of non-volatile fields
+     */
+    public FieldWriteInsertionStrategy(ClassMetadataRegistry metadataRegistry, FieldAccessMode accessMode) {
+        this.metadataRegistry = Objects.requireNonNull(metadataRegistry, "Metadata registry cannot be null.");
+        this.accessMode = Objects.requireNonNull(accessMode, "Field access mode cannot be null.");
+    }
+
+    /**
+     * Writes the source value straight into the target object's field.
+     *
+     * @param sourceValue  the value to insert into the target object's field
+     * @param targetObject the target object into which the source value will be inserted
+     * @param targetField  the field in the target object into which the source value will be inserted
+     * @throws TargetFieldNotAccessibleException if the target field cannot be accessed or written, or does not accept
+     *                                           the value
+     * @throws MappingException                  if a {@code null} value is inserted into a primitive field
+     */
+    @Override
+    public void insertValue(Object sourceValue, Object targetObject, Field targetField) {
+        if (Objects.isNull(sourceValue) && targetField.getType().isPrimitive()) {
+            String msg = String.format("Null value cannot be inserted into %s primitive field of %s",
+                    targetField.getName(), targetObject.getClass().getName());
+            throw new MappingException(msg);
+        }
+        ValueWriter writer = getWriter(targetObject.getClass(), targetField);
+        try {
+            writer.write(targetObject, sourceValue);
+        } catch (MappingException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            String msg = String.format("Failed to write %s field in %s ",
+                    targetField.getName(), targetObject.getClass().getName());
+            throw new TargetFieldNotAccessibleException(msg, e);
+        }
+    }
+
+    /**
+     * Resolves and caches the writer of the target field, and checks that it accepts values of the given type.
+     *
+     * @param targetType  the class of the target objects
+     * @param targetField the target field the values are inserted into
+     * @param valueType   the declared type of the inserted values
+     * @throws TargetFieldNotAccessibleException if the target field cannot be written, is annotated with
+     *                                           {@code @ExcludeFromMapping}, or does not accept the values
+     */
+    @Override
+    public void prepare(Class<?> targetType, Field targetField, Class<?> valueType) {
+        getWriter(targetType, targetField);
+        if (!wrap(targetField.getType()).isAssignableFrom(wrap(valueType))) {
+            String msg = String.format("%s field of %s cannot hold %s values",
+                    targetField.getName(), targetType.getName(), valueType.getName());
+            throw new TargetFieldNotAccessibleException(msg);
+        }
+    }
+
+    /**
+     * Creates the copier of a field pair of the same type, which passes the value from the source getter, or the source
+     * field, to the target field without boxing it. The mapper uses it for primitive fields.
+     *
+     * @param sourceField the field of the source class
+     * @param targetField the field of the target class, of the source field type
+     * @return the copier, or {@code null} if the target field is excluded from mapping
+     * @throws TargetFieldNotAccessibleException if one of the fields cannot be accessed or written
+     */
+    public PropertyCopier createCopier(Field sourceField, Field targetField) {
+        if (metadataRegistry.get(targetField.getDeclaringClass()).isExcluded(targetField)) {
+            return null;
+        }
+        VarHandle.AccessMode writeMode = getAccessMode(targetField);
+        Method getter = PropertyMethods.findGetter(sourceField);
+        return Objects.isNull(getter)
+                ? Accessors.copier(sourceField, targetField, writeMode)
+                : Accessors.copier(getter, targetField, writeMode);
+    }
+
+    /**
+     * Returns the writer of the target field, resolving it on the first request.
+     */
+    private ValueWriter getWriter(Class<?> targetType, Field targetField) {
+        ConcurrentMap<Field, ValueWriter> writersOfClass = writers.get(targetField.getDeclaringClass());
+        ValueWriter writer = writersOfClass.get(targetField);
+        if (Objects.nonNull(writer)) {
+            return writer;
+        }
+        if (metadataRegistry.get(targetType).isExcluded(targetField)) {
+            throw new TargetFieldNotAccessibleException(targetField.getName()
+                    + "field is not accessible, because annotated with @ExcludeFromMapping annotation");
+        }
+        writer = Accessors.writer(targetField, getAccessMode(targetField));
+        ValueWriter published = writersOfClass.putIfAbsent(targetField, writer);
+        return Objects.isNull(published) ? writer : published;
+    }
+
+    private VarHandle.AccessMode getAccessMode(Field field) {
+        return Modifier.isVolatile(field.getModifiers())
+                ? VarHandle.AccessMode.SET_VOLATILE
+                : accessMode.getVarHandleAccessMode();
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
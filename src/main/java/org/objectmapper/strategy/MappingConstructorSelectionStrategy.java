@@ -0,0 +1,63 @@
+package org.objectmapper.strategy;
+
+import org.objectmapper.annotation.MappingConstructor;
+import org.objectmapper.exception.TargetObjectInstantiationException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link ConstructorSelectionStrategy} interface that selects the canonical constructor of
+ * records and the constructor annotated with {@link MappingConstructor} of other classes.
+ */
+public class MappingConstructorSelectionStrategy implements ConstructorSelectionStrategy {
+    /**
+     * Selects the canonical constructor of a record, or the constructor annotated with {@link MappingConstructor}.
+     *
+     * @param targetType the class of the target objects
+     * @return the selected constructor, or {@code null} if the class is not a record and has no annotated constructor
+     * @throws TargetObjectInstantiationException if more than one constructor is annotated
+     */
+    @Override
+    public Constructor<?> select(Class<?> targetType) {
+        if (Objects.isNull(targetType)) {
+            throw new IllegalArgumentException("Target type parameter in select method cannot be null.");
+        }
+        Constructor<?> annotated = findAnnotatedConstructor(targetType);
+        if (Objects.nonNull(annotated) || !targetType.isRecord()) {
+            return annotated;
+        }
+        return findCanonicalConstructor(targetType);
+    }
+
+    private Constructor<?> findAnnotatedConstructor(Class<?> targetType) {
+        Constructor<?> annotated = null;
+        for (Constructor<?> constructor : targetType.getDeclaredConstructors()) {
+            if (!constructor.isAnnotationPresent(MappingConstructor.class)) {
+                continue;
+            }
+            if (Objects.nonNull(annotated)) {
+                String msg = String.format("Multiple @MappingConstructor constructors found in %s class",
+                        targetType.getName());
+                throw new TargetObjectInstantiationException(msg);
+            }
+            annotated = constructor;
+        }
+        return annotated;
+    }
+
+    private Constructor<?> findCanonicalConstructor(Class<?> recordType) {
+        RecordComponent[] components = recordType.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+        }
+        try {
+            return recordType.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            String msg = String.format("Unable to find %s record canonical constructor.", recordType.getName());
+            throw new TargetObjectInstantiationException(msg, e);
+        }
+    }
+}
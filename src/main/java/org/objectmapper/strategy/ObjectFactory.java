@@ -2,6 +2,7 @@ package org.objectmapper.strategy;
 
 /**
  An interface for creating instances of a given class.
+ A mapper shared by several threads calls its factory concurrently, so such factories must be thread-safe.
  */
 public interface ObjectFactory {
     /**
@@ -12,4 +13,15 @@ public interface ObjectFactory {
      @return a new instance of the specified type
      */
     <T>T create(Class<T> type);
+
+    /**
+     * Validates that instances of the given type can be created, and resolves whatever their creation needs in
+     * advance, without creating an instance. It is called for the target types of the mappings registered in advance.
+     * The default implementation does nothing.
+     *
+     * @param type the class of the objects to create
+     * @throws org.objectmapper.exception.MappingException if instances of the type cannot be created
+     */
+    default void prepare(Class<?> type) {
+    }
 }
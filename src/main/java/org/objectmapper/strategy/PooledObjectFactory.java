@@ -0,0 +1,210 @@
+package org.objectmapper.strategy;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link ObjectFactory} implementation that hands out released instances again instead of creating new ones, which
+ * reduces the allocation of short-lived target objects.
+ * <p>
+ * Objects given back with {@link #release(Object)} are reset by the configured {@link ResetPolicy} and kept in a
+ * bounded pool of their class. {@link #create(Class)} takes an instance from the pool of the requested class, and only
+ * creates a new one through the delegate factory when the pool is empty. A released object must not be used by the
+ * caller any more.
+ * <p>
+ * The default {@link FieldClearingResetPolicy} clears the final collection and map fields in place, but keeps the
+ * elements of an unmodifiable container and any other final value, so a pooled class should not hold per-use state in
+ * such fields.
+ * <p>
+ * The pools are lock-free: every pool is an array of slots, and each thread starts searching the slots at its own
+ * offset, so concurrent threads rarely compete for the same slot. The factory is thread-safe, and an object may be
+ * released by another thread than the one that created it. Objects released while the pool of their class is full are
+ * left to the garbage collector.
+ */
+public class PooledObjectFactory implements ObjectFactory {
+    /**
+     * The default number of pooled instances per class.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The factory creating new instances when the pool of the class is empty.
+     */
+    private final ObjectFactory delegate;
+    /**
+     * The policy resetting the released instances.
+     */
+    private final ResetPolicy resetPolicy;
+    /**
+     * The maximum number of pooled instances per class.
+     */
+    private final int capacity;
+    /**
+     * The pools of released instances, keyed by their class.
+     */
+    private final ClassValue<Pool> pools = new ClassValue<>() {
+        @Override
+        protected Pool computeValue(Class<?> type) {
+            return new Pool(capacity);
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a pooled factory that keeps {@value #DEFAULT_CAPACITY} instances per class, creates new instances with
+     * a {@link TargetObjectFactory} and clears the fields of the released instances.
+     */
+    public PooledObjectFactory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a pooled factory that keeps the given number of instances per class, creates new instances with a
+     * {@link TargetObjectFactory} and clears the fields of the released instances.
+     *
+     * @param capacity the maximum number of pooled instances per class
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public PooledObjectFactory(int capacity) {
+        this(new TargetObjectFactory(), capacity, new FieldClearingResetPolicy());
+    }
+
+    /**
+     * Constructs a pooled factory.
+     *
+     * @param delegate    the factory creating new instances when the pool of the class is empty
+     * @param capacity    the maximum number of pooled instances per class
+     * @param resetPolicy the policy resetting the released instances
+     * @throws IllegalArgumentException if the delegate or reset policy is null, or the capacity is not positive
+     */
+    public PooledObjectFactory(ObjectFactory delegate, int capacity, ResetPolicy resetPolicy) {
+        if (Objects.isNull(delegate) || Objects.isNull(resetPolicy)) {
+            throw new IllegalArgumentException("Delegate factory and reset policy cannot be null.");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("Pool capacity must be positive, but was %d.", capacity));
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.resetPolicy = resetPolicy;
+    }
+
+    /**
+     * Returns a pooled instance of the given class type, or a new instance created by the delegate factory if the pool
+     * of the class is empty.
+     *
+     * @param type the class type to instantiate
+     * @return a reset pooled instance or a new instance of the given class type
+     */
+    @Override
+    public <T> T create(Class<T> type) {
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException("Class type parameter in create method cannot be null.");
+        }
+        Object pooled = pools.get(type).poll();
+        if (Objects.nonNull(pooled)) {
+            hits.increment();
+            return type.cast(pooled);
+        }
+        misses.increment();
+        return delegate.create(type);
+    }
+
+    /**
+     * Prepares the creation of new instances by the delegate factory.
+     *
+     * @param type the class of the objects to create
+     */
+    @Override
+    public void prepare(Class<?> type) {
+        delegate.prepare(type);
+    }
+
+    /**
+     * Resets the given instance and returns it to the pool of its class. If the pool is full, the instance is dropped.
+     *
+     * @param instance the instance that is no longer used by the caller
+     * @param <T>      the type of the instance
+     */
+    public <T> void release(T instance) {
+        if (Objects.isNull(instance)) {
+            throw new IllegalArgumentException("Instance parameter in release method cannot be null.");
+        }
+        resetPolicy.reset(instance);
+        pools.get(instance.getClass()).offer(instance);
+    }
+
+    /**
+     * Returns the number of {@code create} calls answered with a pooled instance.
+     *
+     * @return the number of pool hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of {@code create} calls that had to create a new instance.
+     *
+     * @return the number of pool misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * A bounded, lock-free pool of the instances of one class.
+     */
+    private static final class Pool {
+        private final AtomicReferenceArray<Object> slots;
+        /**
+         * The approximate number of occupied slots, which lets an empty or full pool be detected without a search.
+         */
+        private final AtomicInteger size = new AtomicInteger();
+
+        private Pool(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        private Object poll() {
+            if (size.get() <= 0) {
+                return null;
+            }
+            int length = slots.length();
+            int start = startIndex(length);
+            for (int i = 0; i < length; i++) {
+                int index = (start + i) % length;
+                if (Objects.nonNull(slots.get(index))) {
+                    Object instance = slots.getAndSet(index, null);
+                    if (Objects.nonNull(instance)) {
+                        size.decrementAndGet();
+                        return instance;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void offer(Object instance) {
+            int length = slots.length();
+            if (size.get() >= length) {
+                return;
+            }
+            int start = startIndex(length);
+            for (int i = 0; i < length; i++) {
+                int index = (start + i) % length;
+                if (slots.compareAndSet(index, null, instance)) {
+                    size.incrementAndGet();
+                    return;
+                }
+            }
+        }
+
+        private int startIndex(int length) {
+            return (int) (Thread.currentThread().getId() % length);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.objectmapper.strategy;
+
+/**
+ * Defines how an object released to a {@link PooledObjectFactory} is reset before it is handed out again.
+ */
+public interface ResetPolicy {
+    /**
+     * Resets the given object, so no value of its previous use leaks into its next use. Final fields cannot be
+     * reassigned, so a policy resets the containers they hold in place, and leaves any other final value as it is.
+     *
+     * @param instance the released object
+     */
+    void reset(Object instance);
+}
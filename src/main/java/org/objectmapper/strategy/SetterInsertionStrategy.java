@@ -1,66 +1,118 @@
 package org.objectmapper.strategy;
 
-import org.objectmapper.annotation.ExcludeFromMapping;
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.ValueWriter;
+import org.objectmapper.exception.MappingException;
 import org.objectmapper.exception.TargetFieldNotAccessibleException;
 import org.objectmapper.exception.TargetSetterMethodNotFound;
+import org.objectmapper.metadata.ClassMetadata;
+import org.objectmapper.metadata.ClassMetadataRegistry;
 
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Objects;
 
 /**
  * The SetterInsertionStrategy class implements the {@link FieldValueInsertionStrategy} interface, which defines a method
  * for inserting a value into a field of a target object using the corresponding setter method.
  * The strategy implemented in this class assumes that the target object has a setter method for the field being set, and
  * throws exceptions if it cannot access the field or the setter method.
+ * <p>
+ * Setter methods are resolved by the {@link ClassMetadata} of the target class, only once per target class and field,
+ * and invoked through a {@link ValueWriter} created by {@link Accessors}, so repeated insertions neither look up the
+ * method nor run reflective access checks. The resolved setters are shared by every strategy and mapper using the same
+ * {@link ClassMetadataRegistry}, which is the default registry unless another one is given.
+ * <p>
+ * The strategy is thread-safe: when two threads resolve the same setter at the same time, both resolve an equivalent
+ * writer and either of them may be kept.
  */
 public class SetterInsertionStrategy implements FieldValueInsertionStrategy {
     /**
-     * Inserts the source value into the target object's field using the corresponding setter method.
+     * The registry resolving and caching the setters of the target classes.
+     */
+    private final ClassMetadataRegistry metadataRegistry;
+
+    /**
+     * Creates a strategy resolving the setters through the default metadata registry.
+     */
+    public SetterInsertionStrategy() {
+        this(ClassMetadataRegistry.getDefault());
+    }
+
+    /**
+     * Creates a strategy resolving the setters through the given metadata registry.
+     *
+     * @param metadataRegistry the registry of the target class metadata
+     */
+    public SetterInsertionStrategy(ClassMetadataRegistry metadataRegistry) {
+        this.metadataRegistry = Objects.requireNonNull(metadataRegistry, "Metadata registry cannot be null.");
+    }
+
+    /**
+     * Inserts the source value into the target object's field using the corresponding setter method. A {@code null}
+     * value is passed to the setter accepting the declared type of the field.
      *
      * @param sourceValue  the value to insert into the target object's field
      * @param targetObject the target object into which the source value will be inserted
      * @param targetField  the field in the target object into which the source value will be inserted
      * @throws TargetFieldNotAccessibleException if the target field cannot be accessed
      * @throws TargetSetterMethodNotFound        if the target field's setter method cannot be found or invoked
+     * @throws MappingException                  if a {@code null} value is inserted into a primitive field
      */
     @Override
     public void insertValue(Object sourceValue, Object targetObject, Field targetField) {
-        checkForAnnotation(targetField);
+        Class<?> valueType = Objects.isNull(sourceValue) ? targetField.getType() : sourceValue.getClass();
+        if (valueType.isPrimitive()) {
+            String msg = String.format("Null value cannot be inserted into %s primitive field of %s",
+                    targetField.getName(), targetObject.getClass().getName());
+            throw new MappingException(msg);
+        }
+        ValueWriter setter = getSetter(targetObject.getClass(), targetField, valueType);
         try {
-            Method setter = findSetterMethod(targetObject, targetField, sourceValue.getClass());
-            setter.setAccessible(true);
-            setter.invoke(targetObject, sourceValue);
-        } catch (IllegalAccessException e) {
-            String msg = String.format("Cannot access %s field in %s.", targetField.getName(), targetObject.getClass().getName());
-            throw new TargetFieldNotAccessibleException(msg, e);
-        } catch (InvocationTargetException e) {
+            setter.write(targetObject, sourceValue);
+        } catch (MappingException e) {
+            throw e;
+        } catch (RuntimeException e) {
             String msg = String.format("Failed to invoke %s field's setter method in %s ",
                     targetField.getName(), targetObject.getClass().getName());
             throw new TargetFieldNotAccessibleException(msg, e);
-        } catch (NoSuchMethodException e) {
-            String msg = String.format("%s field's setter method not found in %s ",
-                    targetField.getName(), targetObject.getClass().getName());
-            throw new TargetSetterMethodNotFound(msg, e);
         }
     }
 
-    private void checkForAnnotation(Field field) {
-        if (field.isAnnotationPresent(ExcludeFromMapping.class)) {
-            throw new TargetFieldNotAccessibleException(field.getName()
-                    + "field is not accessible, because annotated with @ExcludeFromMapping annotation");
-        }
+    /**
+     * Resolves and caches the setter of the target field accepting values of the given type. Values of a primitive
+     * type are looked up as their wrapper type, which is the class of the values inserted at runtime.
+     *
+     * @param targetType  the class of the target objects
+     * @param targetField the target field the values are inserted into
+     * @param valueType   the declared type of the inserted values
+     * @throws TargetFieldNotAccessibleException if the target field is annotated with {@code @ExcludeFromMapping}
+     * @throws TargetSetterMethodNotFound        if the target field has no setter accepting the values
+     */
+    @Override
+    public void prepare(Class<?> targetType, Field targetField, Class<?> valueType) {
+        getSetter(targetType, targetField, wrap(valueType));
     }
 
-    private Method findSetterMethod(Object targetObject,
-                                    Field targetField,
-                                    Class<?> sourceValueType) throws NoSuchMethodException {
-        String setterName = getSetterMethodName(targetField);
-        return targetObject.getClass().getMethod(setterName, sourceValueType);
+    /**
+     * Returns the writer of the setter of the target field accepting the given value type.
+     */
+    private ValueWriter getSetter(Class<?> targetType, Field targetField, Class<?> sourceValueType) {
+        ClassMetadata metadata = metadataRegistry.get(targetType);
+        ValueWriter setter = metadata.findSetter(targetField, sourceValueType);
+        if (Objects.isNull(setter)) {
+            if (metadata.isExcluded(targetField)) {
+                throw new TargetFieldNotAccessibleException(targetField.getName()
+                        + "field is not accessible, because annotated with @ExcludeFromMapping annotation");
+            }
+            String msg = String.format("%s field's setter method not found in %s ",
+                    targetField.getName(), targetType.getName());
+            throw new TargetSetterMethodNotFound(msg);
+        }
+        return setter;
     }
 
-    private String getSetterMethodName(Field field) {
-        String camelCaseLetter = field.getName().substring(0, 1).toUpperCase();
-        return "set" + camelCaseLetter + field.getName().substring(1);
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
     }
 }
@@ -1,5 +1,7 @@
 package org.objectmapper.strategy;
 
+import org.objectmapper.metadata.ClassMetadataRegistry;
+
 import java.util.Objects;
 
 public class StrategyFactory {
@@ -11,12 +13,25 @@ public class StrategyFactory {
     public FieldExclusionStrategy getDefaultFieldExclusionStrategy(){
         return new AnnotationExclusionStrategy();
     }
+    public FieldExclusionStrategy getDefaultFieldExclusionStrategy(ClassMetadataRegistry metadataRegistry){
+        return new AnnotationExclusionStrategy(metadataRegistry);
+    }
     public FieldValueInsertionStrategy getDefaultFieldInsertionStrategy(){
         return new SetterInsertionStrategy();
     }
+    public FieldValueInsertionStrategy getDefaultFieldInsertionStrategy(ClassMetadataRegistry metadataRegistry){
+        return new SetterInsertionStrategy(metadataRegistry);
+    }
+    public FieldValueInsertionStrategy getFieldWriteInsertionStrategy(ClassMetadataRegistry metadataRegistry,
+                                                                      FieldAccessMode accessMode){
+        return new FieldWriteInsertionStrategy(metadataRegistry, accessMode);
+    }
     public ObjectFactory getDefaultObjectFactory(){
         return new TargetObjectFactory();
     }
+    public ConstructorSelectionStrategy getDefaultConstructorSelectionStrategy(){
+        return new MappingConstructorSelectionStrategy();
+    }
     public static StrategyFactory getInstance() {
         if (Objects.isNull(instance)) {
             return new StrategyFactory();
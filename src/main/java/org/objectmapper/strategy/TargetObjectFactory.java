@@ -1,16 +1,39 @@
 package org.objectmapper.strategy;
 
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
 import org.objectmapper.exception.TargetObjectInstantiationException;
+import org.objectmapper.jfr.ReflectionFallbackEvent;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  A factory implementation that creates objects of the given class type by invoking its no-arg constructor using reflection.
  If the target class does not have a no-arg constructor, an exception will be thrown.
+ <p>
+ The constructor of every class is resolved only once and turned into a {@link Supplier} by {@link Accessors}, which
+ calls the constructor directly. The suppliers are kept in a {@link ClassValue}, so caching them does not prevent the
+ unloading of the target classes. When the constructor cannot be accessed through a method handle, it is invoked
+ reflectively instead, and a {@link ReflectionFallbackEvent} is recorded.
+ <p>
+ The factory is thread-safe: {@link ClassValue} publishes a single supplier per class, even when several threads
+ request it at the same time.
  */
 public class TargetObjectFactory implements ObjectFactory {
+    /**
+     * The resolved no-arg constructors of the created classes.
+     */
+    private final ClassValue<Supplier<?>> instantiators = new ClassValue<>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return createInstantiator(type);
+        }
+    };
+
     /**
      * Creates a new instance of the given class type using its no-arg constructor.
      *
@@ -23,24 +46,74 @@ public class TargetObjectFactory implements ObjectFactory {
         if (Objects.isNull(type)){
             throw new IllegalArgumentException("Class type parameter in create method cannot be null.");
         }
+        Supplier<?> instantiator = instantiators.get(type);
         try {
-            Constructor<T> constructor = type.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            return constructor.newInstance();
-        } catch (InvocationTargetException e) {
+            return type.cast(instantiator.get());
+        } catch (TargetObjectInstantiationException e) {
+            throw e;
+        } catch (Exception e) {
             String msg = String.format("Unable to invoke %s constructor.", type.getName());
-            throw new TargetObjectInstantiationException(msg, e.getTargetException());
-        } catch (InstantiationException e) {
-            String msg = String.format("Unable to instantiate target class: %s", type.getName());
             throw new TargetObjectInstantiationException(msg, e);
+        }
+    }
+
+    /**
+     * Resolves the no-arg constructor of the given class type, without invoking it.
+     *
+     * @param type the class type to instantiate later
+     * @throws TargetObjectInstantiationException if the class is abstract or has no accessible no-arg constructor
+     */
+    @Override
+    public void prepare(Class<?> type) {
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException("Class type parameter in prepare method cannot be null.");
+        }
+        instantiators.get(type);
+    }
+
+    private Supplier<?> createInstantiator(Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            String msg = String.format("Unable to instantiate target class: %s", type.getName());
+            throw new TargetObjectInstantiationException(msg);
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
         } catch (NoSuchMethodException e) {
             String msg = String.format(
                     "Unable to find %s class constructor. No-arg constructor is needed",
                     type.getName());
             throw new TargetObjectInstantiationException(msg, e);
-        } catch (IllegalAccessException e) {
-            String msg = String.format("Unable to access %s class constructor.", type.getName());
+        }
+        try {
+            return Accessors.instantiator(constructor);
+        } catch (TargetFieldNotAccessibleException e) {
+            ReflectionFallbackEvent.emit(type, e.getMessage());
+            return createReflectiveInstantiator(constructor);
+        }
+    }
+
+    private Supplier<?> createReflectiveInstantiator(Constructor<?> constructor) {
+        String typeName = constructor.getDeclaringClass().getName();
+        try {
+            constructor.setAccessible(true);
+        } catch (RuntimeException e) {
+            String msg = String.format("Unable to access %s class constructor.", typeName);
             throw new TargetObjectInstantiationException(msg, e);
         }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (InvocationTargetException e) {
+                String msg = String.format("Unable to invoke %s constructor.", typeName);
+                throw new TargetObjectInstantiationException(msg, e.getTargetException());
+            } catch (InstantiationException e) {
+                String msg = String.format("Unable to instantiate target class: %s", typeName);
+                throw new TargetObjectInstantiationException(msg, e);
+            } catch (IllegalAccessException e) {
+                String msg = String.format("Unable to access %s class constructor.", typeName);
+                throw new TargetObjectInstantiationException(msg, e);
+            }
+        };
     }
 }
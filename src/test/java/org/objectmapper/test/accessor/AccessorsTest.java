@@ -0,0 +1,105 @@
+package org.objectmapper.test.accessor;
+
+import org.junit.jupiter.api.Test;
+import org.objectmapper.accessor.Accessors;
+import org.objectmapper.accessor.PropertyCopier;
+import org.objectmapper.accessor.ValueReader;
+import org.objectmapper.accessor.ValueWriter;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+import org.objectmapper.test.model.PrimitiveTestClass;
+import org.objectmapper.test.model.SourceTestClass;
+import org.objectmapper.test.model.TargetTestClass;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AccessorsTest {
+
+    @Test
+    public void testReaderOfPrivateField() throws NoSuchFieldException {
+        ValueReader reader = Accessors.reader(SourceTestClass.class.getDeclaredField("name"));
+
+        assertEquals("Test1", reader.read(new SourceTestClass(1, "Test1", "")));
+    }
+
+    @Test
+    public void testWriterOfPrivateField() throws NoSuchFieldException {
+        TargetTestClass target = new TargetTestClass();
+        ValueWriter writer = Accessors.writer(TargetTestClass.class.getDeclaredField("name"));
+
+        writer.write(target, "foo");
+
+        assertEquals("foo", target.getName());
+    }
+
+    @Test
+    public void testWriterOfFinalField() {
+        assertThrows(TargetFieldNotAccessibleException.class,
+                () -> Accessors.writer(ClassWithFinalField.class.getDeclaredField("value")));
+    }
+
+    @Test
+    public void testReaderOfGetterMethod() throws NoSuchMethodException {
+        ValueReader reader = Accessors.reader(SourceTestClass.class.getMethod("getId"));
+
+        assertEquals(1, reader.read(new SourceTestClass(1, "Test1", "")));
+    }
+
+    @Test
+    public void testReaderOfPrimitiveGetterMethod() throws NoSuchMethodException {
+        ValueReader reader = Accessors.reader(TargetTestClass.class.getMethod("getId"));
+
+        assertEquals(7, reader.read(new TargetTestClass(7, "Test1", "")));
+    }
+
+    @Test
+    public void testWriterOfSetterMethod() throws NoSuchMethodException {
+        TargetTestClass target = new TargetTestClass();
+        ValueWriter writer = Accessors.writer(TargetTestClass.class.getMethod("setName", String.class));
+
+        writer.write(target, "foo");
+
+        assertEquals("foo", target.getName());
+    }
+
+    @Test
+    public void testWriterOfSetterMethodPropagatesSetterException() throws NoSuchMethodException {
+        ValueWriter writer = Accessors.writer(ClassWithFinalField.class.getMethod("setValue", String.class));
+
+        assertThrows(IllegalStateException.class, () -> writer.write(new ClassWithFinalField(), "foo"));
+    }
+
+    @Test
+    public void testCopierOfPrimitiveGetterAndSetter() throws NoSuchMethodException {
+        PrimitiveTestClass source = new PrimitiveTestClass();
+        source.setTotal(5_000_000_000L);
+        PrimitiveTestClass target = new PrimitiveTestClass();
+        PropertyCopier copier = Accessors.copier(PrimitiveTestClass.class.getMethod("getTotal"),
+                PrimitiveTestClass.class.getMethod("setTotal", long.class));
+
+        copier.copy(source, target);
+
+        assertEquals(5_000_000_000L, target.getTotal());
+    }
+
+    @Test
+    public void testCopierOfPrimitiveFieldAndSetter() throws NoSuchMethodException, NoSuchFieldException {
+        PrimitiveTestClass source = new PrimitiveTestClass();
+        source.setRatio(0.25d);
+        PrimitiveTestClass target = new PrimitiveTestClass();
+        PropertyCopier copier = Accessors.copier(PrimitiveTestClass.class.getDeclaredField("ratio"),
+                PrimitiveTestClass.class.getMethod("setRatio", double.class));
+
+        copier.copy(source, target);
+
+        assertEquals(0.25d, target.getRatio());
+    }
+
+    public static class ClassWithFinalField {
+        private final String value = "";
+
+        public void setValue(String value) {
+            throw new IllegalStateException("Value is read-only.");
+        }
+    }
+}
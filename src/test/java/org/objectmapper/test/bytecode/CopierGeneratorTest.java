@@ -0,0 +1,153 @@
+package org.objectmapper.test.bytecode;
+
+import org.junit.jupiter.api.Test;
+import org.objectmapper.annotation.ExcludeFromMapping;
+import org.objectmapper.bytecode.CopierGenerator;
+import org.objectmapper.bytecode.FieldCopier;
+import org.objectmapper.test.model.SourceTestClass;
+import org.objectmapper.test.model.TargetTestClass;
+import org.objectmapper.test.model.TargetTestNode;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CopierGeneratorTest {
+
+    @Test
+    public void testGenerateCopiesEveryField() throws NoSuchFieldException {
+        FieldCopier copier = generate(Person.class, PersonDto.class, "name", "age", "balance");
+        Person source = new Person("John", 42, 10.5d);
+        PersonDto target = new PersonDto();
+        assertNotNull(copier);
+
+        copier.copy(source, target);
+
+        assertTrue(copier.getClass().isHidden());
+        assertEquals("John", target.getName());
+        assertEquals(42, target.getAge());
+        assertEquals(10.5d, target.getBalance());
+    }
+
+    @Test
+    public void testGenerateWithoutSourceGetter() throws NoSuchFieldException {
+        FieldCopier copier = CopierGenerator.generate(SourceTestClass.class, TargetTestClass.class,
+                new Field[]{SourceTestClass.class.getDeclaredField("fieldWithoutSetter")},
+                new Field[]{TargetTestClass.class.getDeclaredField("fieldWithoutSetter")});
+
+        assertNull(copier);
+    }
+
+    @Test
+    public void testGenerateWithExcludedTargetField() throws NoSuchFieldException {
+        FieldCopier copier = generate(Person.class, PersonDto.class, "name", "nickname");
+
+        assertNull(copier);
+    }
+
+    @Test
+    public void testGenerateWithInaccessibleSourceWithoutFields() {
+        FieldCopier copier = CopierGenerator.generate(EmptySource.class, TargetTestNode.class,
+                new Field[0], new Field[0]);
+
+        assertNull(copier);
+    }
+
+    private FieldCopier generate(Class<?> sourceType, Class<?> targetType, String... fieldNames)
+            throws NoSuchFieldException {
+        Field[] sourceFields = new Field[fieldNames.length];
+        Field[] targetFields = new Field[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            sourceFields[i] = sourceType.getDeclaredField(fieldNames[i]);
+            targetFields[i] = targetType.getDeclaredField(fieldNames[i]);
+        }
+        return CopierGenerator.generate(sourceType, targetType, sourceFields, targetFields);
+    }
+
+    private static class EmptySource {
+    }
+
+    public static class Person {
+        private String name;
+        private int age;
+        private double balance;
+        @ExcludeFromMapping
+        private String nickname;
+
+        public Person(String name, int age, double balance) {
+            this.name = name;
+            this.age = age;
+            this.balance = balance;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public double getBalance() {
+            return balance;
+        }
+
+        public String getNickname() {
+            return nickname;
+        }
+    }
+
+    /**
+     * A source without getters, whose fields can only be read reflectively, so no copier can be generated for it.
+     */
+    public static class PersonWithoutGetters {
+        private String name;
+        private int age;
+        private double balance;
+
+        public PersonWithoutGetters(String name, int age, double balance) {
+            this.name = name;
+            this.age = age;
+            this.balance = balance;
+        }
+    }
+
+    public static class PersonDto {
+        private String name;
+        private int age;
+        private double balance;
+        @ExcludeFromMapping
+        private String nickname;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public double getBalance() {
+            return balance;
+        }
+
+        public void setBalance(double balance) {
+            this.balance = balance;
+        }
+
+        public void setNickname(String nickname) {
+            this.nickname = nickname;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.objectmapper.test.converter;
+
+import org.junit.jupiter.api.Test;
+import org.objectmapper.converter.TypeConverter;
+import org.objectmapper.converter.TypeConverterRegistry;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TypeConverterRegistryTest {
+    private final TypeConverterRegistry registry = TypeConverterRegistry.getDefault();
+
+    @Test
+    public void testFindConvertsBetweenPrimitiveAndWrapperTypes() {
+        assertEquals(5L, registry.find(Integer.class, long.class).convert(5));
+        assertEquals(5, registry.find(long.class, int.class).convert(5L));
+        assertEquals(1.5d, registry.find(BigDecimal.class, double.class).convert(new BigDecimal("1.5")));
+        assertEquals(new BigDecimal("0.1"), registry.find(Double.class, BigDecimal.class).convert(0.1d));
+    }
+
+    @Test
+    public void testIntegralConversionRejectsInexactValues() {
+        TypeConverter<Object, Object> longToInt = registry.find(Long.class, Integer.class);
+        TypeConverter<Object, Object> doubleToLong = registry.find(Double.class, Long.class);
+
+        assertThrows(ArithmeticException.class, () -> longToInt.convert(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> doubleToLong.convert(1.5d));
+        assertThrows(ArithmeticException.class, () -> doubleToLong.convert(0x1p63));
+        assertThrows(ArithmeticException.class, () -> registry.find(Integer.class, Byte.class).convert(128));
+        assertEquals(BigInteger.TEN, registry.find(Double.class, BigInteger.class).convert(10.0d));
+    }
+
+    @Test
+    public void testFindConvertsStringsEnumsAndInstants() {
+        Instant instant = Instant.ofEpochMilli(1_000L);
+
+        assertEquals(TimeUnit.SECONDS, registry.find(String.class, TimeUnit.class).convert("SECONDS"));
+        assertEquals("SECONDS", registry.find(TimeUnit.class, String.class).convert(TimeUnit.SECONDS));
+        assertEquals(1_000L, registry.find(Instant.class, long.class).convert(instant));
+        assertEquals(instant, registry.find(String.class, Instant.class).convert(instant.toString()));
+        assertEquals(true, registry.find(String.class, boolean.class).convert("TRUE"));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.find(String.class, Boolean.class).convert("yes"));
+    }
+
+    @Test
+    public void testRegisteredConverterTakesPrecedence() {
+        TypeConverterRegistry customRegistry = new TypeConverterRegistry.Builder()
+                .withConverter(int.class, String.class, value -> "#" + value)
+                .withConverter(Number.class, Long.class, Number::longValue)
+                .build();
+
+        assertEquals("#7", customRegistry.find(Integer.class, String.class).convert(7));
+        assertEquals(1L, customRegistry.find(Double.class, Long.class).convert(1.5d));
+        assertEquals("7", registry.find(Integer.class, String.class).convert(7));
+    }
+
+    @Test
+    public void testFindWithoutConverterReturnsNull() {
+        assertNull(registry.find(Instant.class, Integer.class));
+        assertNull(registry.find(Object.class, String.class));
+    }
+
+    @Test
+    public void testFindWithNullTypeThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.find(null, String.class));
+    }
+}
@@ -0,0 +1,206 @@
+package org.objectmapper.test.flow;
+
+import org.junit.jupiter.api.Test;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.flow.MappingProcessor;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.test.model.SourceTestConversions;
+import org.objectmapper.test.model.TargetTestConversions;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappingProcessorTest {
+    private final ObjectMapper mapper = new ObjectMapperImpl.Builder().build();
+
+    @Test
+    public void testMapsEveryPublishedObjectInOrder() throws InterruptedException {
+        int count = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            SubmissionPublisher<SourceTestConversions> publisher = new SubmissionPublisher<>(executor, 256);
+            MappingProcessor<SourceTestConversions, TargetTestConversions> processor =
+                    new MappingProcessor<>(mapper, TargetTestConversions.class, 64, executor);
+            RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, count);
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+
+            for (int i = 0; i < count; i++) {
+                publisher.submit(createConversions(i));
+            }
+            publisher.close();
+
+            assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS), "The mapped objects were not all published");
+            assertNull(subscriber.error);
+            assertEquals(count, subscriber.received.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, subscriber.received.get(i).getCode());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRequestsOnlyWhatTheSubscriberDemands() {
+        MappingProcessor<SourceTestConversions, TargetTestConversions> processor =
+                new MappingProcessor<>(mapper, TargetTestConversions.class, 4, Runnable::run);
+        RecordingSubscription upstream = new RecordingSubscription();
+        RecordingSubscriber subscriber = new RecordingSubscriber(3);
+        processor.onSubscribe(upstream);
+        processor.subscribe(subscriber);
+        assertEquals(4, upstream.requested.get());
+
+        for (int i = 0; i < 4; i++) {
+            processor.onNext(createConversions(i));
+        }
+
+        assertEquals(3, subscriber.received.size());
+        assertEquals(7, upstream.requested.get());
+
+        subscriber.subscription.request(10);
+        processor.onComplete();
+
+        assertEquals(4, subscriber.received.size());
+        assertEquals(8, upstream.requested.get());
+        assertEquals(0, subscriber.completed.getCount());
+    }
+
+    @Test
+    public void testMappingFailureCancelsUpstream() {
+        MappingProcessor<SourceTestConversions, TargetTestConversions> processor =
+                new MappingProcessor<>(mapper, TargetTestConversions.class);
+        RecordingSubscription upstream = new RecordingSubscription();
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        processor.onSubscribe(upstream);
+        processor.subscribe(subscriber);
+
+        SourceTestConversions invalid = createConversions(1);
+        invalid.setCode("not a number");
+        processor.onNext(invalid);
+
+        assertInstanceOf(MappingException.class, subscriber.error);
+        assertTrue(upstream.cancelled);
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    public void testExecutorRejectionIsSignalledToSubscriber() {
+        MappingProcessor<SourceTestConversions, TargetTestConversions> processor =
+                new MappingProcessor<>(mapper, TargetTestConversions.class, 4, command -> {
+                    throw new RejectedExecutionException("Executor is shut down.");
+                });
+        RecordingSubscription upstream = new RecordingSubscription();
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(upstream);
+
+        processor.onNext(createConversions(1));
+
+        assertInstanceOf(RejectedExecutionException.class, subscriber.error);
+        assertEquals(1, subscriber.errors.get());
+        assertTrue(upstream.cancelled);
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    public void testRejectsSecondSubscriber() {
+        MappingProcessor<SourceTestConversions, TargetTestConversions> processor =
+                new MappingProcessor<>(mapper, TargetTestConversions.class);
+        processor.subscribe(new RecordingSubscriber(1));
+        RecordingSubscriber second = new RecordingSubscriber(1);
+
+        processor.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    private SourceTestConversions createConversions(int code) {
+        SourceTestConversions conversions = new SourceTestConversions();
+        conversions.setQuantity(7);
+        conversions.setStatus("OPEN");
+        conversions.setCreatedAt(Instant.ofEpochMilli(1_700_000_000_123L));
+        conversions.setPrice(new BigDecimal("19.99"));
+        conversions.setCode(String.valueOf(code));
+        return conversions;
+    }
+
+    /**
+     * Records the objects and the terminal signal it receives, after requesting the given number of objects. The
+     * signals are serialized by the processor, and read once the terminal signal is received.
+     */
+    private static final class RecordingSubscriber implements Flow.Subscriber<TargetTestConversions> {
+        private final long initialRequest;
+        private final List<TargetTestConversions> received;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final AtomicInteger errors = new AtomicInteger();
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        private RecordingSubscriber(long initialRequest) {
+            this(initialRequest, 16);
+        }
+
+        private RecordingSubscriber(long initialRequest, int expectedCount) {
+            this.initialRequest = initialRequest;
+            this.received = new ArrayList<>(expectedCount);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(TargetTestConversions item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.incrementAndGet();
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    /**
+     * Counts the objects requested from the upstream publisher.
+     */
+    private static final class RecordingSubscription implements Flow.Subscription {
+        private final AtomicInteger requested = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet((int) n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.objectmapper.test.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.objectmapper.jfr.BatchMappingEvent;
+import org.objectmapper.jfr.PlanCompilationEvent;
+import org.objectmapper.jfr.ReflectionFallbackEvent;
+import org.objectmapper.jfr.SlowMappingEvent;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.strategy.TargetObjectFactory;
+import org.objectmapper.test.model.SourceTestConversions;
+import org.objectmapper.test.model.TargetTestConversions;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappingEventsTest {
+    private static final String PLAN_COMPILATION = EventType.getEventType(PlanCompilationEvent.class).getName();
+    private static final String SLOW_MAPPING = EventType.getEventType(SlowMappingEvent.class).getName();
+    private static final String BATCH_MAPPING = EventType.getEventType(BatchMappingEvent.class).getName();
+    private static final String REFLECTION_FALLBACK = EventType.getEventType(ReflectionFallbackEvent.class).getName();
+
+    @Test
+    public void testPlanCompilationIsRecordedOnPlanCacheMiss() throws Exception {
+        ObjectMapper mapper = new ObjectMapperImpl.Builder().build();
+
+        List<RecordedEvent> events = record(stream -> stream.enable(PLAN_COMPILATION), PLAN_COMPILATION, () -> {
+            mapper.mapObject(createConversions(), TargetTestConversions.class);
+            mapper.mapObject(createConversions(), TargetTestConversions.class);
+        });
+
+        List<RecordedEvent> compilations = named(events, PLAN_COMPILATION);
+        assertEquals(1, compilations.size());
+        RecordedEvent compilation = compilations.get(0);
+        assertEquals(SourceTestConversions.class.getName(), compilation.getClass("sourceType").getName());
+        assertEquals(TargetTestConversions.class.getName(), compilation.getClass("targetType").getName());
+        assertEquals(5, compilation.getInt("fieldCount"));
+        assertFalse(compilation.getBoolean("generated"));
+    }
+
+    @Test
+    public void testSlowMappingIsRecordedAboveThreshold() throws Exception {
+        ObjectMapper mapper = new ObjectMapperImpl.Builder().build();
+
+        List<RecordedEvent> events = record(stream -> stream.enable(SLOW_MAPPING).withThreshold(Duration.ZERO),
+                SLOW_MAPPING, () -> mapper.mapInto(createConversions(), new TargetTestConversions()));
+
+        RecordedEvent slowMapping = named(events, SLOW_MAPPING).get(0);
+        assertEquals("mapInto", slowMapping.getString("operation"));
+        assertEquals(TargetTestConversions.class.getName(), slowMapping.getClass("targetType").getName());
+        assertTrue(slowMapping.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().equals(getClass().getName())));
+    }
+
+    @Test
+    public void testBatchMappingIsRecordedWithoutFastMappings() throws Exception {
+        ObjectMapper mapper = new ObjectMapperImpl.Builder().build();
+        List<SourceTestConversions> sources = List.of(createConversions(), createConversions(), createConversions());
+
+        List<RecordedEvent> events = record(stream -> {
+            stream.enable(SLOW_MAPPING).withThreshold(Duration.ofHours(1));
+            stream.enable(BATCH_MAPPING);
+        }, BATCH_MAPPING, () -> mapper.mapAll(sources, TargetTestConversions.class));
+
+        RecordedEvent batch = named(events, BATCH_MAPPING).get(0);
+        assertEquals(3, batch.getInt("objectCount"));
+        assertFalse(batch.getBoolean("parallel"));
+        assertEquals(TargetTestConversions.class.getName(), batch.getClass("targetType").getName());
+        assertTrue(named(events, SLOW_MAPPING).isEmpty());
+    }
+
+    @Test
+    public void testReflectionFallbackIsRecordedForInaccessibleConstructor() throws Exception {
+        TargetObjectFactory objectFactory = new TargetObjectFactory();
+
+        List<RecordedEvent> events = record(stream -> stream.enable(REFLECTION_FALLBACK), REFLECTION_FALLBACK,
+                () -> objectFactory.create(ArrayList.class));
+
+        RecordedEvent fallback = named(events, REFLECTION_FALLBACK).get(0);
+        assertEquals(ArrayList.class.getName(), fallback.getClass("type").getName());
+        assertFalse(fallback.getString("reason").isEmpty());
+    }
+
+    /**
+     * Runs the action while streaming the events of a new recording, until the awaited event arrives.
+     */
+    private List<RecordedEvent> record(Consumer<RecordingStream> settings, String awaitedEvent, Runnable action)
+            throws InterruptedException {
+        List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(1);
+        try (RecordingStream stream = new RecordingStream()) {
+            settings.accept(stream);
+            stream.onEvent(event -> {
+                events.add(event);
+                if (event.getEventType().getName().equals(awaitedEvent)) {
+                    received.countDown();
+                }
+            });
+            stream.startAsync();
+            action.run();
+            assertTrue(received.await(30, TimeUnit.SECONDS), awaitedEvent + " event was not recorded");
+        }
+        return events;
+    }
+
+    private List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private SourceTestConversions createConversions() {
+        SourceTestConversions conversions = new SourceTestConversions();
+        conversions.setQuantity(7);
+        conversions.setStatus("OPEN");
+        conversions.setCreatedAt(Instant.ofEpochMilli(1_700_000_000_123L));
+        conversions.setPrice(new BigDecimal("19.99"));
+        conversions.setCode("1");
+        return conversions;
+    }
+}
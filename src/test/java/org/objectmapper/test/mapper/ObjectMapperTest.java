@@ -1,23 +1,84 @@
 package org.objectmapper.test.mapper;
 
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.MappingValidationException;
+import org.objectmapper.exception.TargetFieldNotFoundException;
 import org.objectmapper.exception.TargetObjectInstantiationException;
+import org.objectmapper.exception.TargetSetterMethodNotFound;
+import org.objectmapper.exception.TypeConversionException;
+import org.objectmapper.jfr.PlanCompilationEvent;
+import org.objectmapper.mapper.FieldNamingPolicy;
+import org.objectmapper.mapper.NullValuePolicy;
 import org.objectmapper.mapper.ObjectMapper;
 import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.mapper.PatchPolicy;
+import org.objectmapper.mapper.PatchResult;
+import org.objectmapper.mapper.UnmappedField;
+import org.objectmapper.metrics.InMemoryMappingMetrics;
+import org.objectmapper.metrics.MappingListener;
+import org.objectmapper.metrics.PairMetrics;
 import org.objectmapper.strategy.AnnotationExclusionStrategy;
 import org.objectmapper.strategy.FieldExclusionStrategy;
 import org.objectmapper.strategy.FieldValueInsertionStrategy;
 import org.objectmapper.strategy.ObjectFactory;
 import org.objectmapper.strategy.SetterInsertionStrategy;
 import org.objectmapper.strategy.TargetObjectFactory;
+import org.objectmapper.test.bytecode.CopierGeneratorTest;
+import org.objectmapper.test.model.ImmutableTargetTestClass;
+import org.objectmapper.test.model.PrimitiveTestClass;
+import org.objectmapper.test.model.SourceTestCatalog;
 import org.objectmapper.test.model.SourceTestClass;
+import org.objectmapper.test.model.SourceTestContainers;
+import org.objectmapper.test.model.SourceTestConversions;
+import org.objectmapper.test.model.SourceTestCustomer;
+import org.objectmapper.test.model.SourceTestItem;
+import org.objectmapper.test.model.SourceTestNode;
+import org.objectmapper.test.model.TargetTestCatalog;
 import org.objectmapper.test.model.TargetTestClass;
+import org.objectmapper.test.model.TargetTestContainers;
+import org.objectmapper.test.model.TargetTestConversions;
+import org.objectmapper.test.model.TargetTestCustomer;
+import org.objectmapper.test.model.TargetTestItem;
+import org.objectmapper.test.model.TargetTestNode;
+import org.objectmapper.test.model.TargetTestRecord;
 
+import com.sun.management.ThreadMXBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -69,6 +130,23 @@ class ObjectMapperTest {
         verify(fieldValueInsertionStrategy, times(3)).insertValue(any(Object.class), any(Object.class), any(Field.class));
     }
 
+    @Test
+    void mapObject_givenSameTypePairTwice_shouldResolveFieldsOnlyOnce() {
+        // Arrange
+        SourceTestClass source = new SourceTestClass(1, "Test1", "");
+        when(objectFactory.create(TargetTestClass.class)).thenReturn(new TargetTestClass());
+        when(fieldExclusionStrategy.filter(any())).thenReturn(getSourceFields());
+
+        // Act
+        objectMapper.mapObject(source, TargetTestClass.class);
+        objectMapper.mapObject(source, TargetTestClass.class);
+
+        // Assert
+        verify(objectFactory, times(2)).create(TargetTestClass.class);
+        verify(fieldExclusionStrategy, times(1)).filter(any());
+        verify(fieldValueInsertionStrategy, times(6)).insertValue(any(Object.class), any(Object.class), any(Field.class));
+    }
+
     @Test
     void mapObject_givenInvalidTargetType_shouldThrowTargetObjectInstantiationException() {
         // Arrange
@@ -78,6 +156,762 @@ class ObjectMapperTest {
         assertThrows(TargetObjectInstantiationException.class, () -> objectMapper.mapObject(source, String.class));
     }
 
+    @Test
+    void mapObject_givenSnakeCaseNamingPolicy_shouldMatchRenamedAndInheritedFields() {
+        ObjectMapper namingMapper = new ObjectMapperImpl.Builder()
+                .withFieldNamingPolicy(FieldNamingPolicy.SNAKE_CASE_TO_CAMEL_CASE)
+                .build();
+        SourceTestCustomer source = new SourceTestCustomer();
+        source.setId(7L);
+        source.setFirst_name("John");
+        source.setLast_name("Doe");
+
+        TargetTestCustomer target = namingMapper.mapObject(source, TargetTestCustomer.class);
+
+        assertEquals(7L, target.getId());
+        assertEquals("John", target.getFirstName());
+        assertEquals("Doe", target.getSurname());
+    }
+
+    @Test
+    void mapObject_givenExactNamingPolicy_shouldThrowTargetFieldNotFoundException() {
+        ObjectMapper exactMapper = new ObjectMapperImpl.Builder().build();
+
+        assertThrows(TargetFieldNotFoundException.class,
+                () -> exactMapper.mapObject(new SourceTestCustomer(), TargetTestCustomer.class));
+    }
+
+    @Test
+    void fieldNamingPolicy_givenFieldNames_shouldReturnMatchingKeys() {
+        assertEquals("userId", FieldNamingPolicy.EXACT.getMatchingKey("userId"));
+        assertEquals(FieldNamingPolicy.CASE_INSENSITIVE.getMatchingKey("userID"),
+                FieldNamingPolicy.CASE_INSENSITIVE.getMatchingKey("userId"));
+        assertEquals("firstName", FieldNamingPolicy.SNAKE_CASE_TO_CAMEL_CASE.getMatchingKey("first_name"));
+        assertEquals("firstName", FieldNamingPolicy.SNAKE_CASE_TO_CAMEL_CASE.getMatchingKey("FIRST_NAME"));
+        assertEquals("firstName", FieldNamingPolicy.SNAKE_CASE_TO_CAMEL_CASE.getMatchingKey("firstName"));
+    }
+
+    @Test
+    void mapObject_givenLenientMapping_shouldSkipUnmappableFieldsAndReportThemOnce() {
+        ObjectMapperImpl lenientMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder()
+                .withLenientMapping(true)
+                .build();
+        SourceTestCustomer source = new SourceTestCustomer();
+        source.setId(7L);
+        source.setFirst_name("John");
+        source.setLast_name("Doe");
+
+        lenientMapper.mapObject(source, TargetTestCustomer.class);
+        TargetTestCustomer target = lenientMapper.mapObject(source, TargetTestCustomer.class);
+        TargetTestClass targetWithoutSetter = lenientMapper.mapObject(new SourceTestClass(1, "Test1", ""),
+                TargetTestClass.class);
+
+        assertEquals(7L, target.getId());
+        assertEquals("Doe", target.getSurname());
+        Assertions.assertNull(target.getFirstName());
+        assertEquals("Test1", targetWithoutSetter.getName());
+        List<UnmappedField> unmappedFields = lenientMapper.getDiagnostics().getUnmappedFields();
+        assertEquals(List.of("first_name", "fieldWithoutSetter"), unmappedFields.stream()
+                .map(UnmappedField::getFieldName)
+                .toList());
+        assertEquals(TargetTestCustomer.class.getName(), unmappedFields.get(0).getTargetTypeName());
+        Assertions.assertTrue(unmappedFields.get(1).getReason().contains("setter"));
+    }
+
+    @Test
+    void getDiagnostics_givenStrictMapping_shouldReportNoUnmappedFields() {
+        ObjectMapperImpl strictMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder().build();
+
+        assertThrows(TargetFieldNotFoundException.class,
+                () -> strictMapper.mapObject(new SourceTestCustomer(), TargetTestCustomer.class));
+        Assertions.assertTrue(strictMapper.getDiagnostics().isEmpty());
+    }
+
+    @Test
+    void mapObject_givenBytecodeGeneration_shouldCopyFieldsThroughGeneratedCopier() {
+        ObjectMapper generatingMapper = new ObjectMapperImpl.Builder()
+                .withBytecodeGeneration(true)
+                .build();
+        CopierGeneratorTest.Person source = new CopierGeneratorTest.Person("John", 42, 10.5d);
+        List<CopierGeneratorTest.PersonDto> targets = new ArrayList<>();
+
+        List<RecordedEvent> compilations = recordPlanCompilations(
+                () -> targets.add(generatingMapper.mapObject(source, CopierGeneratorTest.PersonDto.class)));
+
+        CopierGeneratorTest.PersonDto target = targets.get(0);
+        assertEquals("John", target.getName());
+        assertEquals(42, target.getAge());
+        assertEquals(10.5d, target.getBalance());
+        assertEquals(1, compilations.size());
+        Assertions.assertTrue(compilations.get(0).getBoolean("generated"));
+    }
+
+    @Test
+    void mapObject_givenBytecodeGenerationAndUngeneratablePair_shouldFallBackToInsertionStrategy() {
+        ObjectMapper generatingMapper = new ObjectMapperImpl.Builder()
+                .withBytecodeGeneration(true)
+                .build();
+        CopierGeneratorTest.PersonWithoutGetters source =
+                new CopierGeneratorTest.PersonWithoutGetters("John", 42, 10.5d);
+        List<CopierGeneratorTest.PersonDto> targets = new ArrayList<>();
+
+        List<RecordedEvent> compilations = recordPlanCompilations(
+                () -> targets.add(generatingMapper.mapObject(source, CopierGeneratorTest.PersonDto.class)));
+
+        CopierGeneratorTest.PersonDto target = targets.get(0);
+        assertEquals("John", target.getName());
+        assertEquals(42, target.getAge());
+        assertEquals(10.5d, target.getBalance());
+        assertEquals(1, compilations.size());
+        Assertions.assertFalse(compilations.get(0).getBoolean("generated"));
+    }
+
+    @Test
+    void mapObject_givenRecordTargetType_shouldCreateTargetThroughCanonicalConstructor() {
+        ObjectMapper recordMapper = new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> field.getName().equals("id")
+                        || field.getName().equals("name")))
+                .build();
+        SourceTestClass source = new SourceTestClass(1, "Test1", "excluded");
+
+        TargetTestRecord target = recordMapper.mapObject(source, TargetTestRecord.class);
+
+        assertEquals(new TargetTestRecord(1, "Test1", 0), target);
+    }
+
+    @Test
+    void mapObject_givenMappingConstructor_shouldPassMatchingFieldsToConstructor() {
+        ObjectMapper constructorMapper = new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> !field.getName().equals("excludedField")))
+                .withInsertionStrategy((value, target, field) ->
+                        ((ImmutableTargetTestClass) target).setFieldWithoutSetter("inserted"))
+                .build();
+        SourceTestClass source = new SourceTestClass(1, "Test1", "excluded");
+
+        ImmutableTargetTestClass target = constructorMapper.mapObject(source, ImmutableTargetTestClass.class);
+
+        assertEquals(1, target.getId());
+        assertEquals("Test1", target.getName());
+        assertEquals("inserted", target.getFieldWithoutSetter());
+    }
+
+    @Test
+    void mapAll_givenCollection_shouldMapEverySourceWithOnePlan() {
+        // Arrange
+        List<SourceTestClass> sources = List.of(new SourceTestClass(1, "Test1", ""),
+                new SourceTestClass(2, "Test2", ""), new SourceTestClass(3, "Test3", ""));
+        when(objectFactory.create(TargetTestClass.class)).thenAnswer(invocation -> new TargetTestClass());
+        when(fieldExclusionStrategy.filter(any())).thenReturn(getSourceFields());
+
+        // Act
+        List<TargetTestClass> targets = objectMapper.mapAll(sources, TargetTestClass.class);
+
+        // Assert
+        assertEquals(3, targets.size());
+        verify(objectFactory, times(3)).create(TargetTestClass.class);
+        verify(fieldExclusionStrategy, times(1)).filter(any());
+        verify(fieldValueInsertionStrategy, times(9)).insertValue(any(Object.class), any(Object.class), any(Field.class));
+    }
+
+    @Test
+    void mapAll_givenArray_shouldKeepSourceOrder() {
+        ObjectMapper bulkMapper = new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> !field.getName().equals("fieldWithoutSetter")))
+                .build();
+        SourceTestClass[] sources = {new SourceTestClass(1, "Test1", ""), new SourceTestClass(2, "Test2", "")};
+
+        List<TargetTestClass> targets = bulkMapper.mapAll(sources, TargetTestClass.class);
+
+        assertEquals(2, targets.size());
+        assertEquals("Test1", targets.get(0).getName());
+        assertEquals(2, targets.get(1).getId());
+    }
+
+    @Test
+    void mapAll_givenNullElement_shouldThrowIllegalArgumentException() {
+        List<SourceTestClass> sources = Arrays.asList(new SourceTestClass(1, "Test1", ""), null);
+        when(objectFactory.create(TargetTestClass.class)).thenAnswer(invocation -> new TargetTestClass());
+        when(fieldExclusionStrategy.filter(any())).thenReturn(getSourceFields());
+
+        assertThrows(IllegalArgumentException.class, () -> objectMapper.mapAll(sources, TargetTestClass.class));
+    }
+
+    @Test
+    void mapAll_givenNullCollection_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> objectMapper.mapAll((List<SourceTestClass>) null, TargetTestClass.class));
+    }
+
+    @Test
+    void mapAll_givenDefaultMethodsAndNullTargetType_shouldThrowIllegalArgumentException() {
+        ObjectMapper singleObjectMapper = new ObjectMapper() {
+            @Override
+            public <S, T> T mapObject(S source, Class<T> targetType) {
+                return objectMapper.mapObject(source, targetType);
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> singleObjectMapper.mapAll(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> singleObjectMapper.mapAll(new Object[0], null));
+    }
+
+    @Test
+    void mapStream_givenStream_shouldMapLazily() {
+        // Arrange
+        when(objectFactory.create(TargetTestClass.class)).thenAnswer(invocation -> new TargetTestClass());
+        when(fieldExclusionStrategy.filter(any())).thenReturn(getSourceFields());
+        Stream<SourceTestClass> sources = Stream.of(new SourceTestClass(1, "Test1", ""),
+                new SourceTestClass(2, "Test2", ""));
+
+        // Act
+        Stream<TargetTestClass> targets = objectMapper.mapStream(sources, TargetTestClass.class);
+
+        // Assert
+        verify(objectFactory, never()).create(any());
+        assertEquals(2, targets.collect(Collectors.toList()).size());
+        verify(objectFactory, times(2)).create(TargetTestClass.class);
+        verify(fieldExclusionStrategy, times(1)).filter(any());
+    }
+
+    @Test
+    void mapAllParallel_givenLargeList_shouldKeepSourceOrder() {
+        ObjectMapperImpl parallelMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> !field.getName().equals("fieldWithoutSetter")))
+                .build();
+        List<SourceTestClass> sources = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            sources.add(new SourceTestClass(i, "Test" + i, ""));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<TargetTestClass> targets = parallelMapper.mapAllParallel(sources, TargetTestClass.class, pool);
+
+            assertEquals(sources.size(), targets.size());
+            for (int i = 0; i < targets.size(); i++) {
+                assertEquals(i, targets.get(i).getId());
+                assertEquals("Test" + i, targets.get(i).getName());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void mapAllParallel_givenSmallList_shouldMapOnCallingThread() {
+        ObjectMapperImpl parallelMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> !field.getName().equals("fieldWithoutSetter")))
+                .build();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        pool.shutdown();
+
+        List<TargetTestClass> targets = parallelMapper.mapAllParallel(
+                List.of(new SourceTestClass(1, "Test1", "")), TargetTestClass.class, pool);
+
+        assertEquals(1, targets.get(0).getId());
+    }
+
+    @Test
+    void mapAllParallel_givenNullElement_shouldThrowIllegalArgumentException() {
+        ObjectMapperImpl parallelMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> !field.getName().equals("fieldWithoutSetter")))
+                .build();
+        List<SourceTestClass> sources = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            sources.add(i == 4_321 ? null : new SourceTestClass(i, "Test" + i, ""));
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> parallelMapper.mapAllParallel(sources, TargetTestClass.class));
+    }
+
+    @Test
+    void mapObject_givenConcurrentCallsWithDefaultStrategies_shouldMapEveryObject() throws Exception {
+        ObjectMapper sharedMapper = new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> !field.getName().equals("fieldWithoutSetter")))
+                .build();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 1_000;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = offset; i < offset + 1_000; i++) {
+                        TargetTestClass target = sharedMapper.mapObject(
+                                new SourceTestClass(i, "Test" + i, ""), TargetTestClass.class);
+                        if (target.getId() != i || !target.getName().equals("Test" + i)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void mapInto_givenExistingTarget_shouldPopulateItWithoutCreatingTarget() {
+        // Arrange
+        SourceTestClass source = new SourceTestClass(1, "Test1", "");
+        TargetTestClass target = new TargetTestClass();
+        when(fieldExclusionStrategy.filter(any())).thenReturn(getSourceFields());
+
+        // Act
+        TargetTestClass mapped = objectMapper.mapInto(source, target);
+
+        // Assert
+        Assertions.assertSame(target, mapped);
+        verify(objectFactory, never()).create(any());
+        verify(fieldValueInsertionStrategy, times(3)).insertValue(any(Object.class), eq(target), any(Field.class));
+    }
+
+    @Test
+    void mapInto_givenRecordTarget_shouldThrowIllegalArgumentException() {
+        ObjectMapper recordMapper = new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> field.getName().equals("id")))
+                .build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> recordMapper.mapInto(new SourceTestClass(1, "Test1", ""), new TargetTestRecord(0, "", 0)));
+    }
+
+    @Test
+    void mapAllInto_givenParallelArrays_shouldPopulateTargetAtSameIndex() {
+        ObjectMapper intoMapper = new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> !field.getName().equals("fieldWithoutSetter")))
+                .build();
+        SourceTestClass[] sources = {new SourceTestClass(1, "Test1", ""), new SourceTestClass(2, "Test2", "")};
+        TargetTestClass[] targets = {new TargetTestClass(), new TargetTestClass()};
+
+        intoMapper.mapAllInto(sources, targets);
+
+        assertEquals(1, targets[0].getId());
+        assertEquals("Test2", targets[1].getName());
+    }
+
+    @Test
+    void mapAllInto_givenArraysOfDifferentLength_shouldThrowIllegalArgumentException() {
+        SourceTestClass[] sources = {new SourceTestClass(1, "Test1", "")};
+        TargetTestClass[] targets = {new TargetTestClass(), new TargetTestClass()};
+
+        assertThrows(IllegalArgumentException.class, () -> objectMapper.mapAllInto(sources, targets));
+    }
+
+    @Test
+    void mapObject_givenNestedMapping_shouldMapSharedReferencesAndCyclesOnce() {
+        ObjectMapper deepMapper = new ObjectMapperImpl.Builder()
+                .withNestedMapping(SourceTestNode.class, TargetTestNode.class)
+                .build();
+        SourceTestNode source = createCircularList(3);
+
+        TargetTestNode target = deepMapper.mapObject(source, TargetTestNode.class);
+
+        assertEquals(0, target.getValue());
+        assertEquals(1, target.getNext().getValue());
+        assertEquals(2, target.getPrevious().getValue());
+        Assertions.assertSame(target, target.getNext().getPrevious());
+        Assertions.assertSame(target, target.getNext().getNext().getNext());
+        Assertions.assertSame(target.getPrevious(), target.getNext().getNext());
+    }
+
+    @Test
+    void mapObject_givenDeepNestedGraph_shouldNotOverflowStack() {
+        ObjectMapper deepMapper = new ObjectMapperImpl.Builder()
+                .withNestedMapping(SourceTestNode.class, TargetTestNode.class)
+                .build();
+        int size = 100_000;
+        SourceTestNode source = createCircularList(size);
+
+        TargetTestNode target = deepMapper.mapObject(source, TargetTestNode.class);
+
+        TargetTestNode node = target;
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, node.getValue());
+            Assertions.assertSame(node, node.getNext().getPrevious());
+            node = node.getNext();
+        }
+        Assertions.assertSame(target, node);
+    }
+
+    @Test
+    void mapObject_givenNestedTargetTypeNotAssignableToField_shouldThrowMappingException() {
+        ObjectMapper deepMapper = new ObjectMapperImpl.Builder()
+                .withNestedMapping(SourceTestNode.class, SourceTestNode.class)
+                .build();
+
+        assertThrows(MappingException.class,
+                () -> deepMapper.mapObject(createCircularList(2), TargetTestNode.class));
+    }
+
+    @Test
+    void mapObject_givenContainerFields_shouldCopyContainers() {
+        ObjectMapper containerMapper = new ObjectMapperImpl.Builder().build();
+        SourceTestContainers source = createContainers(List.of(new SourceTestNode(1)));
+
+        TargetTestContainers target = containerMapper.mapObject(source, TargetTestContainers.class);
+
+        assertEquals(source.getNumbers(), target.getNumbers());
+        Assertions.assertNotSame(source.getNumbers(), target.getNumbers());
+        assertEquals(new TreeSet<>(source.getLabels()), target.getLabels());
+        assertEquals(source.getCounts(), target.getCounts());
+        Assertions.assertNotSame(source.getCounts(), target.getCounts());
+        Assertions.assertArrayEquals(source.getQuantities(), target.getQuantities());
+        Assertions.assertNotSame(source.getQuantities(), target.getQuantities());
+        Assertions.assertArrayEquals(source.getTags(), target.getTags());
+        assertEquals(Object[].class, target.getTags().getClass());
+    }
+
+    @Test
+    void mapObject_givenNestedElementMapping_shouldMapElementsOnce() {
+        ObjectMapper containerMapper = new ObjectMapperImpl.Builder()
+                .withNestedMapping(SourceTestNode.class, TargetTestNode.class)
+                .build();
+        SourceTestNode node = new SourceTestNode(1);
+        node.setNext(node);
+        node.setPrevious(node);
+        SourceTestContainers source = createContainers(Arrays.asList(node, node, null));
+
+        TargetTestContainers target = containerMapper.mapObject(source, TargetTestContainers.class);
+
+        assertEquals(3, target.getNodes().size());
+        assertEquals(1, target.getNodes().get(0).getValue());
+        Assertions.assertSame(target.getNodes().get(0), target.getNodes().get(1));
+        Assertions.assertSame(target.getNodes().get(0), target.getNodes().get(0).getNext());
+        Assertions.assertNull(target.getNodes().get(2));
+    }
+
+    @Test
+    void mapObject_givenNestedSetElements_shouldCopyElementsBeforeInsertingThem() {
+        ObjectMapper catalogMapper = new ObjectMapperImpl.Builder()
+                .withNestedMapping(SourceTestItem.class, TargetTestItem.class)
+                .build();
+        SourceTestItem shared = new SourceTestItem("a");
+        SourceTestCatalog source = new SourceTestCatalog();
+        source.setFeatured(List.of(shared));
+        source.setItems(new LinkedHashSet<>(List.of(shared, new SourceTestItem("b"), new SourceTestItem("c"))));
+
+        TargetTestCatalog target = catalogMapper.mapObject(source, TargetTestCatalog.class);
+
+        assertEquals(List.of(new TargetTestItem("a"), new TargetTestItem("b"), new TargetTestItem("c")),
+                new ArrayList<>(target.getItems()));
+        Assertions.assertTrue(target.getItems().contains(new TargetTestItem("b")));
+        Assertions.assertSame(target.getFeatured().get(0), target.getItems().iterator().next());
+    }
+
+    @Test
+    void mapObject_givenNestedMapKeys_shouldCopyKeysBeforeInsertingThem() {
+        ObjectMapper catalogMapper = new ObjectMapperImpl.Builder()
+                .withNestedMapping(SourceTestItem.class, TargetTestItem.class)
+                .build();
+        Map<SourceTestItem, Integer> stock = new LinkedHashMap<>();
+        stock.put(new SourceTestItem("x"), 1);
+        stock.put(new SourceTestItem("y"), 2);
+        SourceTestCatalog source = new SourceTestCatalog();
+        source.setStock(stock);
+
+        TargetTestCatalog target = catalogMapper.mapObject(source, TargetTestCatalog.class);
+
+        assertEquals(2, target.getStock().size());
+        assertEquals(1, target.getStock().get(new TargetTestItem("x")));
+        assertEquals(2, target.getStock().get(new TargetTestItem("y")));
+    }
+
+    @Test
+    void mapObject_givenImmutableContainerReuse_shouldShareUnmodifiableContainers() {
+        ObjectMapper containerMapper = new ObjectMapperImpl.Builder()
+                .withImmutableContainerReuse(true)
+                .build();
+        SourceTestContainers source = createContainers(new ArrayList<>());
+
+        TargetTestContainers target = containerMapper.mapObject(source, TargetTestContainers.class);
+
+        Assertions.assertSame(source.getNumbers(), target.getNumbers());
+        Assertions.assertSame(source.getCounts(), target.getCounts());
+        Assertions.assertNotSame(source.getNodes(), target.getNodes());
+        Assertions.assertNotSame(source.getQuantities(), target.getQuantities());
+    }
+
+    @Test
+    void build_givenRegisteredPair_shouldPreparePlanAtBuild() {
+        FieldValueInsertionStrategy insertionStrategy = spy(new SetterInsertionStrategy());
+        ObjectMapper registeredMapper = new ObjectMapperImpl.Builder()
+                .withInsertionStrategy(insertionStrategy)
+                .register(SourceTestConversions.class, TargetTestConversions.class)
+                .build();
+
+        verify(insertionStrategy, times(5)).prepare(eq(TargetTestConversions.class), any(), any());
+        TargetTestConversions target = registeredMapper.mapObject(createConversions("OPEN", "1"),
+                TargetTestConversions.class);
+        assertEquals(1, target.getCode());
+    }
+
+    @Test
+    void build_givenInvalidRegisteredPairs_shouldReportAllProblems() {
+        ObjectMapperImpl.Builder builder = new ObjectMapperImpl.Builder()
+                .register(SourceTestClass.class, TargetTestClass.class)
+                .register(SourceTestClass.class, TargetTestNode.class)
+                .register(SourceTestConversions.class, TargetTestConversions.class);
+
+        MappingValidationException exception = assertThrows(MappingValidationException.class, builder::build);
+
+        assertEquals(4, exception.getProblems().size());
+        Assertions.assertInstanceOf(TargetSetterMethodNotFound.class, exception.getProblems().get(0));
+        for (int i = 1; i < 4; i++) {
+            Assertions.assertInstanceOf(TargetFieldNotFoundException.class, exception.getProblems().get(i));
+        }
+        Assertions.assertTrue(exception.getMessage().contains(
+                SourceTestClass.class.getName() + " -> " + TargetTestNode.class.getName()));
+        Assertions.assertTrue(exception.getMessage().contains("Unable to find id field"));
+        Assertions.assertTrue(exception.getMessage().contains("Unable to find name field"));
+        Assertions.assertTrue(exception.getMessage().contains("Unable to find fieldWithoutSetter field"));
+    }
+
+    @Test
+    void build_givenParallelPreparation_shouldReportAllProblems() {
+        ObjectMapperImpl.Builder builder = new ObjectMapperImpl.Builder()
+                .withParallelPreparation(true)
+                .register(SourceTestClass.class, TargetTestClass.class)
+                .register(SourceTestClass.class, TargetTestNode.class);
+
+        MappingValidationException exception = assertThrows(MappingValidationException.class, builder::build);
+
+        assertEquals(4, exception.getProblems().size());
+    }
+
+    @Test
+    void patch_givenNullSourceValue_shouldKeepTargetValue() {
+        ObjectMapperImpl patchMapper = createIdAndNameMapper(new SetterInsertionStrategy());
+        TargetTestClass target = new TargetTestClass(1, "Old", null);
+
+        PatchResult result = patchMapper.patch(new SourceTestClass(null, "New", null), target);
+
+        assertEquals(1, target.getId());
+        assertEquals("New", target.getName());
+        assertEquals(List.of("id", "name"), result.getFieldNames());
+        assertEquals(List.of("name"), result.getWrittenFieldNames());
+    }
+
+    @Test
+    void patch_givenWriteNullValuePolicy_shouldWriteNullValues() {
+        ObjectMapperImpl patchMapper = createIdAndNameMapper(new SetterInsertionStrategy());
+        TargetTestClass target = new TargetTestClass(1, "Old", null);
+        PatchPolicy policy = new PatchPolicy.Builder().withNullValuePolicy(NullValuePolicy.WRITE).build();
+
+        PatchResult result = patchMapper.patch(new SourceTestClass(2, null, null), target, policy);
+
+        Assertions.assertNull(target.getName());
+        assertEquals(2, result.getWrittenFields().cardinality());
+    }
+
+    @Test
+    void patch_givenUnchangedValuesSkipped_shouldOnlyInsertChangedValues() {
+        FieldValueInsertionStrategy insertionStrategy = spy(new SetterInsertionStrategy());
+        ObjectMapperImpl patchMapper = createIdAndNameMapper(insertionStrategy);
+        TargetTestClass target = new TargetTestClass(1, "Old", null);
+        PatchPolicy policy = new PatchPolicy.Builder().withUnchangedValuesSkipped(true).build();
+
+        PatchResult unchanged = patchMapper.patch(new SourceTestClass(1, "Old", null), target, policy);
+        PatchResult changed = patchMapper.patch(new SourceTestClass(1, "New", null), target, policy);
+
+        Assertions.assertFalse(unchanged.hasWrittenFields());
+        assertEquals(List.of("name"), changed.getWrittenFieldNames());
+        assertEquals("New", target.getName());
+        verify(insertionStrategy, times(1)).insertValue(any(), any(), any());
+    }
+
+    @Test
+    void patch_givenUnchangedPrimitiveValuesSkipped_shouldOnlyWriteChangedFields() {
+        ObjectMapperImpl patchMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder().build();
+        PrimitiveTestClass source = createPrimitives();
+        PrimitiveTestClass target = createPrimitives();
+        source.setCount(7);
+        PatchPolicy policy = new PatchPolicy.Builder().withUnchangedValuesSkipped(true).build();
+
+        PatchResult result = patchMapper.patch(source, target, policy);
+
+        assertEquals(List.of("count"), result.getWrittenFieldNames());
+        Assertions.assertTrue(result.isWritten("count"));
+        assertEquals(7, target.getCount());
+    }
+
+    @Test
+    void mapObject_givenFieldsOfDifferentTypes_shouldConvertValues() {
+        ObjectMapper conversionMapper = new ObjectMapperImpl.Builder().build();
+        SourceTestConversions source = createConversions("CLOSED", "42");
+
+        TargetTestConversions target = conversionMapper.mapObject(source, TargetTestConversions.class);
+
+        assertEquals(7L, target.getQuantity());
+        assertEquals(TargetTestConversions.Status.CLOSED, target.getStatus());
+        assertEquals(1_700_000_000_123L, target.getCreatedAt());
+        assertEquals(19.99d, target.getPrice());
+        assertEquals(42, target.getCode());
+    }
+
+    @Test
+    void mapObject_givenRegisteredTypeConverter_shouldPreferItOverBuiltInConverter() {
+        ObjectMapper conversionMapper = new ObjectMapperImpl.Builder()
+                .withTypeConverter(String.class, Integer.class, value -> Integer.parseInt(value, 16))
+                .build();
+        SourceTestConversions source = createConversions("OPEN", "2a");
+
+        TargetTestConversions target = conversionMapper.mapObject(source, TargetTestConversions.class);
+
+        assertEquals(42, target.getCode());
+        assertEquals(TargetTestConversions.Status.OPEN, target.getStatus());
+    }
+
+    @Test
+    void mapObject_givenUnconvertibleValue_shouldThrowTypeConversionException() {
+        ObjectMapper conversionMapper = new ObjectMapperImpl.Builder().build();
+        SourceTestConversions source = createConversions("PENDING", "42");
+
+        TypeConversionException exception = assertThrows(TypeConversionException.class,
+                () -> conversionMapper.mapObject(source, TargetTestConversions.class));
+        assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void mapObject_givenPrimitiveFields_shouldCopyThroughPrimitiveSetters() {
+        ObjectMapper primitiveMapper = new ObjectMapperImpl.Builder().build();
+
+        PrimitiveTestClass target = primitiveMapper.mapObject(createPrimitives(), PrimitiveTestClass.class);
+
+        assertEquals(100_000, target.getCount());
+        assertEquals(5_000_000_000L, target.getTotal());
+        assertEquals(0.25d, target.getRatio());
+        Assertions.assertTrue(target.isActive());
+        assertEquals('x', target.getGrade());
+        assertEquals((byte) 3, target.getFlags());
+        assertEquals((short) 1000, target.getLevel());
+        assertEquals(1.5f, target.getWeight());
+    }
+
+    @Test
+    void mapInto_givenPrimitiveFields_shouldNotAllocate() {
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        ObjectMapper primitiveMapper = new ObjectMapperImpl.Builder().build();
+        PrimitiveTestClass source = createPrimitives();
+        PrimitiveTestClass target = new PrimitiveTestClass();
+        int iterations = 10_000;
+        for (int i = 0; i < iterations; i++) {
+            primitiveMapper.mapInto(source, target);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            primitiveMapper.mapInto(source, target);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // A single boxed long or double per mapping would allocate at least 16 bytes per iteration.
+        Assertions.assertTrue(allocated < iterations, "Allocated " + allocated + " bytes");
+        assertEquals(5_000_000_000L, target.getTotal());
+    }
+
+    @Test
+    void mapObject_givenMappingListener_shouldReportMappingsAndPlanCacheLookups() {
+        MappingListener listener = mock(MappingListener.class);
+        ObjectMapper listenedMapper = new ObjectMapperImpl.Builder().withMappingListener(listener).build();
+
+        listenedMapper.mapObject(createConversions("OPEN", "1"), TargetTestConversions.class);
+        listenedMapper.mapAll(List.of(createConversions("OPEN", "2"), createConversions("CLOSED", "3")),
+                TargetTestConversions.class);
+
+        verify(listener, times(1))
+                .onPlanCacheMiss(eq(SourceTestConversions.class), eq(TargetTestConversions.class), anyLong());
+        verify(listener, times(1)).onPlanCacheHit(SourceTestConversions.class, TargetTestConversions.class);
+        verify(listener, times(3))
+                .onMapping(eq(SourceTestConversions.class), eq(TargetTestConversions.class), anyLong());
+        verify(listener, never()).onFailure(any(), any(), any());
+    }
+
+    @Test
+    void mapObject_givenInMemoryMetrics_shouldCountFailuresByExceptionType() {
+        InMemoryMappingMetrics metrics = new InMemoryMappingMetrics();
+        ObjectMapper listenedMapper = new ObjectMapperImpl.Builder().withMappingListener(metrics).build();
+
+        listenedMapper.mapObject(createConversions("OPEN", "1"), TargetTestConversions.class);
+        assertThrows(TypeConversionException.class,
+                () -> listenedMapper.mapObject(createConversions("PENDING", "1"), TargetTestConversions.class));
+        assertThrows(TargetFieldNotFoundException.class,
+                () -> listenedMapper.mapObject(new SourceTestClass(1, "Test1", ""), TargetTestConversions.class));
+
+        PairMetrics conversions = metrics.getPairMetrics(SourceTestConversions.class, TargetTestConversions.class);
+        assertEquals(1, conversions.getMappingCount());
+        assertEquals(1, conversions.getFailureCount());
+        assertEquals(1, conversions.getPlanCacheMisses());
+        assertEquals(1, conversions.getPlanCacheHits());
+        assertEquals(1, metrics.getPairMetrics(SourceTestClass.class, TargetTestConversions.class).getFailureCount());
+        assertEquals(Map.of(TypeConversionException.class, 1L, TargetFieldNotFoundException.class, 1L),
+                metrics.getExceptionCounts());
+    }
+
+    @Test
+    void toMap_givenBean_shouldMapNotExcludedFieldsInFieldOrder() {
+        ObjectMapperImpl mapMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder().build();
+        SourceTestClass source = new SourceTestClass(1, "Test1", "Excluded");
+
+        Map<String, Object> map = mapMapper.toMap(source);
+
+        assertEquals(List.of("id", "name", "fieldWithoutSetter"), new ArrayList<>(map.keySet()));
+        assertEquals(1, map.get("id"));
+        assertEquals("Test1", map.get("name"));
+        Assertions.assertTrue(map.containsKey("fieldWithoutSetter"));
+        Assertions.assertFalse(map.containsKey("excludedField"));
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("id", 1);
+        expected.put("name", "Test1");
+        expected.put("fieldWithoutSetter", null);
+        assertEquals(expected, map);
+        assertThrows(UnsupportedOperationException.class, () -> map.put("id", 2));
+    }
+
+    @Test
+    void fromMap_givenMapOfBean_shouldMapItBack() {
+        ObjectMapperImpl mapMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder().build();
+        TargetTestConversions source = mapMapper.mapObject(createConversions("CLOSED", "42"),
+                TargetTestConversions.class);
+
+        TargetTestConversions target = mapMapper.fromMap(mapMapper.toMap(source), TargetTestConversions.class);
+
+        assertEquals(7L, target.getQuantity());
+        assertEquals(TargetTestConversions.Status.CLOSED, target.getStatus());
+        assertEquals(1_700_000_000_123L, target.getCreatedAt());
+        assertEquals(19.99d, target.getPrice());
+        assertEquals(42, target.getCode());
+    }
+
+    @Test
+    void fromMap_givenValuesOfOtherTypes_shouldConvertValuesAndSkipMissingKeys() {
+        ObjectMapperImpl mapMapper = (ObjectMapperImpl) new ObjectMapperImpl.Builder().build();
+        Map<String, Object> source = Map.of(
+                "quantity", 7,
+                "status", "OPEN",
+                "price", new BigDecimal("19.99"),
+                "code", "42",
+                "unknown", "ignored");
+
+        TargetTestConversions target = mapMapper.fromMap(source, TargetTestConversions.class);
+
+        assertEquals(7L, target.getQuantity());
+        assertEquals(TargetTestConversions.Status.OPEN, target.getStatus());
+        assertEquals(0L, target.getCreatedAt());
+        assertEquals(19.99d, target.getPrice());
+        assertEquals(42, target.getCode());
+    }
+
     @Test
     public void test() {
         SourceTestClass source = new SourceTestClass(1, "Test1", "");
@@ -85,6 +919,86 @@ class ObjectMapperTest {
         System.out.println(target);
     }
 
+    /**
+     * Runs the action while recording the plan compilation events, and returns the recorded ones.
+     */
+    private List<RecordedEvent> recordPlanCompilations(Runnable action) {
+        String eventName = EventType.getEventType(PlanCompilationEvent.class).getName();
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            Path file = Files.createTempFile("plan-compilations", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file).stream()
+                        .filter(event -> event.getEventType().getName().equals(eventName))
+                        .collect(Collectors.toList());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SourceTestNode createCircularList(int size) {
+        SourceTestNode first = new SourceTestNode(0);
+        SourceTestNode last = first;
+        for (int i = 1; i < size; i++) {
+            SourceTestNode node = new SourceTestNode(i);
+            node.setPrevious(last);
+            last.setNext(node);
+            last = node;
+        }
+        last.setNext(first);
+        first.setPrevious(last);
+        return first;
+    }
+
+    private PrimitiveTestClass createPrimitives() {
+        PrimitiveTestClass primitives = new PrimitiveTestClass();
+        primitives.setCount(100_000);
+        primitives.setTotal(5_000_000_000L);
+        primitives.setRatio(0.25d);
+        primitives.setActive(true);
+        primitives.setGrade('x');
+        primitives.setFlags((byte) 3);
+        primitives.setLevel((short) 1000);
+        primitives.setWeight(1.5f);
+        return primitives;
+    }
+
+    private ObjectMapperImpl createIdAndNameMapper(FieldValueInsertionStrategy insertionStrategy) {
+        return (ObjectMapperImpl) new ObjectMapperImpl.Builder()
+                .withExclusionStrategy(fields -> fields.filter(field -> field.getName().equals("id")
+                        || field.getName().equals("name")))
+                .withInsertionStrategy(insertionStrategy)
+                .build();
+    }
+
+    private SourceTestConversions createConversions(String status, String code) {
+        SourceTestConversions conversions = new SourceTestConversions();
+        conversions.setQuantity(7);
+        conversions.setStatus(status);
+        conversions.setCreatedAt(Instant.ofEpochMilli(1_700_000_000_123L));
+        conversions.setPrice(new BigDecimal("19.99"));
+        conversions.setCode(code);
+        return conversions;
+    }
+
+    private SourceTestContainers createContainers(List<SourceTestNode> nodes) {
+        SourceTestContainers containers = new SourceTestContainers();
+        containers.setNumbers(List.of(1, 2, 3));
+        containers.setLabels(Set.of("b", "a"));
+        containers.setCounts(Map.of("a", 1, "b", 2));
+        containers.setQuantities(new int[]{4, 5});
+        containers.setTags(new String[]{"x", "y"});
+        containers.setNodes(nodes);
+        return containers;
+    }
+
     private Stream<Field> getSourceFields() {
         return Stream.of(SourceTestClass.class.getDeclaredFields());
     }
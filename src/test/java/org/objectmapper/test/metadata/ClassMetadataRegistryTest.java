@@ -0,0 +1,179 @@
+package org.objectmapper.test.metadata;
+
+import org.junit.jupiter.api.Test;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.metadata.ClassMetadata;
+import org.objectmapper.metadata.ClassMetadataRegistry;
+import org.objectmapper.metadata.RegistryStats;
+import org.objectmapper.metrics.InMemoryMappingMetrics;
+import org.objectmapper.test.model.SourceTestClass;
+import org.objectmapper.test.model.SourceTestConversions;
+import org.objectmapper.test.model.TargetTestClass;
+import org.objectmapper.test.model.TargetTestConversions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassMetadataRegistryTest {
+
+    @Test
+    public void testGetDiscoversFieldsAndExclusionsOnce() throws NoSuchFieldException {
+        ClassMetadataRegistry registry = new ClassMetadataRegistry.Builder().withStatsRecording(true).build();
+
+        ClassMetadata metadata = registry.get(SourceTestClass.class);
+
+        assertSame(metadata, registry.get(SourceTestClass.class));
+        assertEquals(4, metadata.getDeclaredFields().size());
+        assertEquals("name", metadata.getDeclaredField("name").getName());
+        assertNull(metadata.getDeclaredField("missing"));
+        assertTrue(metadata.isExcluded(SourceTestClass.class.getDeclaredField("excludedField")));
+        assertFalse(metadata.isExcluded(SourceTestClass.class.getDeclaredField("name")));
+        RegistryStats stats = registry.getStats();
+        assertEquals(2, stats.getLookupCount());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    public void testFindSetterResolvesSetterOfValueType() throws NoSuchFieldException {
+        ClassMetadata metadata = new ClassMetadataRegistry.Builder().build().get(TargetTestClass.class);
+        Field nameField = TargetTestClass.class.getDeclaredField("name");
+        TargetTestClass target = new TargetTestClass();
+
+        metadata.findSetter(nameField, String.class).write(target, "Test1");
+
+        assertEquals("Test1", target.getName());
+        assertSame(metadata.findSetter(nameField, String.class), metadata.findSetter(nameField, String.class));
+        assertNull(metadata.findSetter(nameField, Integer.class));
+    }
+
+    @Test
+    public void testBoundedRegistryEvictsOldestClasses() {
+        ClassMetadataRegistry registry = new ClassMetadataRegistry.Builder().withMaximumSize(2).build();
+        ClassMetadata first = registry.get(SourceTestClass.class);
+        registry.get(TargetTestClass.class);
+
+        registry.get(SourceTestConversions.class);
+
+        RegistryStats stats = registry.getStats();
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(2, stats.getSize());
+        assertNotSame(first, registry.get(SourceTestClass.class));
+        assertEquals(4, registry.getStats().getMissCount());
+    }
+
+    @Test
+    public void testMappedClassesCanBeUnloaded() throws Exception {
+        ObjectMapper mapper = new ObjectMapperImpl.Builder().withMappingListener(new InMemoryMappingMetrics()).build();
+
+        WeakReference<ClassLoader> loader = mapIsolatedClasses(mapper, Set.of(
+                SourceTestConversions.class.getName(),
+                TargetTestConversions.class.getName(),
+                TargetTestConversions.Status.class.getName()));
+
+        assertUnloaded(loader);
+        // The mapper, and the plans it cached, must not keep the classes loaded while it is still in use.
+        Reference.reachabilityFence(mapper);
+    }
+
+    @Test
+    public void testMappedTargetClassesCanBeUnloaded() throws Exception {
+        ObjectMapper mapper = new ObjectMapperImpl.Builder().withMappingListener(new InMemoryMappingMetrics()).build();
+
+        WeakReference<ClassLoader> loader = mapIsolatedClasses(mapper, Set.of(
+                TargetTestConversions.class.getName(),
+                TargetTestConversions.Status.class.getName()));
+
+        assertUnloaded(loader);
+        // The source class of the parent loader, which outlives the targets, must not keep them loaded either.
+        Reference.reachabilityFence(mapper);
+    }
+
+    private void assertUnloaded(WeakReference<ClassLoader> loader) throws InterruptedException {
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(loader.get(), "The class loader of the mapped classes was not unloaded");
+    }
+
+    /**
+     * Maps test models, of which the given ones are defined by a new class loader, through the given mapper and the
+     * default registry.
+     */
+    private WeakReference<ClassLoader> mapIsolatedClasses(ObjectMapper mapper, Set<String> isolatedClassNames)
+            throws Exception {
+        IsolatingClassLoader loader = new IsolatingClassLoader(getClass().getClassLoader(), isolatedClassNames);
+        Class<?> sourceType = loader.loadClass(SourceTestConversions.class.getName());
+        Class<?> targetType = loader.loadClass(TargetTestConversions.class.getName());
+        assertNotSame(TargetTestConversions.class, targetType);
+        Object source = sourceType.getConstructor().newInstance();
+        sourceType.getMethod("setQuantity", Integer.class).invoke(source, 7);
+        sourceType.getMethod("setStatus", String.class).invoke(source, "OPEN");
+        sourceType.getMethod("setCreatedAt", Instant.class).invoke(source, Instant.ofEpochMilli(1_000));
+        sourceType.getMethod("setPrice", BigDecimal.class).invoke(source, new BigDecimal("1.5"));
+        sourceType.getMethod("setCode", String.class).invoke(source, "42");
+
+        Object target = mapper.mapObject(source, targetType);
+        List<?> targets = mapper.mapAll(List.of(source), targetType);
+
+        assertEquals(42, targetType.getMethod("getCode").invoke(target));
+        assertEquals(1, targets.size());
+        assertEquals(5, ClassMetadataRegistry.getDefault().get(targetType).getDeclaredFields().size());
+        return new WeakReference<>(loader);
+    }
+
+    /**
+     * Defines its own copies of the given classes, and delegates the loading of every other class to its parent.
+     */
+    private static final class IsolatingClassLoader extends ClassLoader {
+        private final Set<String> isolatedClassNames;
+
+        private IsolatingClassLoader(ClassLoader parent, Set<String> isolatedClassNames) {
+            super(parent);
+            this.isolatedClassNames = isolatedClassNames;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!isolatedClassNames.contains(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    byte[] bytes = readClassFile(name);
+                    type = defineClass(name, bytes, 0, bytes.length);
+                }
+                return type;
+            }
+        }
+
+        private byte[] readClassFile(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
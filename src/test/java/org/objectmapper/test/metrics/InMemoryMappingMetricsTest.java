@@ -0,0 +1,73 @@
+package org.objectmapper.test.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.objectmapper.exception.TypeConversionException;
+import org.objectmapper.metrics.InMemoryMappingMetrics;
+import org.objectmapper.metrics.PairMetrics;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InMemoryMappingMetricsTest {
+    private final InMemoryMappingMetrics metrics = new InMemoryMappingMetrics();
+
+    @Test
+    public void testBucketsHavePowerOfTwoBounds() {
+        assertEquals(0, PairMetrics.getBucketIndex(0));
+        assertEquals(1, PairMetrics.getBucketIndex(1));
+        assertEquals(10, PairMetrics.getBucketIndex(1023));
+        assertEquals(11, PairMetrics.getBucketIndex(1024));
+        assertEquals(PairMetrics.BUCKET_COUNT - 1, PairMetrics.getBucketIndex(Long.MAX_VALUE));
+        assertEquals(1023, PairMetrics.getBucketUpperBound(10));
+        assertEquals(Long.MAX_VALUE, PairMetrics.getBucketUpperBound(PairMetrics.BUCKET_COUNT - 1));
+        assertThrows(IllegalArgumentException.class, () -> PairMetrics.getBucketUpperBound(PairMetrics.BUCKET_COUNT));
+    }
+
+    @Test
+    public void testPairMetricsRecordMappingDurations() {
+        for (int i = 0; i < 99; i++) {
+            metrics.onMapping(String.class, Integer.class, 100);
+        }
+        metrics.onMapping(String.class, Integer.class, 5000);
+        metrics.onMapping(String.class, Long.class, 7);
+
+        PairMetrics pairMetrics = metrics.getPairMetrics(String.class, Integer.class);
+        assertEquals(100, pairMetrics.getMappingCount());
+        assertEquals(14_900, pairMetrics.getTotalNanos());
+        assertEquals(5000, pairMetrics.getMaxNanos());
+        assertEquals(149.0, pairMetrics.getMeanNanos());
+        assertEquals(99, pairMetrics.getLatencyBuckets()[PairMetrics.getBucketIndex(100)]);
+        assertEquals(127, pairMetrics.getPercentileNanos(50));
+        assertEquals(127, pairMetrics.getPercentileNanos(99));
+        assertEquals(5000, pairMetrics.getPercentileNanos(100));
+        assertEquals(List.of("java.lang.Integer", "java.lang.Long"), metrics.getPairMetrics().stream()
+                .map(PairMetrics::getTargetTypeName)
+                .toList());
+        assertNull(metrics.getPairMetrics(Integer.class, String.class));
+    }
+
+    @Test
+    public void testResetKeepsPairsAndClearsCounters() {
+        metrics.onPlanCacheMiss(String.class, Integer.class, 1000);
+        metrics.onPlanCacheHit(String.class, Integer.class);
+        metrics.onFailure(String.class, Integer.class, new TypeConversionException("Failed"));
+
+        PairMetrics recorded = metrics.getPairMetrics(String.class, Integer.class);
+        assertEquals(1, recorded.getPlanCacheMisses());
+        assertEquals(1000, recorded.getPlanBuildNanos());
+        assertEquals(1, recorded.getPlanCacheHits());
+        assertEquals(1, recorded.getFailureCount());
+        assertEquals(Map.of(TypeConversionException.class, 1L), metrics.getExceptionCounts());
+
+        metrics.reset();
+
+        PairMetrics reset = metrics.getPairMetrics(String.class, Integer.class);
+        assertEquals(0, reset.getPlanCacheMisses() + reset.getPlanCacheHits() + reset.getFailureCount());
+        assertEquals(0, reset.getPercentileNanos(99));
+        assertEquals(Map.of(TypeConversionException.class, 0L), metrics.getExceptionCounts());
+    }
+}
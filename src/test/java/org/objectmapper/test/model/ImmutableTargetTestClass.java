@@ -0,0 +1,35 @@
+package org.objectmapper.test.model;
+
+import org.objectmapper.annotation.MappingConstructor;
+
+public final class ImmutableTargetTestClass {
+    private final Integer id;
+    private final String name;
+    private String fieldWithoutSetter;
+
+    public ImmutableTargetTestClass() {
+        this(null, null);
+    }
+
+    @MappingConstructor
+    public ImmutableTargetTestClass(Integer id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFieldWithoutSetter() {
+        return fieldWithoutSetter;
+    }
+
+    public void setFieldWithoutSetter(String fieldWithoutSetter) {
+        this.fieldWithoutSetter = fieldWithoutSetter;
+    }
+}
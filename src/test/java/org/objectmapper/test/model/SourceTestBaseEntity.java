@@ -0,0 +1,13 @@
+package org.objectmapper.test.model;
+
+public class SourceTestBaseEntity {
+    private Long id;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,35 @@
+package org.objectmapper.test.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SourceTestCatalog {
+    private List<SourceTestItem> featured;
+    private Set<SourceTestItem> items;
+    private Map<SourceTestItem, Integer> stock;
+
+    public List<SourceTestItem> getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(List<SourceTestItem> featured) {
+        this.featured = featured;
+    }
+
+    public Set<SourceTestItem> getItems() {
+        return items;
+    }
+
+    public void setItems(Set<SourceTestItem> items) {
+        this.items = items;
+    }
+
+    public Map<SourceTestItem, Integer> getStock() {
+        return stock;
+    }
+
+    public void setStock(Map<SourceTestItem, Integer> stock) {
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,62 @@
+package org.objectmapper.test.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SourceTestContainers {
+    private List<Integer> numbers;
+    private Set<String> labels;
+    private Map<String, Integer> counts;
+    private int[] quantities;
+    private String[] tags;
+    private List<SourceTestNode> nodes;
+
+    public List<Integer> getNumbers() {
+        return numbers;
+    }
+
+    public void setNumbers(List<Integer> numbers) {
+        this.numbers = numbers;
+    }
+
+    public Set<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<String> labels) {
+        this.labels = labels;
+    }
+
+    public Map<String, Integer> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<String, Integer> counts) {
+        this.counts = counts;
+    }
+
+    public int[] getQuantities() {
+        return quantities;
+    }
+
+    public void setQuantities(int[] quantities) {
+        this.quantities = quantities;
+    }
+
+    public String[] getTags() {
+        return tags;
+    }
+
+    public void setTags(String[] tags) {
+        this.tags = tags;
+    }
+
+    public List<SourceTestNode> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<SourceTestNode> nodes) {
+        this.nodes = nodes;
+    }
+}
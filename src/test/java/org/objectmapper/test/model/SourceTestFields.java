@@ -0,0 +1,31 @@
+package org.objectmapper.test.model;
+
+public class SourceTestFields {
+    private String code;
+    private int version;
+    private long count;
+    private String name;
+
+    public SourceTestFields(String code, int version, long count, String name) {
+        this.code = code;
+        this.version = version;
+        this.count = count;
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,20 @@
+package org.objectmapper.test.model;
+
+public class SourceTestItem {
+    private String name;
+
+    public SourceTestItem() {
+    }
+
+    public SourceTestItem(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,38 @@
+package org.objectmapper.test.model;
+
+public class SourceTestNode {
+    private Integer value;
+    private SourceTestNode next;
+    private SourceTestNode previous;
+
+    public SourceTestNode() {
+    }
+
+    public SourceTestNode(Integer value) {
+        this.value = value;
+    }
+
+    public Integer getValue() {
+        return value;
+    }
+
+    public void setValue(Integer value) {
+        this.value = value;
+    }
+
+    public SourceTestNode getNext() {
+        return next;
+    }
+
+    public void setNext(SourceTestNode next) {
+        this.next = next;
+    }
+
+    public SourceTestNode getPrevious() {
+        return previous;
+    }
+
+    public void setPrevious(SourceTestNode previous) {
+        this.previous = previous;
+    }
+}
@@ -0,0 +1,35 @@
+package org.objectmapper.test.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TargetTestCatalog {
+    private List<TargetTestItem> featured;
+    private Set<TargetTestItem> items;
+    private Map<TargetTestItem, Integer> stock;
+
+    public List<TargetTestItem> getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(List<TargetTestItem> featured) {
+        this.featured = featured;
+    }
+
+    public Set<TargetTestItem> getItems() {
+        return items;
+    }
+
+    public void setItems(Set<TargetTestItem> items) {
+        this.items = items;
+    }
+
+    public Map<TargetTestItem, Integer> getStock() {
+        return stock;
+    }
+
+    public void setStock(Map<TargetTestItem, Integer> stock) {
+        this.stock = stock;
+    }
+}
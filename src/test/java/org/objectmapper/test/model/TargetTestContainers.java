@@ -0,0 +1,62 @@
+package org.objectmapper.test.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+public class TargetTestContainers {
+    private List<Integer> numbers;
+    private SortedSet<String> labels;
+    private Map<String, Integer> counts;
+    private int[] quantities;
+    private Object[] tags;
+    private List<TargetTestNode> nodes;
+
+    public List<Integer> getNumbers() {
+        return numbers;
+    }
+
+    public void setNumbers(List<Integer> numbers) {
+        this.numbers = numbers;
+    }
+
+    public SortedSet<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(SortedSet<String> labels) {
+        this.labels = labels;
+    }
+
+    public Map<String, Integer> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<String, Integer> counts) {
+        this.counts = counts;
+    }
+
+    public int[] getQuantities() {
+        return quantities;
+    }
+
+    public void setQuantities(int[] quantities) {
+        this.quantities = quantities;
+    }
+
+    public Object[] getTags() {
+        return tags;
+    }
+
+    public void setTags(Object[] tags) {
+        this.tags = tags;
+    }
+
+    public List<TargetTestNode> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<TargetTestNode> nodes) {
+        this.nodes = nodes;
+    }
+}
@@ -0,0 +1,34 @@
+package org.objectmapper.test.model;
+
+import org.objectmapper.annotation.MapFrom;
+
+public class TargetTestCustomer {
+    private Long id;
+    private String firstName;
+    @MapFrom("last_name")
+    private String surname;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getSurname() {
+        return surname;
+    }
+
+    public void setSurname(String surname) {
+        this.surname = surname;
+    }
+}
@@ -0,0 +1,38 @@
+package org.objectmapper.test.model;
+
+public class TargetTestFields {
+    private final String code;
+    private volatile int version;
+    private long count;
+    private String name;
+    private int setterCalls;
+
+    public TargetTestFields() {
+        this.code = "none";
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        setterCalls++;
+    }
+
+    public int getSetterCalls() {
+        return setterCalls;
+    }
+}
@@ -0,0 +1,38 @@
+package org.objectmapper.test.model;
+
+import java.util.Objects;
+
+public class TargetTestItem {
+    private String name;
+
+    public TargetTestItem() {
+    }
+
+    public TargetTestItem(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(name, ((TargetTestItem) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+}
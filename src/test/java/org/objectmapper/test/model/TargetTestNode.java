@@ -0,0 +1,38 @@
+package org.objectmapper.test.model;
+
+public class TargetTestNode {
+    private Integer value;
+    private TargetTestNode next;
+    private TargetTestNode previous;
+
+    public TargetTestNode() {
+    }
+
+    public TargetTestNode(Integer value) {
+        this.value = value;
+    }
+
+    public Integer getValue() {
+        return value;
+    }
+
+    public void setValue(Integer value) {
+        this.value = value;
+    }
+
+    public TargetTestNode getNext() {
+        return next;
+    }
+
+    public void setNext(TargetTestNode next) {
+        this.next = next;
+    }
+
+    public TargetTestNode getPrevious() {
+        return previous;
+    }
+
+    public void setPrevious(TargetTestNode previous) {
+        this.previous = previous;
+    }
+}
@@ -0,0 +1,4 @@
+package org.objectmapper.test.model;
+
+public record TargetTestRecord(Integer id, String name, int count) {
+}
@@ -0,0 +1,83 @@
+package org.objectmapper.test.strategy;
+
+import org.junit.jupiter.api.Test;
+import org.objectmapper.exception.MappingException;
+import org.objectmapper.exception.TargetFieldNotAccessibleException;
+import org.objectmapper.mapper.ObjectMapper;
+import org.objectmapper.mapper.ObjectMapperImpl;
+import org.objectmapper.strategy.FieldAccessMode;
+import org.objectmapper.strategy.FieldWriteInsertionStrategy;
+import org.objectmapper.test.model.SourceTestClass;
+import org.objectmapper.test.model.SourceTestFields;
+import org.objectmapper.test.model.TargetTestFields;
+import org.objectmapper.test.model.TargetTestRecord;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FieldWriteInsertionStrategyTest {
+    private final FieldWriteInsertionStrategy insertionStrategy = new FieldWriteInsertionStrategy();
+
+    @Test
+    public void testInsertValueBypassesSetter() throws NoSuchFieldException {
+        TargetTestFields target = new TargetTestFields();
+
+        insertionStrategy.insertValue("foo", target, TargetTestFields.class.getDeclaredField("name"));
+
+        assertEquals("foo", target.getName());
+        assertEquals(0, target.getSetterCalls());
+    }
+
+    @Test
+    public void testInsertValueWritesFinalAndVolatileFields() throws NoSuchFieldException {
+        TargetTestFields target = new TargetTestFields();
+
+        insertionStrategy.insertValue("A-1", target, TargetTestFields.class.getDeclaredField("code"));
+        new FieldWriteInsertionStrategy(FieldAccessMode.OPAQUE)
+                .insertValue(3, target, TargetTestFields.class.getDeclaredField("version"));
+
+        assertEquals("A-1", target.getCode());
+        assertEquals(3, target.getVersion());
+    }
+
+    @Test
+    public void testInsertValueRejectsRecordFieldsAndNullPrimitives() throws NoSuchFieldException {
+        TargetTestRecord record = new TargetTestRecord(1, "Test1", 2);
+        Field recordField = TargetTestRecord.class.getDeclaredField("name");
+        Field primitiveField = TargetTestFields.class.getDeclaredField("count");
+
+        assertThrows(TargetFieldNotAccessibleException.class,
+                () -> insertionStrategy.insertValue("foo", record, recordField));
+        assertThrows(MappingException.class,
+                () -> insertionStrategy.insertValue(null, new TargetTestFields(), primitiveField));
+    }
+
+    @Test
+    public void testPrepareRejectsExcludedFieldsAndOtherValueTypes() throws NoSuchFieldException {
+        Field excludedField = SourceTestClass.class.getDeclaredField("excludedField");
+        Field countField = TargetTestFields.class.getDeclaredField("count");
+
+        assertThrows(TargetFieldNotAccessibleException.class,
+                () -> insertionStrategy.prepare(SourceTestClass.class, excludedField, String.class));
+        assertThrows(TargetFieldNotAccessibleException.class,
+                () -> insertionStrategy.prepare(TargetTestFields.class, countField, String.class));
+    }
+
+    @Test
+    public void testMapperWritesFieldsWithoutSetters() {
+        ObjectMapper mapper = new ObjectMapperImpl.Builder()
+                .withFieldWriteInsertion(FieldAccessMode.RELEASE)
+                .build();
+
+        TargetTestFields target = mapper.mapObject(new SourceTestFields("B-2", 4, 5_000_000_000L, "bar"),
+                TargetTestFields.class);
+
+        assertEquals("B-2", target.getCode());
+        assertEquals(4, target.getVersion());
+        assertEquals(5_000_000_000L, target.getCount());
+        assertEquals("bar", target.getName());
+        assertEquals(0, target.getSetterCalls());
+    }
+}
@@ -0,0 +1,67 @@
+package org.objectmapper.test.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.objectmapper.annotation.MappingConstructor;
+import org.objectmapper.exception.TargetObjectInstantiationException;
+import org.objectmapper.strategy.ConstructorSelectionStrategy;
+import org.objectmapper.strategy.MappingConstructorSelectionStrategy;
+import org.objectmapper.test.model.ImmutableTargetTestClass;
+import org.objectmapper.test.model.TargetTestClass;
+import org.objectmapper.test.model.TargetTestRecord;
+
+import java.lang.reflect.Constructor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappingConstructorSelectionStrategyTest {
+    private ConstructorSelectionStrategy constructorSelectionStrategy;
+
+    @BeforeEach
+    public void setUp() {
+        constructorSelectionStrategy = new MappingConstructorSelectionStrategy();
+    }
+
+    @Test
+    public void testSelectCanonicalConstructorOfRecord() {
+        Constructor<?> constructor = constructorSelectionStrategy.select(TargetTestRecord.class);
+
+        assertArrayEquals(new Class<?>[]{Integer.class, String.class, int.class}, constructor.getParameterTypes());
+    }
+
+    @Test
+    public void testSelectAnnotatedConstructor() {
+        Constructor<?> constructor = constructorSelectionStrategy.select(ImmutableTargetTestClass.class);
+
+        assertTrue(constructor.isAnnotationPresent(MappingConstructor.class));
+    }
+
+    @Test
+    public void testSelectWithoutMappingConstructor() {
+        assertNull(constructorSelectionStrategy.select(TargetTestClass.class));
+    }
+
+    @Test
+    public void testSelectWithMultipleAnnotatedConstructors() {
+        assertThrows(TargetObjectInstantiationException.class,
+                () -> constructorSelectionStrategy.select(ClassWithTwoMappingConstructors.class));
+    }
+
+    @Test
+    public void testSelectWithNullType() {
+        assertThrows(IllegalArgumentException.class, () -> constructorSelectionStrategy.select(null));
+    }
+
+    private static class ClassWithTwoMappingConstructors {
+        @MappingConstructor
+        ClassWithTwoMappingConstructors(String name) {
+        }
+
+        @MappingConstructor
+        ClassWithTwoMappingConstructors(Integer id) {
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.objectmapper.test.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.objectmapper.exception.TargetObjectInstantiationException;
+import org.objectmapper.strategy.PooledObjectFactory;
+import org.objectmapper.strategy.ResetPolicy;
+import org.objectmapper.strategy.TargetObjectFactory;
+import org.objectmapper.test.model.TargetTestClass;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class PooledObjectFactoryTest {
+    private PooledObjectFactory objectFactory;
+
+    @BeforeEach
+    public void setUp() {
+        objectFactory = new PooledObjectFactory(2);
+    }
+
+    @Test
+    public void testCreateWithEmptyPoolCreatesNewInstance() {
+        assertNotNull(objectFactory.create(TargetTestClass.class));
+        assertEquals(0, objectFactory.getHitCount());
+        assertEquals(1, objectFactory.getMissCount());
+    }
+
+    @Test
+    public void testCreateAfterReleaseReturnsClearedInstance() {
+        TargetTestClass released = new TargetTestClass(1, "Test1", "value");
+        objectFactory.release(released);
+
+        TargetTestClass created = objectFactory.create(TargetTestClass.class);
+
+        assertSame(released, created);
+        assertNull(created.getName());
+        assertEquals(1, objectFactory.getHitCount());
+        assertEquals(0, objectFactory.getMissCount());
+    }
+
+    @Test
+    public void testReleaseIntoFullPoolDropsInstance() {
+        objectFactory.release(new TargetTestClass());
+        objectFactory.release(new TargetTestClass());
+        objectFactory.release(new TargetTestClass());
+
+        objectFactory.create(TargetTestClass.class);
+        objectFactory.create(TargetTestClass.class);
+        objectFactory.create(TargetTestClass.class);
+
+        assertEquals(2, objectFactory.getHitCount());
+        assertEquals(1, objectFactory.getMissCount());
+    }
+
+    @Test
+    public void testCreateDoesNotReturnInstanceOfOtherClass() {
+        objectFactory.release(new TargetTestClass());
+
+        assertNotNull(objectFactory.create(PooledTestClass.class));
+        assertEquals(0, objectFactory.getHitCount());
+        assertEquals(1, objectFactory.getMissCount());
+    }
+
+    @Test
+    public void testReleaseCallsResetPolicy() {
+        ResetPolicy resetPolicy = mock(ResetPolicy.class);
+        PooledObjectFactory factory = new PooledObjectFactory(new TargetObjectFactory(), 2, resetPolicy);
+        TargetTestClass released = new TargetTestClass();
+
+        factory.release(released);
+
+        verify(resetPolicy).reset(released);
+    }
+
+    @Test
+    public void testReleaseClearsPrimitiveAndInheritedFields() {
+        PooledTestClass released = new PooledTestClass();
+        released.count = 5;
+        released.flag = true;
+        released.name = "Test1";
+        objectFactory.release(released);
+
+        PooledTestClass created = objectFactory.create(PooledTestClass.class);
+
+        assertEquals(0, created.count);
+        assertEquals(false, created.flag);
+        assertNull(created.name);
+        assertEquals("constant", created.constant);
+    }
+
+    @Test
+    public void testReleaseClearsFinalContainerFields() {
+        PooledTestClass released = new PooledTestClass();
+        released.tags.add("Test1");
+        released.attributes.put("key", "value");
+        objectFactory.release(released);
+
+        PooledTestClass created = objectFactory.create(PooledTestClass.class);
+
+        assertSame(released, created);
+        assertTrue(created.tags.isEmpty());
+        assertTrue(created.attributes.isEmpty());
+        assertEquals(List.of("unmodifiable"), created.unmodifiableTags);
+    }
+
+    @Test
+    public void testCreateWithAbstractTypeDelegatesError() {
+        assertThrows(TargetObjectInstantiationException.class,
+                () -> objectFactory.create(AbstractTestClass.class));
+    }
+
+    @Test
+    public void testReleaseWithNullInstance() {
+        assertThrows(IllegalArgumentException.class, () -> objectFactory.release(null));
+    }
+
+    @Test
+    public void testCreateWithNullType() {
+        assertThrows(IllegalArgumentException.class, () -> objectFactory.create(null));
+    }
+
+    @Test
+    public void testConstructWithInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledObjectFactory(0));
+    }
+
+    private static class BaseTestClass {
+        String name;
+    }
+
+    private static class PooledTestClass extends BaseTestClass {
+        private final String constant = "constant";
+        private final List<String> tags = new ArrayList<>();
+        private final Map<String, String> attributes = new HashMap<>();
+        private final List<String> unmodifiableTags = List.of("unmodifiable");
+        private int count;
+        private boolean flag;
+    }
+
+    private abstract static class AbstractTestClass {
+    }
+}
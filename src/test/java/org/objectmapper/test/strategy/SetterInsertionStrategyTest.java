@@ -2,16 +2,22 @@ package org.objectmapper.test.strategy;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.objectmapper.exception.MappingException;
 import org.objectmapper.exception.TargetSetterMethodNotFound;
 import org.objectmapper.strategy.SetterInsertionStrategy;
+import org.objectmapper.test.model.PrimitiveTestClass;
 import org.objectmapper.test.model.TargetTestClass;
+import org.objectmapper.test.model.TargetTestContainers;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 import static net.bytebuddy.matcher.ElementMatchers.any;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -36,6 +42,67 @@ public class SetterInsertionStrategyTest {
         assertEquals(sourceValue, targetObject.getName());
     }
 
+    @Test
+    public void testInsertValueFindsSetterByDeclaredFieldType() throws NoSuchFieldException {
+        // Arrange
+        List<Integer> sourceValue = new ArrayList<>(List.of(1, 2));
+        TargetTestContainers targetObject = new TargetTestContainers();
+        Field targetField = targetObject.getClass().getDeclaredField("numbers");
+        // Act
+        setterInsertionStrategy.insertValue(sourceValue, targetObject, targetField);
+        // Assert
+        assertEquals(sourceValue, targetObject.getNumbers());
+    }
+
+    @Test
+    public void testInsertValueFindsPrimitiveSetterOfWrapperValue() throws NoSuchFieldException {
+        // Arrange
+        PrimitiveTestClass targetObject = new PrimitiveTestClass();
+        Field targetField = targetObject.getClass().getDeclaredField("count");
+        // Act
+        setterInsertionStrategy.insertValue(1000, targetObject, targetField);
+        // Assert
+        assertEquals(1000, targetObject.getCount());
+    }
+
+    @Test
+    public void testInsertNullValue() throws NoSuchFieldException {
+        // Arrange
+        TargetTestClass targetObject = new TargetTestClass(1, "foo", null);
+        Field targetField = targetObject.getClass().getDeclaredField("name");
+        // Act
+        setterInsertionStrategy.insertValue(null, targetObject, targetField);
+        // Assert
+        assertNull(targetObject.getName());
+    }
+
+    @Test
+    public void testInsertNullValueIntoPrimitiveField() throws NoSuchFieldException {
+        // Arrange
+        PrimitiveTestClass targetObject = new PrimitiveTestClass();
+        Field targetField = targetObject.getClass().getDeclaredField("count");
+        // Act & Assert
+        assertThrows(MappingException.class,
+                () -> setterInsertionStrategy.insertValue(null, targetObject, targetField));
+    }
+
+    @Test
+    public void testPrepareWhenTargetSetterMethodNotFound() throws NoSuchFieldException {
+        // Arrange
+        Field targetField = TargetTestClass.class.getDeclaredField("fieldWithoutSetter");
+        // Act & Assert
+        assertThrows(TargetSetterMethodNotFound.class,
+                () -> setterInsertionStrategy.prepare(TargetTestClass.class, targetField, String.class));
+    }
+
+    @Test
+    public void testPrepareFindsPrimitiveSetter() throws NoSuchFieldException {
+        // Arrange
+        Field targetField = PrimitiveTestClass.class.getDeclaredField("count");
+        // Act
+        setterInsertionStrategy.prepare(PrimitiveTestClass.class, targetField, int.class);
+    }
+
     @Test
     public void testInsertValueWhenTargetSetterMethodNotFound() throws NoSuchFieldException, InvocationTargetException, IllegalAccessException {
         // Arrange
@@ -11,7 +11,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +35,36 @@ public class TargetObjectFactoryTest {
                 () -> objectFactory.create(TestClassWithoutNoArgsConstructor.class));
     }
     @Test
+    public void testCreateTwiceReturnsNewInstances(){
+        TargetTestClass first = objectFactory.create(TargetTestClass.class);
+        TargetTestClass second = objectFactory.create(TargetTestClass.class);
+        assertNotSame(first, second);
+    }
+    @Test
+    public void testCreateWithPrivateNoArgConstructorInvoked(){
+        assertNotNull(objectFactory.create(TestClassWithOnlyPrivateNoArgConstructor.class));
+    }
+    @Test
+    public void testCreateWithAbstractType(){
+        assertThrows(TargetObjectInstantiationException.class,
+                () -> objectFactory.create(AbstractTestClass.class));
+    }
+    @Test
+    public void testPrepareWithAbstractType(){
+        assertThrows(TargetObjectInstantiationException.class,
+                () -> objectFactory.prepare(AbstractTestClass.class));
+    }
+    @Test
+    public void testPrepareDoesNotInvokeConstructor(){
+        objectFactory.prepare(TestClassWithThrowingConstructor.class);
+    }
+    @Test
+    public void testCreateWithThrowingConstructor(){
+        TargetObjectInstantiationException exception = assertThrows(TargetObjectInstantiationException.class,
+                () -> objectFactory.create(TestClassWithThrowingConstructor.class));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+    @Test
     public void testCreateWithNullType(){
         assertThrows(IllegalArgumentException.class, () -> objectFactory.create(null));
     }
@@ -70,6 +102,17 @@ public class TargetObjectFactoryTest {
             this.field1 = field1;
         }
     }
+    private static class TestClassWithOnlyPrivateNoArgConstructor {
+        private TestClassWithOnlyPrivateNoArgConstructor() {
+        }
+    }
+    private abstract static class AbstractTestClass {
+    }
+    private static class TestClassWithThrowingConstructor {
+        TestClassWithThrowingConstructor() {
+            throw new IllegalStateException("Constructor failed.");
+        }
+    }
     private static class TestClassWithPrivateNoArgConstructor {
         private int id;
 